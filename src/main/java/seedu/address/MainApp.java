@@ -1,17 +1,30 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageBackend;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.DurableFileWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.RecordStore;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -19,16 +32,25 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.EventBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ParticipationBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
-import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReadOnlyParticipationBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.participation.CheckIn;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.CheckInLogStorage;
+import seedu.address.storage.CsvCheckInLogStorage;
+import seedu.address.storage.EmbeddedAddressBookStorage;
+import seedu.address.storage.EmbeddedEventBookStorage;
 import seedu.address.storage.EventBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonEventBookStorage;
+import seedu.address.storage.JsonParticipationBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ParticipationBookStorage;
+import seedu.address.storage.SnapshotManager;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -42,6 +64,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
 
+    private static final int LOADER_THREAD_COUNT = 2;
+    private static final String UNREADABLE_FILE_LABEL = "unreadable";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -49,37 +74,110 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected DurableFileWriter fileWriter;
+    protected SnapshotManager snapshotManager;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing HackLink ]===========================");
         super.init();
 
+        long phaseStart = System.nanoTime();
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        initFileWriter(config);
+        logPhaseTime("Reading config", phaseStart);
 
+        phaseStart = System.nanoTime();
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        EventBookStorage eventBookStorage = new JsonEventBookStorage(userPrefs.getEventBookFilePath());
-        storage = new StorageManager(addressBookStorage, eventBookStorage, userPrefsStorage);
+        logPhaseTime("Reading preferences", phaseStart);
+
+        DataFileFormat dataFileFormat = userPrefs.getDataFileFormat();
+        AddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), true, true, dataFileFormat);
+        EventBookStorage eventBookStorage = new JsonEventBookStorage(userPrefs.getEventBookFilePath(), dataFileFormat);
+        if (userPrefs.getStorageBackend() == StorageBackend.EMBEDDED) {
+            // the books kept in the JSON data files are moved into the stores when they are first read
+            addressBookStorage = new EmbeddedAddressBookStorage(FileUtil.withExtension(
+                    userPrefs.getAddressBookFilePath(), RecordStore.FILE_EXTENSION),
+                    addressBookStorage, true);
+            eventBookStorage = new EmbeddedEventBookStorage(FileUtil.withExtension(
+                    userPrefs.getEventBookFilePath(), RecordStore.FILE_EXTENSION), eventBookStorage);
+        }
+        ParticipationBookStorage participationBookStorage =
+                new JsonParticipationBookStorage(userPrefs.getParticipationBookFilePath(), dataFileFormat);
+        CheckInLogStorage checkInLogStorage = new CsvCheckInLogStorage(userPrefs.getCheckInLogFilePath());
+        storage = new StorageManager(addressBookStorage, eventBookStorage, participationBookStorage, checkInLogStorage,
+                userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // the data is loaded in the background and added to the model once read, so the window can show meanwhile
+        model = new ModelManager(new AddressBook(), new EventBook(), new ParticipationBook(), userPrefs);
 
-        logic = new LogicManager(model, storage);
+        snapshotManager = new SnapshotManager(
+                userPrefs.getAddressBookFilePath().resolveSibling(SnapshotManager.DEFAULT_DIRECTORY_NAME),
+                SnapshotManager.DEFAULT_MAX_SNAPSHOTS, SnapshotManager.DEFAULT_SNAPSHOT_INTERVAL);
+        logic = new LogicManager(model, storage, snapshotManager, Platform::runLater);
+        logic.setLoadingData(true);
 
         ui = new UiManager(logic);
+
+        loadData(storage);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address
-     * book and {@code userPrefs}. <br>
+     * Reads the data from {@code storage} on background threads and adds it to the model on the JavaFX thread.
+     * The address book and the event book are read at the same time, and then the registrations and the check-in
+     * log, which refer to the persons and events read, are read at the same time.
+     * Until the data has been added, the logic rejects commands so that the empty model is not saved over the data.
+     */
+    private void loadData(Storage storage) {
+        long loadStart = System.nanoTime();
+        ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "data-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture<ReadOnlyAddressBook> addressBookRead =
+                CompletableFuture.supplyAsync(() -> readAddressBook(storage), loader);
+        CompletableFuture<ReadOnlyEventBook> eventBookRead =
+                CompletableFuture.supplyAsync(() -> readEventBook(storage), loader);
+        CompletableFuture<ReadOnlyParticipationBook> participationBookRead = addressBookRead.thenCombineAsync(
+                eventBookRead, (addressBook, eventBook) -> readParticipationBook(storage, addressBook, eventBook),
+                loader);
+        CompletableFuture<List<CheckIn>> checkInLogRead = addressBookRead.thenCombineAsync(
+                eventBookRead, (addressBook, eventBook) -> readCheckInLog(storage, addressBook, eventBook), loader);
+
+        CompletableFuture.allOf(participationBookRead, checkInLogRead).thenRunAsync(() -> {
+            long phaseStart = System.nanoTime();
+            model.setAddressBook(addressBookRead.join());
+            model.setEventBook(eventBookRead.join());
+            model.setParticipationBook(participationBookRead.join());
+            model.setCheckIns(checkInLogRead.join());
+            logic.setLoadingData(false);
+            ui.showDataLoaded();
+            logPhaseTime("Showing data", phaseStart);
+            logPhaseTime("Loading data", loadStart);
+        }, Platform::runLater).whenComplete((unused, error) -> {
+            loader.shutdown();
+            if (error != null) {
+                logger.severe("Failed to load data: " + StringUtil.getDetails(error));
+                Platform.exit();
+            }
+        });
+    }
+
+    /**
+     * Returns the address book read from {@code storage}. <br>
      * The data from the sample address book will be used instead if
      * {@code storage}'s address book is not found, or an empty address book will be
      * used instead if errors occur when reading {@code storage}'s address book.
+     * A data file that cannot be read is renamed, so that it is not overwritten when the data is next saved.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readAddressBook(Storage storage) {
+        long phaseStart = System.nanoTime();
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -94,33 +192,128 @@ public class MainApp extends Application {
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty data file.");
+            moveUnreadableFile(storage.getAddressBookFilePath(), storage::moveAddressBookFileAside);
             initialData = new AddressBook();
         }
-        // read only event book
+        logPhaseTime("Reading address book", phaseStart);
+        return initialData;
+    }
+
+    /**
+     * Returns the event book read from {@code storage}, like {@link #readAddressBook(Storage)}.
+     */
+    private ReadOnlyEventBook readEventBook(Storage storage) {
+        long phaseStart = System.nanoTime();
         logger.info("Using data file : " + storage.getEventBookFilePath());
 
         Optional<ReadOnlyEventBook> eventBookOptional;
-        ReadOnlyEventBook initialDataTwo;
+        ReadOnlyEventBook initialData;
         try {
             eventBookOptional = storage.readEventBook();
             if (!eventBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getEventBookFilePath()
                         + " populated with a sample EventBook.");
             }
-            initialDataTwo = eventBookOptional.orElseGet(SampleDataUtil::getSampleEventBook);
+            initialData = eventBookOptional.orElseGet(SampleDataUtil::getSampleEventBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getEventBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty EventBook.");
-            initialDataTwo = new EventBook();
+            moveUnreadableFile(storage.getEventBookFilePath());
+            initialData = new EventBook();
         }
+        logPhaseTime("Reading event book", phaseStart);
+        return initialData;
+    }
+
+    /**
+     * Returns the registrations read from {@code storage}, which refer to the persons of {@code addressBook} and the
+     * events of {@code eventBook}, or no registrations if they cannot be read.
+     */
+    private ReadOnlyParticipationBook readParticipationBook(Storage storage, ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) {
+        long phaseStart = System.nanoTime();
+        logger.info("Using data file : " + storage.getParticipationBookFilePath());
 
-        return new ModelManager(initialData, initialDataTwo, userPrefs);
+        ReadOnlyParticipationBook initialParticipation;
+        try {
+            initialParticipation = storage.readParticipationBook(addressBook, eventBook)
+                    .orElseGet(ParticipationBook::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getParticipationBookFilePath() + " could not be loaded."
+                    + " Will be starting with no registrations.");
+            moveUnreadableFile(storage.getParticipationBookFilePath());
+            initialParticipation = new ParticipationBook();
+        }
+        logPhaseTime("Reading registrations", phaseStart);
+        return initialParticipation;
+    }
+
+    /**
+     * Returns the check-ins read from {@code storage}, which also refer to the persons and events read, or no
+     * check-ins if they cannot be read.
+     */
+    private List<CheckIn> readCheckInLog(Storage storage, ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) {
+        long phaseStart = System.nanoTime();
+        logger.info("Using data file : " + storage.getCheckInLogFilePath());
+
+        List<CheckIn> checkIns = List.of();
+        try {
+            checkIns = storage.readCheckInLog(addressBook, eventBook).orElse(List.of());
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getCheckInLogFilePath() + " could not be loaded."
+                    + " Will be starting with no check-ins.");
+        }
+        logPhaseTime("Reading check-in log", phaseStart);
+        return checkIns;
+    }
+
+    private static void logPhaseTime(String phase, long phaseStartNanos) {
+        logger.info(String.format("Startup phase \"%s\" took %d ms", phase,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStartNanos)));
+    }
+
+    /**
+     * Renames the data file at {@code file}, which could not be read, so that its data can still be recovered.
+     */
+    private void moveUnreadableFile(Path file) {
+        moveUnreadableFile(file, label -> FileUtil.moveAside(file, label));
+    }
+
+    /**
+     * Renames the data file at {@code file}, which could not be read, with {@code mover}, which keeps anything else
+     * the data file needs to be recovered.
+     */
+    private void moveUnreadableFile(Path file, FileMover mover) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            Path movedFile = mover.moveAside(UNREADABLE_FILE_LABEL);
+            logger.warning("The unreadable data file has been kept as " + movedFile);
+        } catch (IOException e) {
+            logger.severe("Failed to keep the unreadable data file " + file + ": " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    /**
+     * Makes data files be flushed to the disk as set by the fsync policy of {@code config}.
+     */
+    private void initFileWriter(Config config) {
+        logger.info("Data files will be flushed to the disk with policy: " + config.getFsyncPolicy());
+        try {
+            fileWriter = new DurableFileWriter(config.getFsyncPolicy(), config.getFsyncInterval());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid fsync interval " + config.getFsyncInterval() + ". Flushing every file instead.");
+            fileWriter = new DurableFileWriter(FsyncPolicy.ALWAYS, config.getFsyncInterval());
+        }
+        FileUtil.setFileWriter(fileWriter);
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -197,7 +390,9 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting HackLink " + MainApp.VERSION);
+        long phaseStart = System.nanoTime();
         ui.start(primaryStage);
+        logPhaseTime("Showing window", phaseStart);
     }
 
     @Override
@@ -208,5 +403,19 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        snapshotManager.close();
+        try {
+            fileWriter.close();
+        } catch (IOException e) {
+            logger.severe("Failed to flush data files to the disk " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Renames a data file like {@link FileUtil#moveAside(Path, String)}.
+     */
+    @FunctionalInterface
+    private interface FileMover {
+        Path moveAside(String label) throws IOException;
     }
 }
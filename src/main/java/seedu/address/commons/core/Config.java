@@ -2,6 +2,7 @@ package seedu.address.commons.core;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.logging.Level;
 
@@ -17,6 +18,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private long fsyncIntervalSeconds = 5;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,25 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Returns the time between flushes of the data folders if the {@code FsyncPolicy} is {@link FsyncPolicy#PERIODIC}.
+     */
+    public Duration getFsyncInterval() {
+        return Duration.ofSeconds(fsyncIntervalSeconds);
+    }
+
+    public void setFsyncInterval(Duration fsyncInterval) {
+        this.fsyncIntervalSeconds = fsyncInterval.getSeconds();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +69,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && fsyncPolicy == otherConfig.fsyncPolicy
+                && fsyncIntervalSeconds == otherConfig.fsyncIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, fsyncPolicy, fsyncIntervalSeconds);
     }
 
     @Override
@@ -60,6 +84,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("fsyncPolicy", fsyncPolicy)
+                .add("fsyncIntervalSeconds", fsyncIntervalSeconds)
                 .toString();
     }
 
@@ -0,0 +1,12 @@
+package seedu.address.commons.core;
+
+/**
+ * How the data files written by the app are encoded.
+ * Data files in either format are read, whichever format is chosen, so the format can be changed at any time.
+ */
+public enum DataFileFormat {
+    /** Indented JSON, which is easy to read and to edit by hand. */
+    JSON,
+    /** JSON without indentation, compressed with gzip, which takes several times less space. */
+    COMPRESSED
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * When the directories of data files written by the app are flushed from the operating system's cache to the disk.
+ * The content of a file is always flushed before it replaces the previous version of the file, but the replacement
+ * itself only survives a crash once the directory is flushed. Flushing less often makes saving faster, but the
+ * changes saved since the last flush may be lost if the computer crashes or loses power.
+ */
+public enum FsyncPolicy {
+    /** The directory is flushed after every file that replaces the previous version of a file. */
+    ALWAYS,
+    /** Directories are flushed when the app exits. */
+    ON_EXIT,
+    /** Directories are flushed at a fixed interval and when the app exits. */
+    PERIODIC
+}
@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * Where the app keeps the address book and the event book.
+ */
+public enum StorageBackend {
+    /** A JSON data file per book, which is rewritten as a whole whenever the book changes. */
+    JSON,
+    /**
+     * An embedded record store per book, with a record per person or event, in which only the persons or events
+     * changed by a command are written, in a single transaction. Books kept in JSON data files are moved into the
+     * stores when they are first read.
+     */
+    EMBEDDED
+}
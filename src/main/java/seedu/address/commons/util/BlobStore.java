@@ -0,0 +1,277 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Keeps texts in a file, each under an id, so that a text is only read into memory when it is needed.
+ * The file is a sequence of records, each made of the id, the length and the UTF-8 bytes of a text. Records are only
+ * ever appended, and an index of the offset of each record is built by reading the record headers when the file is
+ * opened. Texts are read from a memory mapping of the file, and the most recently read ones are cached.
+ * A record cut short by a crash while appending is dropped when the file is opened.
+ */
+public class BlobStore implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(BlobStore.class);
+
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final long NO_OFFSET = -1;
+    private static final int INITIAL_INDEX_CAPACITY = 16;
+
+    private final Path file;
+    private final Map<Integer, String> cache;
+
+    private FileChannel channel;
+    private MappedByteBuffer mapping;
+    private long[] offsets = newOffsets(INITIAL_INDEX_CAPACITY);
+    private long size;
+    private int nextId;
+
+    /**
+     * Opens the store kept in {@code file}, which is created when the first text is added if it does not exist.
+     * At most {@code cacheSize} texts are cached.
+     */
+    public BlobStore(Path file, int cacheSize) throws IOException {
+        requireNonNull(file);
+        checkArgument(cacheSize > 0, "Cache size must be positive.");
+        this.file = file;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        if (Files.exists(file)) {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            readIndex();
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns true if the store has a text with the given {@code id}.
+     */
+    public synchronized boolean contains(int id) {
+        return id >= 0 && id < offsets.length && offsets[id] != NO_OFFSET;
+    }
+
+    /**
+     * Appends {@code text} to the store.
+     *
+     * @return the id of the text.
+     */
+    public synchronized int add(String text) throws IOException {
+        requireNonNull(text);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (size + RECORD_HEADER_SIZE + bytes.length > Integer.MAX_VALUE) {
+            throw new IOException("Blob store " + file + " is full.");
+        }
+        if (channel == null) {
+            FileUtil.createParentDirsOfFile(file);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+
+        int id = nextId;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length);
+        record.putInt(id).putInt(bytes.length).put(bytes).flip();
+        long position = size;
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+
+        putOffset(id, size);
+        size = position;
+        cache.put(id, text);
+        return id;
+    }
+
+    /**
+     * Returns the text with the given {@code id}, reading it from the file if it is not cached.
+     *
+     * @throws IllegalArgumentException if the store has no text with the given {@code id}.
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    public synchronized String get(int id) {
+        checkArgument(contains(id), "No text with id " + id + " in " + file);
+        String text = cache.get(id);
+        if (text != null) {
+            return text;
+        }
+
+        try {
+            if (mapping == null || mapping.capacity() < size) {
+                // texts added since the file was mapped are past the end of the mapping
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer record = mapping.duplicate();
+        record.position((int) offsets[id] + Integer.BYTES);
+        byte[] bytes = new byte[record.getInt()];
+        record.get(bytes);
+        text = new String(bytes, StandardCharsets.UTF_8);
+        cache.put(id, text);
+        return text;
+    }
+
+    /**
+     * Flushes the texts added to the disk.
+     */
+    public synchronized void force() throws IOException {
+        if (channel != null) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Removes the texts whose ids are not in {@code ids} if they take up more than half of the file, keeping the ids
+     * of the other texts. The file is replaced in a single step, so a crash leaves it with all the texts.
+     * Must be called before any text is read, as a file that is mapped cannot be replaced on some platforms.
+     *
+     * @return true if the texts were removed.
+     */
+    public synchronized boolean compact(Set<Integer> ids) throws IOException {
+        requireNonNull(ids);
+        if (mapping != null) {
+            throw new IllegalStateException("Blob store " + file + " cannot be compacted once read.");
+        }
+        long keptSize = 0;
+        for (int id : ids) {
+            if (contains(id)) {
+                keptSize += RECORD_HEADER_SIZE + readInt(offsets[id] + Integer.BYTES);
+            }
+        }
+        if (keptSize * 2 >= size) {
+            return false;
+        }
+
+        Path compactedFile = file.resolveSibling(file.getFileName() + DurableFileWriter.TEMPORARY_FILE_SUFFIX);
+        try {
+            try (FileChannel compacted = FileChannel.open(compactedFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (int id = 0; id < offsets.length; id++) {
+                    if (offsets[id] != NO_OFFSET && ids.contains(id)) {
+                        transfer(offsets[id], RECORD_HEADER_SIZE + readInt(offsets[id] + Integer.BYTES), compacted);
+                    }
+                }
+                compacted.force(true);
+            }
+            channel.close();
+            try {
+                Files.move(compactedFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(compactedFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(compactedFile);
+            if (!channel.isOpen()) {
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+        }
+
+        long oldSize = size;
+        cache.clear();
+        readIndex();
+        logger.info(String.format("Compacted %s from %d to %d bytes", file, oldSize, size));
+        return true;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        mapping = null;
+        cache.clear();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Builds the index of the offsets of the records from their headers, dropping a record at the end of the file
+     * that was cut short.
+     */
+    private void readIndex() throws IOException {
+        offsets = newOffsets(INITIAL_INDEX_CAPACITY);
+        nextId = 0;
+        long fileSize = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        while (position + RECORD_HEADER_SIZE <= fileSize) {
+            header.clear();
+            readFully(header, position);
+            int id = header.getInt(0);
+            int length = header.getInt(Integer.BYTES);
+            if (id < 0 || length < 0 || position + RECORD_HEADER_SIZE + length > fileSize) {
+                break;
+            }
+            putOffset(id, position);
+            position += RECORD_HEADER_SIZE + length;
+        }
+        if (position < fileSize) {
+            logger.warning(String.format("Dropping %d bytes of an incomplete record at the end of %s",
+                    fileSize - position, file));
+            channel.truncate(position);
+        }
+        size = position;
+    }
+
+    private void putOffset(int id, long offset) {
+        if (id >= offsets.length) {
+            long[] grown = newOffsets(Math.max(id + 1, offsets.length * 2));
+            System.arraycopy(offsets, 0, grown, 0, offsets.length);
+            offsets = grown;
+        }
+        offsets[id] = offset;
+        nextId = Math.max(nextId, id + 1);
+    }
+
+    private int readInt(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+        readFully(buffer, position);
+        return buffer.getInt(0);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of " + file);
+            }
+        }
+    }
+
+    private void transfer(long position, long count, FileChannel target) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            transferred += channel.transferTo(position + transferred, count - transferred, target);
+        }
+    }
+
+    private static long[] newOffsets(int capacity) {
+        long[] offsets = new long[capacity];
+        Arrays.fill(offsets, NO_OFFSET);
+        return offsets;
+    }
+}
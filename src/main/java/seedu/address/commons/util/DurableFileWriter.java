@@ -0,0 +1,175 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes files so that a crash while writing never leaves a partly written file behind.
+ * The content is first written to a temporary file in the same directory, which is then renamed over the file. The
+ * rename replaces the file in a single step, so the file always has either its old or its new content.
+ * The temporary file is always flushed to the disk before it is renamed, as the rename could otherwise reach the disk
+ * before the content, which a crash would leave as an empty or partly written file. When the directory is flushed,
+ * which makes the rename itself survive a crash, depends on the {@link FsyncPolicy}.
+ */
+public class DurableFileWriter implements AutoCloseable {
+
+    public static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(DurableFileWriter.class);
+
+    private final FsyncPolicy fsyncPolicy;
+    private final Set<Path> unsyncedDirectories = new LinkedHashSet<>();
+    private final ScheduledExecutorService syncScheduler;
+
+    /**
+     * Creates a writer that flushes the directories of the files as required by {@code fsyncPolicy}.
+     * {@code syncInterval} is the time between flushes if the policy is {@link FsyncPolicy#PERIODIC}, and must then
+     * be positive. It is ignored otherwise.
+     */
+    public DurableFileWriter(FsyncPolicy fsyncPolicy, Duration syncInterval) {
+        requireNonNull(fsyncPolicy);
+        requireNonNull(syncInterval);
+        this.fsyncPolicy = fsyncPolicy;
+
+        if (fsyncPolicy != FsyncPolicy.PERIODIC) {
+            syncScheduler = null;
+            return;
+        }
+        checkArgument(!syncInterval.isNegative() && !syncInterval.isZero(), "Sync interval must be positive.");
+        syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = syncInterval.toMillis();
+        syncScheduler.scheduleWithFixedDelay(this::syncQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    /**
+     * Replaces the content of {@code file} with {@code content}, creating the file if it does not exist yet.
+     */
+    public void write(Path file, byte[] content) throws IOException {
+        requireNonNull(content);
+        write(file, output -> output.write(content));
+    }
+
+    /**
+     * Replaces the content of {@code file} with the content written by {@code content}, creating the file if it does
+     * not exist yet. The content is written to the file as it is produced, so it is never held in memory as a whole.
+     */
+    public synchronized void write(Path file, Content content) throws IOException {
+        requireNonNull(file);
+        requireNonNull(content);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                // the stream is not closed, as that would close the channel before it is flushed to the disk
+                OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                content.writeTo(output);
+                output.flush();
+                channel.force(true);
+            }
+            replace(temporaryFile, file);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            syncDirectory(directory);
+        } else {
+            unsyncedDirectories.add(directory);
+        }
+    }
+
+    /**
+     * Flushes the directories of the files written since the last flush to the disk.
+     */
+    public synchronized void sync() throws IOException {
+        List<Path> directories = new ArrayList<>(unsyncedDirectories);
+        unsyncedDirectories.clear();
+        directories.forEach(DurableFileWriter::syncDirectory);
+    }
+
+    /**
+     * Stops the periodic flushes, if any, and flushes the files written since the last flush.
+     */
+    @Override
+    public void close() throws IOException {
+        if (syncScheduler != null) {
+            syncScheduler.shutdown();
+        }
+        sync();
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException e) {
+            logger.warning("Failed to flush data files to the disk: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.fine("Atomic rename is not supported for " + target + ", replacing it non-atomically.");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the entries of {@code directory}, so that a file renamed into it is still there after a crash.
+     * Directories cannot be opened on some platforms, such as Windows, where the rename is flushed with the file.
+     */
+    static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not flush directory " + directory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface Content {
+        /**
+         * Writes the content to {@code output}, without closing it.
+         */
+        void writeTo(OutputStream output) throws IOException;
+    }
+}
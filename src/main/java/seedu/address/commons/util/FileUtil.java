@@ -5,6 +5,9 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+
+import seedu.address.commons.core.FsyncPolicy;
 
 /**
  * Writes and reads files
@@ -13,6 +16,16 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    private static DurableFileWriter fileWriter = new DurableFileWriter(FsyncPolicy.ALWAYS, Duration.ZERO);
+
+    /**
+     * Sets the writer used by {@link #writeToFile(Path, String)}, which decides when the renames of written files are
+     * flushed.
+     */
+    public static void setFileWriter(DurableFileWriter fileWriter) {
+        FileUtil.fileWriter = fileWriter;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -88,9 +101,49 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced in a single step, so a crash while writing leaves the file with its previous content.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes the given bytes to a file, like {@link #writeToFile(Path, String)}.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        fileWriter.write(file, content);
+    }
+
+    /**
+     * Writes the content written by {@code content} to a file as it is produced.
+     *
+     * @see #writeToFile(Path, String)
+     */
+    public static void writeToFile(Path file, DurableFileWriter.Content content) throws IOException {
+        fileWriter.write(file, content);
+    }
+
+    /**
+     * Renames {@code file} to a file in the same directory whose name is the name of {@code file} followed by
+     * {@code label} and the current time, so that a file that cannot be read is kept instead of being overwritten.
+     *
+     * @return the path of the renamed file.
+     */
+    public static Path moveAside(Path file, String label) throws IOException {
+        Path renamedFile = file.resolveSibling(file.getFileName() + "." + label + "-" + System.currentTimeMillis());
+        return Files.move(file, renamedFile);
+    }
+
+    /**
+     * Returns the path of a file in the same directory as {@code file} whose name is the name of {@code file} with
+     * its extension, if any, replaced by {@code extension}, e.g. {@code data/addressbook.db} for
+     * {@code data/addressbook.json} and the extension {@code .db}.
+     */
+    public static Path withExtension(Path file, String extension) {
+        String name = file.getFileName().toString();
+        int extensionStart = name.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? name.substring(0, extensionStart) : name;
+        return file.resolveSibling(baseName + extension);
     }
 
     /**
@@ -2,12 +2,23 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
@@ -15,16 +26,21 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 
 /**
- * Converts a Java object instance to JSON and vice versa
+ * Converts a Java object instance to JSON and vice versa.
+ * JSON can be written in any {@link DataFileFormat}, and JSON compressed with gzip is recognised when it is read.
+ * The readers and writers of each class are created once and reused, and files are read and written as streams.
  */
 public class JsonUtil {
 
@@ -39,13 +55,24 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> prettyWriters = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> compactWriters = new ConcurrentHashMap<>();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, DataFileFormat.JSON);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, DataFileFormat format)
+            throws IOException {
+        FileUtil.writeToFile(jsonFile, output -> saveJsonFile(objectToSerialize, output, format));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream input = Files.newInputStream(jsonFile)) {
+            return readJsonFile(input, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -77,6 +104,27 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the JSON object read from {@code input}, which may be compressed with gzip.
+     * The JSON is parsed as it is read, without reading it into a string first. {@code input} is not closed.
+     *
+     * @param classOfObjectToDeserialize JSON data has to correspond to the structure in the class given here.
+     * @throws IOException if reading or parsing the JSON data failed.
+     */
+    public static <T> T readJsonFile(InputStream input, Class<T> classOfObjectToDeserialize) throws IOException {
+        requireNonNull(input);
+        requireNonNull(classOfObjectToDeserialize);
+
+        InputStream buffered = new BufferedInputStream(nonClosing(input));
+        ObjectReader reader = readers.computeIfAbsent(classOfObjectToDeserialize, objectMapper::readerFor);
+        if (!isCompressed(buffered)) {
+            return reader.readValue(buffered);
+        }
+        try (InputStream gzip = new GZIPInputStream(buffered)) {
+            return reader.readValue(gzip);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -85,12 +133,42 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, DataFileFormat.JSON);
+    }
+
+    /**
+     * Saves the Json object to the specified file in the given {@code format}.
+     *
+     * @see #saveJsonFile(Object, Path)
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, DataFileFormat format) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
+        requireNonNull(format);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, format);
     }
 
+    /**
+     * Writes the Json object to {@code output} in the given {@code format}.
+     * The JSON is written as it is generated, through the compressor if it is compressed, without building a string
+     * first. {@code output} is flushed but not closed.
+     *
+     * @throws IOException if there was an error during writing to the stream
+     */
+    public static <T> void saveJsonFile(T jsonFile, OutputStream output, DataFileFormat format) throws IOException {
+        requireNonNull(jsonFile);
+        requireNonNull(output);
+        requireNonNull(format);
+
+        if (format == DataFileFormat.JSON) {
+            getWriter(jsonFile.getClass(), format).writeValue(nonClosing(output), jsonFile);
+            return;
+        }
+        try (OutputStream gzip = new GZIPOutputStream(nonClosing(output))) {
+            getWriter(jsonFile.getClass(), format).writeValue(gzip, jsonFile);
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -98,7 +176,7 @@ public class JsonUtil {
      * @return The instance of T with the specified values in the JSON string
      */
     public static <T> T fromJsonString(String json, Class<T> instanceClass) throws IOException {
-        return objectMapper.readValue(json, instanceClass);
+        return readers.computeIfAbsent(instanceClass, objectMapper::readerFor).readValue(json);
     }
 
     /**
@@ -108,7 +186,83 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return getWriter(instance.getClass(), DataFileFormat.JSON).writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data representation in the given {@code format}.
+     */
+    public static <T> byte[] toJsonBytes(T instance, DataFileFormat format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        saveJsonFile(instance, bytes, format);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Converts a given instance of a class into JSON without indentation or compression, which suits small records
+     * such as those of a {@link RecordStore}.
+     */
+    public static <T> byte[] toCompactJsonBytes(T instance) throws IOException {
+        return getWriter(instance.getClass(), DataFileFormat.COMPRESSED).writeValueAsBytes(instance);
+    }
+
+    /**
+     * Converts the given JSON data, which may be compressed with gzip, to an instance of a class.
+     */
+    public static <T> T fromJsonBytes(byte[] json, Class<T> instanceClass) throws IOException {
+        return readJsonFile(new ByteArrayInputStream(json), instanceClass);
+    }
+
+    /**
+     * Returns the writer of instances of {@code type} in {@code format}, which is created once per class as creating
+     * it resolves the serializers of the class.
+     */
+    private static ObjectWriter getWriter(Class<?> type, DataFileFormat format) {
+        if (format == DataFileFormat.JSON) {
+            return prettyWriters.computeIfAbsent(type, unused -> objectMapper.writerFor(type)
+                    .withDefaultPrettyPrinter());
+        }
+        return compactWriters.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * Returns true if {@code input} starts with the header of gzip data, which JSON text never starts with.
+     * {@code input} must support {@link InputStream#mark(int)}, and is left at its start.
+     */
+    private static boolean isCompressed(InputStream input) throws IOException {
+        input.mark(2);
+        int first = input.read();
+        int second = input.read();
+        input.reset();
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    /**
+     * Returns a view of {@code input} that is not closed when the view is closed, as Jackson closes the streams it
+     * reads by default.
+     */
+    private static InputStream nonClosing(InputStream input) {
+        return new FilterInputStream(input) {
+            @Override
+            public void close() {}
+        };
+    }
+
+    /**
+     * Returns a view of {@code output} that is flushed instead of closed when the view is closed.
+     */
+    private static OutputStream nonClosing(OutputStream output) {
+        return new FilterOutputStream(output) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
     }
 
     /**
@@ -0,0 +1,380 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Keeps records in a file, each made of a value under a string key, and changes them in transactions.
+ * The file is a log of transactions, each made of its length, a checksum and a sequence of operations that put a
+ * value under a key or delete a key. Transactions are only ever appended, and each is flushed to the disk before it
+ * is committed, so a crash leaves every record as it was either before or after a transaction. An index of where the
+ * latest value of each key is in the file is built by replaying the log when the file is opened, and a transaction
+ * cut short or damaged by a crash is dropped then.
+ * Once most of the file is taken up by values that were replaced or deleted, the file is rewritten with only the
+ * latest values.
+ * Unlike the files written by {@link DurableFileWriter}, each transaction is flushed whatever the {@code FsyncPolicy}.
+ * A transaction only holds the records that changed, so flushing it costs little, and a store is written by every
+ * command that changes its records, whose changes would otherwise be lost all at once by a crash.
+ */
+public class RecordStore implements AutoCloseable {
+
+    public static final String FILE_EXTENSION = ".db";
+
+    private static final Logger logger = LogsCenter.getLogger(RecordStore.class);
+
+    private static final int TRANSACTION_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final byte OPERATION_PUT = 1;
+    private static final byte OPERATION_DELETE = 2;
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final NavigableMap<String, Location> index = new TreeMap<>();
+
+    private FileChannel channel;
+    private long size;
+    private long liveSize;
+
+    /**
+     * Opens the store kept in {@code file}, which is created when the first transaction is committed if it does not
+     * exist.
+     */
+    public RecordStore(Path file) throws IOException {
+        requireNonNull(file);
+        this.file = file;
+        if (Files.exists(file)) {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            readLog();
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns true if the store has a record with the given {@code key}.
+     */
+    public synchronized boolean contains(String key) {
+        requireNonNull(key);
+        return index.containsKey(key);
+    }
+
+    /**
+     * Returns the keys of the records whose keys start with {@code prefix}, in the order of the keys.
+     */
+    public synchronized List<String> getKeys(String prefix) {
+        requireNonNull(prefix);
+        return new ArrayList<>(index.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet());
+    }
+
+    /**
+     * Returns the value of the record with the given {@code key}, read from the file, or an empty {@code Optional}
+     * if the store has no such record.
+     */
+    public synchronized Optional<byte[]> get(String key) throws IOException {
+        requireNonNull(key);
+        Location location = index.get(key);
+        if (location == null) {
+            return Optional.empty();
+        }
+        ByteBuffer value = ByteBuffer.allocate(location.length);
+        readFully(value, location.position);
+        return Optional.of(value.array());
+    }
+
+    /**
+     * Returns a new transaction, whose changes are only made to the store once it is committed.
+     */
+    public Transaction beginTransaction() {
+        return new Transaction();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        index.clear();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Appends the transaction made of the operations in {@code body} to the file, flushes it to the disk and applies
+     * it to the index.
+     */
+    private synchronized void commit(byte[] body) throws IOException {
+        if (channel == null) {
+            FileUtil.createParentDirsOfFile(file);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+
+        ByteBuffer transaction = ByteBuffer.allocate(TRANSACTION_HEADER_SIZE + body.length);
+        transaction.putInt(body.length).putInt(checksum(body)).put(body).flip();
+        long position = size;
+        try {
+            while (transaction.hasRemaining()) {
+                position += channel.write(transaction, position);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            // the transaction is dropped when the file is next opened anyway, but later ones must not follow it
+            channel.truncate(size);
+            throw e;
+        }
+
+        apply(ByteBuffer.wrap(body), size + TRANSACTION_HEADER_SIZE);
+        size = position;
+        if (size >= MIN_COMPACTION_SIZE && liveSize * 2 < size) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // the transaction is already on the disk, so it is committed even if the file cannot be compacted
+                logger.warning("Failed to compact " + file + ": " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Builds the index by replaying the transactions in the file, dropping the transactions from the first one that
+     * was cut short or damaged onwards.
+     */
+    private void readLog() throws IOException {
+        index.clear();
+        liveSize = 0;
+        long fileSize = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(TRANSACTION_HEADER_SIZE);
+        while (position + TRANSACTION_HEADER_SIZE <= fileSize) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            if (length < 0 || position + TRANSACTION_HEADER_SIZE + length > fileSize) {
+                break;
+            }
+            ByteBuffer body = ByteBuffer.allocate(length);
+            readFully(body, position + TRANSACTION_HEADER_SIZE);
+            if (checksum(body.array()) != header.getInt(Integer.BYTES)) {
+                break;
+            }
+            body.flip();
+            apply(body, position + TRANSACTION_HEADER_SIZE);
+            position += TRANSACTION_HEADER_SIZE + length;
+        }
+        if (position < fileSize) {
+            logger.warning(String.format("Dropping %d bytes of an incomplete transaction at the end of %s",
+                    fileSize - position, file));
+            channel.truncate(position);
+        }
+        size = position;
+    }
+
+    /**
+     * Applies the operations in {@code body}, which starts at {@code bodyPosition} in the file, to the index.
+     */
+    private void apply(ByteBuffer body, long bodyPosition) {
+        while (body.hasRemaining()) {
+            int start = body.position();
+            byte operation = body.get();
+            byte[] keyBytes = new byte[body.getInt()];
+            body.get(keyBytes);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+
+            Location removed;
+            if (operation == OPERATION_PUT) {
+                int length = body.getInt();
+                long position = bodyPosition + body.position();
+                body.position(body.position() + length);
+                Location location = new Location(position, length, body.position() - start);
+                liveSize += location.recordSize;
+                removed = index.put(key, location);
+            } else {
+                removed = index.remove(key);
+            }
+            if (removed != null) {
+                liveSize -= removed.recordSize;
+            }
+        }
+    }
+
+    /**
+     * Rewrites the file with only the latest value of each key, each in a transaction of its own. The file is
+     * replaced in a single step, so a crash leaves it with all the records.
+     */
+    private void compact() throws IOException {
+        Path compactedFile = file.resolveSibling(file.getFileName() + DurableFileWriter.TEMPORARY_FILE_SUFFIX);
+        try {
+            try (FileChannel compacted = FileChannel.open(compactedFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                // the stream is not closed, as that would close the channel before it is flushed to the disk
+                OutputStream output = new BufferedOutputStream(Channels.newOutputStream(compacted), BUFFER_SIZE);
+                for (Map.Entry<String, Location> entry : index.entrySet()) {
+                    Transaction transaction = new Transaction();
+                    transaction.put(entry.getKey(), get(entry.getKey()).orElseThrow());
+                    byte[] body = transaction.body.toByteArray();
+                    ByteBuffer header = ByteBuffer.allocate(TRANSACTION_HEADER_SIZE);
+                    header.putInt(body.length).putInt(checksum(body));
+                    output.write(header.array());
+                    output.write(body);
+                }
+                output.flush();
+                compacted.force(true);
+            }
+            channel.close();
+            try {
+                Files.move(compactedFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(compactedFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            // later transactions are appended to the compacted file, so the rename must not be lost by a crash
+            DurableFileWriter.syncDirectory(file.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(compactedFile);
+            if (!channel.isOpen()) {
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+        }
+
+        long oldSize = size;
+        readLog();
+        logger.info(String.format("Compacted %s from %d to %d bytes", file, oldSize, size));
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of " + file);
+            }
+        }
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Where the value of a record is in the file.
+     */
+    private static class Location {
+        private final long position;
+        private final int length;
+        /** The size of the whole operation that put the value, which is freed once the value is replaced. */
+        private final int recordSize;
+
+        private Location(long position, int length, int recordSize) {
+            this.position = position;
+            this.length = length;
+            this.recordSize = recordSize;
+        }
+    }
+
+    /**
+     * A set of changes to the records of the store, which are made together when the transaction is committed.
+     * Changes are made in the order they were added, so a later change to a key replaces an earlier one.
+     */
+    public class Transaction {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final DataOutputStream output = new DataOutputStream(body);
+        private final List<Runnable> commitActions = new ArrayList<>();
+        private boolean isCommitted;
+
+        private Transaction() {}
+
+        /**
+         * Puts {@code value} under {@code key}, replacing the value already under {@code key}, if any.
+         */
+        public Transaction put(String key, byte[] value) {
+            requireNonNull(value);
+            writeOperation(OPERATION_PUT, key);
+            try {
+                output.writeInt(value.length);
+                output.write(value);
+            } catch (IOException e) {
+                throw new AssertionError("Writing to memory cannot fail.", e);
+            }
+            return this;
+        }
+
+        /**
+         * Deletes the record with the given {@code key}, if any.
+         */
+        public Transaction delete(String key) {
+            writeOperation(OPERATION_DELETE, key);
+            return this;
+        }
+
+        /**
+         * Runs {@code action} once the transaction has been committed, which is never if committing it fails.
+         */
+        public Transaction onCommit(Runnable action) {
+            requireNonNull(action);
+            commitActions.add(action);
+            return this;
+        }
+
+        /**
+         * Returns true if no change has been added to the transaction.
+         */
+        public boolean isEmpty() {
+            return body.size() == 0;
+        }
+
+        /**
+         * Makes the changes of the transaction to the store, once they have been flushed to the disk.
+         * A transaction without changes is not written to the file.
+         *
+         * @throws IllegalStateException if the transaction has already been committed.
+         */
+        public void commit() throws IOException {
+            if (isCommitted) {
+                throw new IllegalStateException("Transaction has already been committed.");
+            }
+            isCommitted = true;
+            if (!isEmpty()) {
+                RecordStore.this.commit(body.toByteArray());
+            }
+            commitActions.forEach(Runnable::run);
+        }
+
+        private void writeOperation(byte operation, String key) {
+            requireNonNull(key);
+            if (isCommitted) {
+                throw new IllegalStateException("Transaction has already been committed.");
+            }
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            try {
+                output.writeByte(operation);
+                output.writeInt(keyBytes.length);
+                output.write(keyBytes);
+            } catch (IOException e) {
+                throw new AssertionError("Writing to memory cannot fail.", e);
+            }
+        }
+    }
+}
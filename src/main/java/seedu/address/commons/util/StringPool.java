@@ -0,0 +1,32 @@
+package seedu.address.commons.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deduplicates equal strings, so that the repeated values read from a file share one {@code String}.
+ * Unlike {@link String#intern()}, the pool is released together with its owner, e.g. once a file has been loaded.
+ */
+public class StringPool {
+
+    private final Map<String, String> strings = new HashMap<>();
+
+    /**
+     * Returns the pooled string equal to {@code string}, pooling {@code string} if there is none.
+     * Returns null if {@code string} is null.
+     */
+    public String intern(String string) {
+        if (string == null) {
+            return null;
+        }
+        String pooled = strings.putIfAbsent(string, string);
+        return pooled == null ? string : pooled;
+    }
+
+    /**
+     * Returns the number of distinct strings in the pool.
+     */
+    public int size() {
+        return strings.size();
+    }
+}
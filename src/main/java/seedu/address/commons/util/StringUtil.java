@@ -38,6 +38,92 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if {@code first} can be turned into {@code second} with at most {@code maxDistance} insertions,
+     * deletions or substitutions of characters (the Levenshtein distance). Case sensitive.
+     * Only the band of the edit distance table within {@code maxDistance} of its diagonal is computed, and the
+     * computation stops as soon as every entry of a row exceeds {@code maxDistance}.
+     *   <br>examples:<pre>
+     *       isWithinEditDistance("alice", "alcie", 2) == true // two substitutions
+     *       isWithinEditDistance("alice", "alce", 1) == true // one deletion
+     *       isWithinEditDistance("alice", "bob", 2) == false
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        if (maxDistance < 0 || Math.abs(first.length() - second.length()) > maxDistance) {
+            return false;
+        }
+
+        int outOfBand = maxDistance + 1;
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, outOfBand);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(second.length(), i + maxDistance);
+            current[0] = Math.min(i, outOfBand);
+            if (from > 1) {
+                current[from - 1] = outOfBand;
+            }
+            int rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int distance = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(distance, outOfBand);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = outOfBand;
+            }
+            if (rowMin > maxDistance) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()] <= maxDistance;
+    }
+
+    /**
+     * Returns the least number of insertions, deletions or substitutions of characters that turn {@code first} into
+     * {@code second} (the Levenshtein distance). Case sensitive.
+     *   <br>examples:<pre>
+     *       editDistance("alice", "alice") == 0
+     *       editDistance("alice", "alcie") == 2 // two substitutions
+     *       editDistance("kitten", "sitting") == 3
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
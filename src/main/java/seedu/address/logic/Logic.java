@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -13,6 +15,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 
 /**
  * API of the Logic component
@@ -28,6 +31,57 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
     EventCommandResult executeEvent(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Checks in the contact with the given email or phone number at the event whose check-in is in progress.
+     * @param emailOrPhone The email or phone number as entered by the user.
+     * @return the result of the check-in.
+     * @throws CommandException If the contact cannot be checked in.
+     */
+    EventCommandResult checkIn(String emailOrPhone) throws CommandException;
+
+    /**
+     * Ends the check-in in progress.
+     * @return the result, with the final attendance counts.
+     */
+    EventCommandResult endCheckIn();
+
+    /**
+     * Previews the effect of a partially typed command on the person list.
+     * A {@code find} command filters the list to persons with a word starting with any of its keywords; any other
+     * input restores the list shown before the preview started.
+     * @param commandText The command as typed so far by the user.
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Returns the ways to complete a partially typed command that takes the index of a person, most likely first.
+     * The last word of {@code commandText} is taken as the start of a person's name, name word or email, and each
+     * completion replaces it with the displayed index of a matching person. If a matching person is not displayed,
+     * the person list is first reset to show all persons.
+     * A person whose completion is later executed as part of a command is suggested earlier afterwards.
+     * @param commandText The command as typed so far by the user.
+     * @return the completed command texts, or an empty list if the command cannot be completed.
+     */
+    List<String> completeCommand(String commandText);
+
+    /**
+     * Sets the handler of the feedback of commands that finish after they return, such as restoring a snapshot.
+     * The handler is called on the thread that updates the model.
+     * @param feedbackHandler The handler of the feedback to the user.
+     */
+    void setDeferredFeedbackHandler(Consumer<String> feedbackHandler);
+
+    /**
+     * Sets whether the data is still being loaded into the model. While it is, commands are rejected so that the
+     * incomplete data is not saved over the data files.
+     */
+    void setLoadingData(boolean isLoadingData);
+
+    /**
+     * Returns true if the data is still being loaded into the model.
+     */
+    boolean isLoadingData();
+
     /**
      * Returns the AddressBook.
      *
@@ -35,6 +89,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of persons in each category and in each group.
+     *
+     * @see seedu.address.model.Model#getPersonStatistics()
+     */
+    PersonStatistics getPersonStatistics();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
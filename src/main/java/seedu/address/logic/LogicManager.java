@@ -3,26 +3,53 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CheckInArrivalCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommentCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EndCheckInCommand;
 import seedu.address.logic.commands.EventCommand;
 import seedu.address.logic.commands.EventCommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GroupCommand;
+import seedu.address.logic.commands.LinkCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.inputhistory.UserInputHistory;
 import seedu.address.logic.inputhistory.UserInputHistoryManager;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.EventBookParser;
+import seedu.address.logic.parser.alias.DeleteAlias;
+import seedu.address.logic.parser.alias.EditAlias;
+import seedu.address.logic.parser.alias.FindAlias;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.participation.CheckIn;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.storage.Snapshot;
+import seedu.address.storage.SnapshotManager;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,22 +61,52 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_LOADING_DATA = "The data is still being loaded. Please try again in a moment.";
+
+    /** The maximum number of completions offered for a partially typed command. */
+    public static final int MAX_COMPLETIONS = 5;
+
+    /** Words of the commands whose first parameter is the index of a person. */
+    private static final Set<String> PERSON_INDEX_COMMAND_WORDS = Set.of(EditCommand.COMMAND_WORD,
+            EditAlias.ALIAS_WORD, DeleteCommand.COMMAND_WORD, DeleteAlias.ALIAS_WORD, CommentCommand.COMMAND_WORD,
+            ViewCommand.COMMAND_WORD, GroupCommand.COMMAND_WORD, LinkCommand.COMMAND_WORD);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final SnapshotManager snapshotManager;
+    private final Executor modelExecutor;
     private final AddressBookParser addressBookParser;
     private final EventBookParser eventBookParser;
     private final UserInputHistory<String> userInputHistory;
+    private final Map<String, Person> offeredCompletions = new HashMap<>();
+    private Consumer<String> deferredFeedbackHandler = feedback -> {};
+    private boolean isLoadingData;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which keeps snapshots next
+     * to the address book file and updates the model with restored snapshots on the thread that reads them.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new SnapshotManager(
+                storage.getAddressBookFilePath().resolveSibling(SnapshotManager.DEFAULT_DIRECTORY_NAME),
+                SnapshotManager.DEFAULT_MAX_SNAPSHOTS, SnapshotManager.DEFAULT_SNAPSHOT_INTERVAL), Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code SnapshotManager}.
+     * The model is updated with restored snapshots by {@code modelExecutor}, which must run its tasks on the thread
+     * that executes the commands.
+     */
+    public LogicManager(Model model, Storage storage, SnapshotManager snapshotManager, Executor modelExecutor) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
-        eventBookParser = new EventBookParser();
+        this.snapshotManager = snapshotManager;
+        this.modelExecutor = modelExecutor;
+        boolean isAutoCorrecting = model.getUserPrefs().isAutoCorrectCommands();
+        addressBookParser = new AddressBookParser(isAutoCorrecting);
+        eventBookParser = new EventBookParser(isAutoCorrecting);
         userInputHistory = new UserInputHistoryManager();
     }
 
@@ -57,17 +114,31 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        checkDataLoaded();
+        List<Person> completedPersons = takeCompletedPersons(commandText);
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (command.isDestructive()) {
+            takeSnapshot(commandText);
+        }
         commandResult = command.execute(model);
+        // only a command that succeeded counts as a use of the persons completed in it
+        completedPersons.forEach(model::recordPersonUse);
+        if (commandResult.getSnapshotRequest().isPresent()) {
+            // the data is only changed once the snapshots have been read, and is saved then
+            handleSnapshotRequest(commandResult.getSnapshotRequest().get());
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
+            storage.saveParticipationBook(model.getParticipationBook());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        snapshotManager.takeSnapshotIfDue(model.getAddressBook(), model.getEventBook());
 
         return commandResult;
     }
@@ -75,12 +146,127 @@ public class LogicManager implements Logic {
     public EventCommandResult executeEvent(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        checkDataLoaded();
         EventCommandResult eventCommandResult;
         EventCommand command = eventBookParser.parseCommand(commandText);
+        if (command.isDestructive()) {
+            takeSnapshot(commandText);
+        }
         eventCommandResult = command.execute(model);
 
         try {
             storage.saveEventBook(model.getEventBook());
+            storage.saveParticipationBook(model.getParticipationBook());
+        } catch (AccessDeniedException e) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        snapshotManager.takeSnapshotIfDue(model.getAddressBook(), model.getEventBook());
+
+        return eventCommandResult;
+    }
+
+    private void checkDataLoaded() throws CommandException {
+        if (isLoadingData) {
+            throw new CommandException(MESSAGE_LOADING_DATA);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the data before the destructive command {@code commandText} is executed.
+     * The snapshot is named after the command word.
+     */
+    private void takeSnapshot(String commandText) {
+        String commandWord = commandText.trim().split("\\s+")[0].toLowerCase().replaceAll("[^a-z]", "");
+        snapshotManager.takeSnapshot(model.getAddressBook(), model.getEventBook(),
+                commandWord.isEmpty() ? RestoreCommand.COMMAND_WORD : commandWord);
+    }
+
+    /**
+     * Starts listing the snapshots on a background thread. Once listed, the snapshots are shown or the snapshot
+     * selected by {@code request} is read, both on the model's thread, and the outcome is passed to the deferred
+     * feedback handler.
+     */
+    private void handleSnapshotRequest(RestoreCommand request) {
+        snapshotManager.listSnapshots().whenCompleteAsync((snapshots, error) -> {
+            if (error != null) {
+                deferredFeedbackHandler.accept(String.format(RestoreCommand.MESSAGE_LIST_FAILED,
+                        getCause(error).getMessage()));
+                return;
+            }
+            try {
+                Optional<Snapshot> selectedSnapshot = request.selectSnapshot(snapshots);
+                if (selectedSnapshot.isEmpty()) {
+                    deferredFeedbackHandler.accept(RestoreCommand.listSnapshots(snapshots));
+                } else {
+                    restoreSnapshot(selectedSnapshot.get());
+                }
+            } catch (CommandException e) {
+                deferredFeedbackHandler.accept(e.getMessage());
+            }
+        }, modelExecutor);
+    }
+
+    /**
+     * Starts reading {@code snapshot} on a background thread. Once read, the snapshot replaces the data on the model's
+     * thread, after a snapshot of the replaced data is taken, and the outcome is passed to the deferred feedback
+     * handler.
+     */
+    private void restoreSnapshot(Snapshot snapshot) {
+        snapshotManager.readSnapshot(snapshot).whenCompleteAsync((contents, error) -> {
+            if (error != null) {
+                deferredFeedbackHandler.accept(String.format(RestoreCommand.MESSAGE_RESTORE_FAILED,
+                        snapshot.getDescription(), getCause(error).getMessage()));
+                return;
+            }
+            deferredFeedbackHandler.accept(applySnapshot(snapshot, contents));
+        }, modelExecutor);
+    }
+
+    /**
+     * Returns the exception that made a future complete exceptionally with {@code error}.
+     */
+    private static Throwable getCause(Throwable error) {
+        return error.getCause() == null ? error : error.getCause();
+    }
+
+    /**
+     * Replaces the data with the {@code contents} read from {@code snapshot} and saves it.
+     * The commands done before cannot be undone afterwards, as they refer to the persons that were replaced.
+     *
+     * @return the feedback to the user.
+     */
+    private String applySnapshot(Snapshot snapshot, SnapshotManager.Contents contents) {
+        logger.info("----------------[RESTORE][" + snapshot.getFile() + "]");
+        snapshotManager.takeSnapshot(model.getAddressBook(), model.getEventBook(), RestoreCommand.COMMAND_WORD);
+        model.setAddressBook(contents.getAddressBook());
+        model.setEventBook(contents.getEventBook());
+        model.clearCommandHistory();
+
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+            storage.saveEventBook(model.getEventBook());
+            storage.saveParticipationBook(model.getParticipationBook());
+        } catch (AccessDeniedException e) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        } catch (IOException ioe) {
+            return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(RestoreCommand.MESSAGE_RESTORED, snapshot.getDescription());
+    }
+
+    @Override
+    public EventCommandResult checkIn(String emailOrPhone) throws CommandException {
+        logger.info("----------------[CHECK-IN][" + emailOrPhone + "]");
+        checkDataLoaded();
+
+        int loggedCheckIns = model.getCheckIns().size();
+        EventCommandResult eventCommandResult = new CheckInArrivalCommand(emailOrPhone).execute(model);
+
+        try {
+            List<CheckIn> checkIns = model.getCheckIns();
+            storage.appendCheckIns(checkIns.subList(loggedCheckIns, checkIns.size()));
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -90,11 +276,105 @@ public class LogicManager implements Logic {
         return eventCommandResult;
     }
 
+    @Override
+    public EventCommandResult endCheckIn() {
+        return new EndCheckInCommand().execute(model);
+    }
+
+    @Override
+    public void previewCommand(String commandText) {
+        List<String> words = Arrays.asList(commandText.trim().split("\\s+"));
+        String commandWord = words.get(0);
+        boolean isFind = commandWord.equals(FindCommand.COMMAND_WORD) || commandWord.equals(FindAlias.ALIAS_WORD);
+
+        if (!isFind || words.size() < 2) {
+            model.clearFilteredPersonListPreview();
+            return;
+        }
+        model.previewFilteredPersonList(words.subList(1, words.size()));
+    }
+
+    @Override
+    public List<String> completeCommand(String commandText) {
+        offeredCompletions.clear();
+        int lastSpace = commandText.lastIndexOf(' ');
+        String prefix = commandText.substring(lastSpace + 1);
+        if (lastSpace < 0 || prefix.isEmpty() || StringUtil.isNonZeroUnsignedInteger(prefix)) {
+            return List.of();
+        }
+        String head = commandText.substring(0, lastSpace).trim();
+        List<String> headWords = Arrays.asList(head.split("\\s+"));
+        if (!PERSON_INDEX_COMMAND_WORDS.contains(headWords.get(0)) || !isIndexPosition(headWords)) {
+            return List.of();
+        }
+
+        List<Person> matches = model.findPersonsByPrefix(prefix, MAX_COMPLETIONS);
+        if (!model.getFilteredPersonList().containsAll(matches)) {
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        }
+        List<String> completions = new ArrayList<>();
+        for (Person person : matches) {
+            int displayedIndex = model.getFilteredPersonList().indexOf(person) + 1;
+            String completion = head + " " + displayedIndex + " ";
+            completions.add(completion);
+            offeredCompletions.put(completion, person);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns true if the word after {@code headWords} is where a person's index goes: right after the command
+     * word, or after any number of indexes for the {@code link} command.
+     */
+    private static boolean isIndexPosition(List<String> headWords) {
+        if (headWords.size() == 1) {
+            return true;
+        }
+        return headWords.get(0).equals(LinkCommand.COMMAND_WORD)
+                && headWords.stream().skip(1).allMatch(StringUtil::isNonZeroUnsignedInteger);
+    }
+
+    /**
+     * Returns the persons whose completions {@code commandText} was built from, and forgets the completions offered.
+     */
+    private List<Person> takeCompletedPersons(String commandText) {
+        // the completions end with a space, so this only matches the whole index that was completed
+        String paddedCommandText = commandText.trim() + " ";
+        List<Person> completedPersons = new ArrayList<>();
+        offeredCompletions.forEach((completion, person) -> {
+            if (paddedCommandText.startsWith(completion)) {
+                completedPersons.add(person);
+            }
+        });
+        offeredCompletions.clear();
+        return completedPersons;
+    }
+
+    @Override
+    public void setDeferredFeedbackHandler(Consumer<String> feedbackHandler) {
+        deferredFeedbackHandler = feedbackHandler;
+    }
+
+    @Override
+    public void setLoadingData(boolean isLoadingData) {
+        this.isLoadingData = isLoadingData;
+    }
+
+    @Override
+    public boolean isLoadingData() {
+        return isLoadingData;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public PersonStatistics getPersonStatistics() {
+        return model.getPersonStatistics();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -14,6 +14,7 @@ import seedu.address.model.person.Person;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_UNKNOWN_COMMAND_SUGGESTION = "Unknown command, did you mean: %1$s?";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_INVALID_EVENT_DISPLAYED_INDEX = "The event index provided in invalid";
@@ -65,6 +66,8 @@ public class Messages {
                 .append(toAdd.getEventDate())
                 .append(", eventCategory=")
                 .append(toAdd.getEventCategory());
+        toAdd.getStartTime().ifPresent(startTime -> builder.append(", startTime=").append(startTime));
+        toAdd.getEndTime().ifPresent(endTime -> builder.append(", endTime=").append(endTime));
         return builder.toString();
     }
 
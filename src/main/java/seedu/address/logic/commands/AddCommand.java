@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -14,6 +15,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.model.Model;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Group;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Sponsor;
@@ -47,6 +49,8 @@ public class AddCommand extends Command implements ReversibleCommand {
 
     private final Person toAdd;
     private final Optional<Group> group;
+    private Person addedPerson;
+    private List<Event> registeredEvents = List.of();
 
     /**
      * Creates an AddCommand to add the specified {@code Person}
@@ -54,6 +58,7 @@ public class AddCommand extends Command implements ReversibleCommand {
     public AddCommand(Person person) {
         requireNonNull(person);
         toAdd = person;
+        addedPerson = person;
         group = Optional.empty();
     }
 
@@ -63,6 +68,7 @@ public class AddCommand extends Command implements ReversibleCommand {
     public AddCommand(Person person, Group group) {
         requireNonNull(person);
         toAdd = person;
+        addedPerson = person;
         this.group = Optional.ofNullable(group);
     }
 
@@ -76,34 +82,40 @@ public class AddCommand extends Command implements ReversibleCommand {
 
         if (group.isPresent()) {
             try {
-                toAdd.setGroup(group.get());
+                addedPerson = toAdd.withGroup(group.get());
             } catch (GroupSponsorException e) {
                 throw new CommandException(e.getMessage());
             }
         } else if (!(toAdd instanceof Sponsor)) {
-            toAdd.setGroupNumber(0);
+            addedPerson = toAdd.withGroupNumber(0);
+        } else {
+            addedPerson = toAdd;
         }
 
-        model.addPerson(toAdd);
+        model.addPerson(addedPerson);
         model.addCommand(this);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(addedPerson)));
     }
 
     @Override
     public CommandResult undo(Model model) throws UndoException {
         requireNonNull(model);
 
-        if (!model.hasPerson(toAdd)) {
+        if (!model.hasPerson(addedPerson)) {
             throw new UndoException(MESSAGE_UNDO_NONEXISTENT_PERSON);
         }
-        model.deletePerson(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.format(toAdd)));
+        registeredEvents = model.getRegisteredEvents(addedPerson);
+        model.deletePerson(addedPerson);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.format(addedPerson)));
     }
 
     @Override
     public CommandResult redo(Model model) throws UndoException, CommandException {
-        model.addPerson(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        model.addPerson(addedPerson);
+        // undoing removed the registrations made since the person was added, so they are made again
+        registeredEvents.stream().filter(model::hasEvent)
+                .forEach(event -> model.registerForEvent(addedPerson, event));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(addedPerson)));
     }
 
     @Override
@@ -1,9 +1,11 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ENDTIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENTCATEGORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENTDATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENTNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTTIME;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -21,9 +23,11 @@ public class AddEventCommand extends EventCommand implements ReversibleCommand {
             + "Parameters: "
             + PREFIX_EVENTNAME + "EVENT_NAME "
             + PREFIX_EVENTDATE + "EVENT_DATE "
-            + PREFIX_EVENTCATEGORY + "EVENT_CATEGORY\n"
+            + PREFIX_EVENTCATEGORY + "EVENT_CATEGORY "
+            + "[" + PREFIX_STARTTIME + "START_TIME " + PREFIX_ENDTIME + "END_TIME]\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_EVENTNAME + "Meeting " + PREFIX_EVENTDATE + "10-10-2024 " + PREFIX_EVENTCATEGORY + "staff";
+            + PREFIX_EVENTNAME + "Meeting " + PREFIX_EVENTDATE + "10-10-2024 " + PREFIX_EVENTCATEGORY + "staff "
+            + PREFIX_STARTTIME + "09:00 " + PREFIX_ENDTIME + "10:30";
     public static final String MESSAGE_DUPLICATE_EVENT = "This event already exists in the address book";
     public static final String MESSAGE_SUCCESS = "New event added: %1$s";
     public static final String MESSAGE_SUCCESS_UNDO = "event deleted: %1$s";
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the contacts registered for an event identified using its displayed index, optionally only those of a
+ * category.
+ */
+public class AttendeesCommand extends EventCommand {
+    public static final String COMMAND_WORD = "attendees";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the contacts registered for the event identified by the index number used in the displayed "
+            + "event list.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + "[" + PREFIX_CATEGORY + "CATEGORY]\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_CATEGORY + "participant";
+
+    public static final String MESSAGE_SUCCESS = "%1$d attendees of %2$s: %3$s";
+    public static final String MESSAGE_NO_ATTENDEES = "No attendees of %1$s";
+
+    private final Index targetIndex;
+    private final Category category;
+
+    /**
+     * Creates an AttendeesCommand that lists the attendees of the event at {@code targetIndex}.
+     * If {@code category} is not null, only attendees of that category are listed.
+     */
+    public AttendeesCommand(Index targetIndex, Category category) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+        this.category = category;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Event event = RegisterCommand.getTargetEvent(model, targetIndex);
+        List<Person> attendees = category == null
+                ? model.getAttendees(event)
+                : model.getAttendees(event, category);
+
+        if (attendees.isEmpty()) {
+            return new EventCommandResult(String.format(MESSAGE_NO_ATTENDEES, event.getEventName()));
+        }
+        String names = attendees.stream()
+                .map(person -> person.getName().toString())
+                .collect(Collectors.joining(", "));
+        return new EventCommandResult(String.format(MESSAGE_SUCCESS, attendees.size(), event.getEventName(), names));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendeesCommand)) {
+            return false;
+        }
+
+        AttendeesCommand otherAttendeesCommand = (AttendeesCommand) other;
+        return targetIndex.equals(otherAttendeesCommand.targetIndex)
+                && Objects.equals(category, otherAttendeesCommand.category);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("category", category)
+                .toString();
+    }
+}
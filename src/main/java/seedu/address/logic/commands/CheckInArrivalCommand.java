@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.participation.CheckIn;
+import seedu.address.model.person.Person;
+
+/**
+ * Checks in the contact with the given email or phone number at the event whose check-in is in progress.
+ * The contact is looked up in the hash index of emails and phone numbers, so each arrival takes constant time.
+ */
+public class CheckInArrivalCommand extends EventCommand {
+
+    public static final String MESSAGE_SUCCESS = "Checked in %1$s (%2$d checked in, %3$d registered)";
+    public static final String MESSAGE_SUCCESS_NOT_REGISTERED = "Checked in %1$s, who is not registered for %4$s "
+            + "(%2$d checked in, %3$d registered)";
+    public static final String MESSAGE_NO_CHECK_IN = "No check-in is in progress. Start one with "
+            + CheckInCommand.COMMAND_WORD + " INDEX";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "No contact has the email or phone number %1$s";
+    public static final String MESSAGE_AMBIGUOUS_CONTACT = "More than one contact has the email or phone number %1$s";
+    public static final String MESSAGE_ALREADY_CHECKED_IN = "%1$s already checked in at %2$s";
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final String emailOrPhone;
+    private final Clock clock;
+
+    /**
+     * Creates a CheckInArrivalCommand that checks in the contact with {@code emailOrPhone}.
+     */
+    public CheckInArrivalCommand(String emailOrPhone) {
+        this(emailOrPhone, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a CheckInArrivalCommand that checks in the contact with {@code emailOrPhone} at the current time of
+     * {@code clock}.
+     */
+    public CheckInArrivalCommand(String emailOrPhone, Clock clock) {
+        requireNonNull(emailOrPhone);
+        requireNonNull(clock);
+        this.emailOrPhone = emailOrPhone.trim();
+        this.clock = clock;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Event event = model.getCheckInEvent().orElseThrow(() -> new CommandException(MESSAGE_NO_CHECK_IN));
+
+        List<Person> matches = model.findPersonsByEmailOrPhone(emailOrPhone);
+        if (matches.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, emailOrPhone));
+        }
+        if (matches.size() > 1) {
+            throw new CommandException(String.format(MESSAGE_AMBIGUOUS_CONTACT, emailOrPhone));
+        }
+        Person person = matches.get(0);
+
+        Optional<CheckIn> previousCheckIn = model.getCheckIn(person, event);
+        if (previousCheckIn.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_CHECKED_IN, person.getName(),
+                    previousCheckIn.get().getTime().format(TIME_FORMATTER)));
+        }
+
+        model.addCheckIn(new CheckIn(person, event, LocalDateTime.now(clock)));
+        String message = model.isRegisteredForEvent(person, event) ? MESSAGE_SUCCESS : MESSAGE_SUCCESS_NOT_REGISTERED;
+        String feedback = String.format(message, person.getName(), model.getCheckInCount(event),
+                model.getAttendeeCount(event), event.getEventName());
+        return new EventCommandResult(feedback, false, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CheckInArrivalCommand)) {
+            return false;
+        }
+
+        CheckInArrivalCommand otherCheckInArrivalCommand = (CheckInArrivalCommand) other;
+        return emailOrPhone.equals(otherCheckInArrivalCommand.emailOrPhone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("emailOrPhone", emailOrPhone)
+                .toString();
+    }
+}
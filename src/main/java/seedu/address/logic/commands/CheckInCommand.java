@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+
+/**
+ * Starts checking in arrivals at an event identified using its displayed index.
+ * While the check-in is in progress, each line entered in the command box is an email or phone number of an arrival.
+ */
+public class CheckInCommand extends EventCommand {
+    public static final String COMMAND_WORD = "checkin";
+
+    public static final String END_CHECK_IN_WORD = "done";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Starts checking in arrivals at the event identified by the index number used in the displayed event "
+            + "list. Then enter the email or phone number of each arrival, and " + END_CHECK_IN_WORD + " to stop.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Checking in arrivals at %1$s (%2$d checked in, %3$d registered).\n"
+            + "Enter the email or phone number of each arrival, or " + END_CHECK_IN_WORD + " to stop.";
+
+    private final Index targetIndex;
+
+    public CheckInCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Event event = RegisterCommand.getTargetEvent(model, targetIndex);
+        model.startCheckIn(event);
+        String feedback = String.format(MESSAGE_SUCCESS, event.getEventName(), model.getCheckInCount(event),
+                model.getAttendeeCount(event));
+        return new EventCommandResult(feedback, false, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CheckInCommand)) {
+            return false;
+        }
+
+        CheckInCommand otherCheckInCommand = (CheckInCommand) other;
+        return targetIndex.equals(otherCheckInCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
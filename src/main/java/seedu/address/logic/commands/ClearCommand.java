@@ -19,4 +19,9 @@ public class ClearCommand extends Command {
         model.setAddressBook(new AddressBook());
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isDestructive() {
+        return true;
+    }
 }
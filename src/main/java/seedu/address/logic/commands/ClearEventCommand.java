@@ -20,4 +20,9 @@ public class ClearEventCommand extends EventCommand {
         model.setEventBook(new EventBook());
         return new EventCommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isDestructive() {
+        return true;
+    }
 }
@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command discards data that the user may want back, so that a snapshot of the data is taken
+     * before it is executed.
+     */
+    public boolean isDestructive() {
+        return false;
+    }
 }
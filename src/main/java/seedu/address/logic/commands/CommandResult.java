@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +20,8 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The snapshots should be listed or restored as requested, once they have been read. */
+    private final RestoreCommand snapshotRequest;
 
     /**
      * Constructs a {@code CommandResult} with the specified fields.
@@ -27,6 +30,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.snapshotRequest = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, which requests the snapshots for
+     * {@code snapshotRequest}.
+     */
+    public CommandResult(String feedbackToUser, RestoreCommand snapshotRequest) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.snapshotRequest = requireNonNull(snapshotRequest);
     }
 
     /**
@@ -49,6 +64,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<RestoreCommand> getSnapshotRequest() {
+        return Optional.ofNullable(snapshotRequest);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -63,12 +82,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(snapshotRequest, otherCommandResult.snapshotRequest);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, snapshotRequest);
     }
 
     @Override
@@ -77,6 +97,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("snapshotRequest", snapshotRequest)
                 .toString();
     }
 
@@ -75,8 +75,13 @@ public class CommentCommand extends Command implements ReversibleCommand {
     }
 
     private void updateModelPerson(Model model, Person originalPerson, Person editedPerson) {
-        model.setPerson(originalPerson, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.beginTransaction();
+        try {
+            model.setPerson(originalPerson, editedPerson);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } finally {
+            model.commitTransaction();
+        }
     }
 
     private void recordEdit(Model model, Person originalPerson, Person editedPerson) {
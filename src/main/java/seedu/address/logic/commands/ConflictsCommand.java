@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventConflict;
+import seedu.address.model.event.EventConflictFinder;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+
+/**
+ * Reports events that overlap in time: all events in the event book, the events a contact is registered for, or
+ * the events each contact of a category is registered for.
+ */
+public class ConflictsCommand extends EventCommand {
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the events that overlap in time. With an email, only the events the contact is registered for "
+            + "are checked. With a category, the events each contact of the category is registered for are checked.\n"
+            + "Parameters: [" + PREFIX_EMAIL + "EMAIL] or [" + PREFIX_CATEGORY + "CATEGORY]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CATEGORY + "staff";
+
+    public static final String MESSAGE_SUCCESS = "%1$d conflicts found:\n%2$s";
+    public static final String MESSAGE_NO_CONFLICTS = "No conflicting events found";
+    public static final String MESSAGE_CONFLICT = "%1$s overlaps %2$s";
+    public static final String MESSAGE_PERSON_CONFLICT = "%1$s: %2$s";
+
+    private final Email email;
+    private final Category category;
+
+    /**
+     * Creates a ConflictsCommand that checks the events of the contact with {@code email} if it is not null, the
+     * events of each contact of {@code category} if it is not null, or else every event in the event book.
+     * At most one of {@code email} and {@code category} may be given.
+     */
+    public ConflictsCommand(Email email, Category category) {
+        assert email == null || category == null;
+        this.email = email;
+        this.category = category;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines = new ArrayList<>();
+        if (email != null) {
+            Person person = RegisterCommand.getPersonWithEmail(model, email);
+            addConflictLines(lines, person, model.getRegisteredEvents(person));
+        } else if (category != null) {
+            for (Person person : model.getAddressBook().getPersonList()) {
+                if (person.getCategory().equals(category)) {
+                    addConflictLines(lines, person, model.getRegisteredEvents(person));
+                }
+            }
+        } else {
+            addConflictLines(lines, null, model.getEventBook().getEventList());
+        }
+
+        if (lines.isEmpty()) {
+            return new EventCommandResult(MESSAGE_NO_CONFLICTS);
+        }
+        return new EventCommandResult(String.format(MESSAGE_SUCCESS, lines.size(), String.join("\n", lines)));
+    }
+
+    /**
+     * Adds a line to {@code lines} for each pair of overlapping {@code events}, naming {@code person} if it is not
+     * null.
+     */
+    private static void addConflictLines(List<String> lines, Person person, List<Event> events) {
+        for (EventConflict conflict : EventConflictFinder.findConflicts(events)) {
+            String line = String.format(MESSAGE_CONFLICT, describe(conflict.getFirst()),
+                    describe(conflict.getSecond()));
+            lines.add(person == null ? line : String.format(MESSAGE_PERSON_CONFLICT, person.getName(), line));
+        }
+    }
+
+    private static String describe(Event event) {
+        String times = event.getStartTime().isPresent()
+                ? " " + event.getStartTime().get() + "-" + event.getEndTime().get()
+                : "";
+        return event.getEventName() + " (" + event.getEventDate() + times + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConflictsCommand)) {
+            return false;
+        }
+
+        ConflictsCommand otherConflictsCommand = (ConflictsCommand) other;
+        return Objects.equals(email, otherConflictsCommand.email)
+                && Objects.equals(category, otherConflictsCommand.category);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("email", email)
+                .add("category", category)
+                .toString();
+    }
+}
@@ -9,6 +9,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
 /**
@@ -27,6 +28,7 @@ public class DeleteCommand extends Command implements ReversibleCommand {
 
     private final Index targetIndex;
     private Person personToDelete;
+    private List<Event> registeredEvents = List.of();
 
     public DeleteCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
@@ -43,6 +45,7 @@ public class DeleteCommand extends Command implements ReversibleCommand {
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
         this.personToDelete = personToDelete;
+        registeredEvents = model.getRegisteredEvents(personToDelete);
         model.deletePerson(personToDelete);
         model.addCommand(this);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
@@ -52,12 +55,16 @@ public class DeleteCommand extends Command implements ReversibleCommand {
     public CommandResult undo(Model model) {
         requireNonNull(model);
         model.addPerson(personToDelete);
+        // deleting the person removed their registrations, so those for events that still exist are made again
+        registeredEvents.stream().filter(model::hasEvent)
+                .forEach(event -> model.registerForEvent(personToDelete, event));
         return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.format(personToDelete)));
     }
 
     @Override
     public CommandResult redo(Model model) {
         requireNonNull(model);
+        registeredEvents = model.getRegisteredEvents(personToDelete);
         model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
@@ -21,11 +21,10 @@ import seedu.address.model.person.Category;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Group;
 import seedu.address.model.person.Name;
-import seedu.address.model.person.Participant;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonFactory;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.Staff;
+import seedu.address.model.person.Sponsor;
 
 /**
  * Edits the details of an existing person in the address book.
@@ -130,22 +129,14 @@ public class EditCommand extends Command implements ReversibleCommand {
         Category updatedCategory = editPersonDescriptor.getCategory().orElse(personToEdit.getCategory());
         Person editedPerson = PersonFactory.createPerson(updatedName, updatedPhone, updatedEmail, updatedCategory);
 
-        if (editedPerson instanceof Staff) {
-            Staff editedStaff = (Staff) editedPerson;
-            Group updatedGroup = editPersonDescriptor.getGroup().orElse(new Group(editedStaff.getGroupNumber()));
-            editedStaff.setGroupNumber(updatedGroup.getGroupNumber());
-            return editedStaff;
-        } else if (editedPerson instanceof Participant) {
-            Participant editedParticipant = (Participant) editedPerson;
-            Group updatedGroup = editPersonDescriptor.getGroup()
-                                                     .orElse(new Group(editedParticipant.getGroupNumber()));
-            editedParticipant.setGroupNumber(updatedGroup.getGroupNumber());
-            return editedParticipant;
-        } else if (editPersonDescriptor.getGroup().isPresent()) {
+        Optional<Group> updatedGroup = editPersonDescriptor.getGroup();
+        if (updatedGroup.isEmpty()) {
+            return editedPerson;
+        }
+        if (editedPerson instanceof Sponsor) {
             throw new CommandException(MESSAGE_SPONSOR_HAS_NO_GROUP);
         }
-
-        return editedPerson;
+        return editedPerson.withGroup(updatedGroup.get());
     }
 
     @Override
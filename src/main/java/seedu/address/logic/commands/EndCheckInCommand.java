@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+
+/**
+ * Ends the check-in in progress.
+ */
+public class EndCheckInCommand extends EventCommand {
+
+    public static final String MESSAGE_SUCCESS = "Finished checking in arrivals at %1$s (%2$d checked in, "
+            + "%3$d registered)";
+    public static final String MESSAGE_NO_CHECK_IN = "No check-in is in progress";
+
+    @Override
+    public EventCommandResult execute(Model model) {
+        requireNonNull(model);
+        Optional<Event> event = model.getCheckInEvent();
+        if (event.isEmpty()) {
+            return new EventCommandResult(MESSAGE_NO_CHECK_IN);
+        }
+        model.endCheckIn();
+        return new EventCommandResult(String.format(MESSAGE_SUCCESS, event.get().getEventName(),
+                model.getCheckInCount(event.get()), model.getAttendeeCount(event.get())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof EndCheckInCommand;
+    }
+}
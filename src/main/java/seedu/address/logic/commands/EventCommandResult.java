@@ -19,15 +19,25 @@ public class EventCommandResult {
     private final boolean exit;
     private final boolean back;
 
+    /** Arrivals at the event being checked in should be read from the command box. */
+    private final boolean checkIn;
 
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public EventCommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean back) {
+    public EventCommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean back, boolean checkIn) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.back = back;
+        this.checkIn = checkIn;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, not checking in.
+     */
+    public EventCommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean back) {
+        this(feedbackToUser, showHelp, exit, back, false);
     }
 
     /**
@@ -53,6 +63,10 @@ public class EventCommandResult {
         return back;
     }
 
+    public boolean isCheckIn() {
+        return checkIn;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,7 +74,7 @@ public class EventCommandResult {
         }
 
         // instanceof handles nulls
-        if (!(other instanceof CommandResult)) {
+        if (!(other instanceof EventCommandResult)) {
             return false;
         }
 
@@ -68,12 +82,13 @@ public class EventCommandResult {
         return feedbackToUser.equals(otherEventCommandResult.feedbackToUser)
                 && showHelp == otherEventCommandResult.showHelp
                 && exit == otherEventCommandResult.exit
-                && back == otherEventCommandResult.back;
+                && back == otherEventCommandResult.back
+                && checkIn == otherEventCommandResult.checkIn;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, back);
+        return Objects.hash(feedbackToUser, showHelp, exit, back, checkIn);
     }
 
     @Override
@@ -83,6 +98,7 @@ public class EventCommandResult {
                 .add("showHelp", showHelp)
                 .add("exit", exit)
                 .add("back", back)
+                .add("checkIn", checkIn)
                 .toString();
     }
 
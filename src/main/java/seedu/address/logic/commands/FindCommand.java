@@ -2,6 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -9,29 +14,76 @@ import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.ContactContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the
  * argument keywords. Keyword matching is case insensitive.
+ * Keywords ending with {@link #FUZZY_SUFFIX} also match names with a few typos.
+ * Alternatively, lists the persons matching every condition of a structured {@code PersonQuery}.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_SUFFIX = "~";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n" + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers. "
+            + "End a keyword with " + FUZZY_SUFFIX + " to also match names that are spelt slightly differently.\n"
+            + "Alternatively, finds all persons matching every one of the given conditions.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or [c/CATEGORY] [g/GROUP] [n/NAME_START]... [e/EMAIL_PART]\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie" + FUZZY_SUFFIX + "\n"
+            + "Example: " + COMMAND_WORD + " c/staff g/3 n/ali e/@nus.edu";
 
-    private final Predicate<Person> predicate;
+    private final ContactContainsKeywordsPredicate predicate;
+    private final List<String> fuzzyKeywords;
+    private final PersonQuery query;
 
     public FindCommand(ContactContainsKeywordsPredicate predicate) {
+        this(predicate, Collections.emptyList());
+    }
+
+    /**
+     * Creates a FindCommand that lists the persons matching {@code predicate} or with a name word a few typos away
+     * from any of {@code fuzzyKeywords}.
+     */
+    public FindCommand(ContactContainsKeywordsPredicate predicate, List<String> fuzzyKeywords) {
+        requireNonNull(fuzzyKeywords);
         this.predicate = predicate;
+        this.fuzzyKeywords = fuzzyKeywords;
+        this.query = null;
+    }
+
+    /**
+     * Creates a FindCommand that lists the persons matching every condition of {@code query}.
+     */
+    public FindCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.predicate = null;
+        this.fuzzyKeywords = Collections.emptyList();
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (query != null) {
+            Set<Person> matches = new HashSet<>(model.findPersons(query));
+            model.updateFilteredPersonList(matches::contains);
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        }
+
+        Predicate<Person> filter = predicate;
+        if (!fuzzyKeywords.isEmpty()) {
+            Set<Person> fuzzyMatches = new HashSet<>();
+            for (String keyword : fuzzyKeywords) {
+                fuzzyMatches.addAll(model.findPersonsByFuzzyName(keyword));
+            }
+            filter = predicate.or(fuzzyMatches::contains);
+        }
+        model.updateFilteredPersonList(filter);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -48,11 +100,17 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && fuzzyKeywords.equals(otherFindCommand.fuzzyKeywords)
+                && Objects.equals(query, otherFindCommand.query);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("predicate", predicate).toString();
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("fuzzyKeywords", fuzzyKeywords)
+                .add("query", query)
+                .toString();
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -12,7 +13,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Group;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Sponsor;
 
@@ -65,7 +65,6 @@ public class GroupCommand extends Command implements ReversibleCommand {
         this.targetIndex = targetIndex;
         this.targetGroupNumber = Optional.of(targetGroupNumber);
         finalGroupNumber = targetGroupNumber;
-        Group.setTotalGroupNumber(Math.max(targetGroupNumber, Group.getTotalGroupNumber()));
     }
 
     @Override
@@ -89,19 +88,16 @@ public class GroupCommand extends Command implements ReversibleCommand {
         }
 
         originalGroupNumber = personToGroup.getGroupNumber();
-        groupedPerson = personToGroup;
-
-        if (targetGroupNumber.isPresent()) {
-            groupedPerson.setGroupNumber(targetGroupNumber.get());
-        } else if (Group.getTotalGroupNumber() <= 0) {
-            throw new CommandException(MESSAGE_NO_EXISTING_GROUP);
-        } else {
-            Random random = new Random();
-            finalGroupNumber = random.nextInt(Group.getTotalGroupNumber()) + 1;
-            groupedPerson.setGroupNumber(finalGroupNumber);
+
+        if (targetGroupNumber.isEmpty()) {
+            List<Integer> existingGroupNumbers = new ArrayList<>(model.getPersonStatistics().getGroupNumbers());
+            if (existingGroupNumbers.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_EXISTING_GROUP);
+            }
+            finalGroupNumber = existingGroupNumbers.get(new Random().nextInt(existingGroupNumbers.size()));
         }
 
-        model.setPerson(personToGroup, groupedPerson);
+        groupedPerson = model.groupPerson(personToGroup, finalGroupNumber);
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.addCommand(this);
@@ -112,7 +108,7 @@ public class GroupCommand extends Command implements ReversibleCommand {
     public CommandResult undo(Model model) {
         requireNonNull(model);
 
-        model.groupPerson(groupedPerson, originalGroupNumber);
+        groupedPerson = model.groupPerson(groupedPerson, originalGroupNumber);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(GroupCommand.MESSAGE_SUCCESS_UNDO, Messages.format(groupedPerson)));
@@ -122,7 +118,7 @@ public class GroupCommand extends Command implements ReversibleCommand {
     public CommandResult redo(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.groupPerson(groupedPerson, finalGroupNumber);
+        groupedPerson = model.groupPerson(groupedPerson, finalGroupNumber);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_GROUP_PERSON_SUCCESS, Messages.format(groupedPerson)));
@@ -12,11 +12,8 @@ import java.util.stream.Collectors;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Category;
-import seedu.address.model.person.Group;
-import seedu.address.model.person.Participant;
+import seedu.address.model.person.CategoryType;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Staff;
 
 /**
  * Sets randomly the group of every person displayed on the list.
@@ -41,6 +38,7 @@ public class GroupRandomCommand extends Command implements ReversibleCommand {
     private List<Integer> originalGroups = new ArrayList<>();
     private List<Integer> randomGroups = new ArrayList<>();
     private List<Person> noSponsorList;
+    private List<Person> groupedPersons = new ArrayList<>();
 
     public GroupRandomCommand(int maxGroupSize) {
         this.maxGroupSize = maxGroupSize;
@@ -57,17 +55,31 @@ public class GroupRandomCommand extends Command implements ReversibleCommand {
         List<Person> lastShownList = model.getFilteredPersonList();
 
         noSponsorList = lastShownList.stream()
-                .filter(person -> !person.getCategory().equals(new Category("SPONSOR")))
+                .filter(person -> person.getCategory().type != CategoryType.SPONSOR)
                 .collect(Collectors.toList());
 
         int numberOfGroup = (int) Math.ceil((double) noSponsorList.size() / maxGroupSize);
-        Group.setTotalGroupNumber(Math.max(numberOfGroup, Group.getTotalGroupNumber()));
 
         int[] groupSizes = new int[numberOfGroup];
         Arrays.fill(groupSizes, 0);
 
         Random random = new Random();
 
+        model.beginTransaction();
+        try {
+            groupRandomly(model, numberOfGroup, groupSizes, random);
+        } finally {
+            model.commitTransaction();
+        }
+
+        model.addCommand(this);
+        return new CommandResult(String.format(MESSAGE_GROUP_RANDOM_SUCCESS));
+    }
+
+    /**
+     * Puts every person in {@code noSponsorList} into a random group that is not yet full.
+     */
+    private void groupRandomly(Model model, int numberOfGroup, int[] groupSizes, Random random) {
         for (Person personToGroup : noSponsorList) {
             int targetGroupNumber = random.nextInt(numberOfGroup) + 1;
 
@@ -77,37 +89,18 @@ public class GroupRandomCommand extends Command implements ReversibleCommand {
 
             groupSizes[targetGroupNumber - 1] += 1;
 
-            if (personToGroup instanceof Staff) {
-                Staff staffToGroup = (Staff) personToGroup;
-                originalGroups.add(staffToGroup.getGroupNumber());
-                staffToGroup.setGroupNumber(targetGroupNumber);
-                model.setPerson(personToGroup, staffToGroup);
-            } else if (personToGroup instanceof Participant) {
-                Participant participantToGroup = (Participant) personToGroup;
-                originalGroups.add(participantToGroup.getGroupNumber());
-                participantToGroup.setGroupNumber(targetGroupNumber);
-                model.setPerson(personToGroup, participantToGroup);
-            }
-
+            originalGroups.add(personToGroup.getGroupNumber());
+            groupedPersons.add(model.groupPerson(personToGroup, targetGroupNumber));
             randomGroups.add(targetGroupNumber);
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         }
-
-        model.addCommand(this);
-        return new CommandResult(String.format(MESSAGE_GROUP_RANDOM_SUCCESS));
     }
 
     @Override
     public CommandResult undo(Model model) {
         requireNonNull(model);
 
-        for (int i = 0; i < noSponsorList.size(); i++) {
-            Person groupedPerson = noSponsorList.get(i);
-            int originalGroupNumber = originalGroups.get(i);
-
-            model.groupPerson(groupedPerson, originalGroupNumber);
-            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        }
+        regroup(model, originalGroups);
 
         return new CommandResult(String.format(GroupRandomCommand.MESSAGE_SUCCESS_UNDO));
     }
@@ -116,17 +109,26 @@ public class GroupRandomCommand extends Command implements ReversibleCommand {
     public CommandResult redo(Model model) throws CommandException {
         requireNonNull(model);
 
-        for (int i = 0; i < noSponsorList.size(); i++) {
-            Person groupedPerson = noSponsorList.get(i);
-            int randomGroupNumber = randomGroups.get(i);
-
-            model.groupPerson(groupedPerson, randomGroupNumber);
-            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        }
+        regroup(model, randomGroups);
 
         return new CommandResult(String.format(MESSAGE_GROUP_RANDOM_SUCCESS));
     }
 
+    /**
+     * Puts the i-th grouped person into the i-th group number of {@code groupNumbers} in a single transaction.
+     */
+    private void regroup(Model model, List<Integer> groupNumbers) {
+        model.beginTransaction();
+        try {
+            for (int i = 0; i < groupedPersons.size(); i++) {
+                groupedPersons.set(i, model.groupPerson(groupedPersons.get(i), groupNumbers.get(i)));
+                model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            }
+        } finally {
+            model.commitTransaction();
+        }
+    }
+
     @Override public boolean equals(Object other) {
         if (other == this) {
             return true;
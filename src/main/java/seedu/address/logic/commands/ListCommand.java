@@ -3,22 +3,73 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, or only the members of a group.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons, or only the members of a group.\n"
+            + "Parameters: [g/GROUP]\n"
+            + "Example: " + COMMAND_WORD + " g/3";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
+    public static final String MESSAGE_GROUP_SUCCESS = "Listed the %1$d members of group %2$d";
+
+    private final Integer groupNumber;
+
+    public ListCommand() {
+        this.groupNumber = null;
+    }
 
+    /**
+     * Creates a ListCommand that lists the members of the group numbered {@code groupNumber}.
+     */
+    public ListCommand(int groupNumber) {
+        this.groupNumber = groupNumber;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (groupNumber == null) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        Set<Person> members = new HashSet<>(model.getGroupMembers(groupNumber));
+        model.updateFilteredPersonList(members::contains);
+        return new CommandResult(String.format(MESSAGE_GROUP_SUCCESS, members.size(), groupNumber));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return Objects.equals(groupNumber, otherListCommand.groupNumber);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("groupNumber", groupNumber)
+                .toString();
     }
 }
@@ -1,23 +1,92 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
 
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDate;
 
 /**
- * Lists all events in the event book to the user.
+ * Lists all events in the event book to the user, or only the events dated within a range.
  */
 public class ListEventCommand extends EventCommand {
     public static final String COMMAND_WORD = "listevent";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all events, or only the events dated "
+            + "from START_DATE to END_DATE (both inclusive) if either is given.\n"
+            + "Parameters: [" + PREFIX_FROM + "START_DATE] [" + PREFIX_TO + "END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "01-04-2024 " + PREFIX_TO + "30-04-2024";
+
     public static final String MESSAGE_SUCCESS = "Listed all events";
 
+    private final EventDate from;
+    private final EventDate to;
+
+    /**
+     * Creates a ListEventCommand that lists all events.
+     */
+    public ListEventCommand() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a ListEventCommand that lists the events dated from {@code from} to {@code to}.
+     * A null bound leaves that end of the range open.
+     */
+    public ListEventCommand(EventDate from, EventDate to) {
+        this.from = from;
+        this.to = to;
+    }
 
     @Override
     public EventCommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
-        return new EventCommandResult(MESSAGE_SUCCESS);
+        if (from == null && to == null) {
+            model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+            return new EventCommandResult(MESSAGE_SUCCESS);
+        }
+
+        LocalDate fromDate = from == null ? LocalDate.MIN : from.getDate();
+        LocalDate toDate = to == null ? LocalDate.MAX : to.getDate();
+        List<Event> eventsInRange = model.getEventsBetween(fromDate, toDate);
+        Set<Event> eventsToShow = new HashSet<>(eventsInRange);
+        model.updateFilteredEventList(eventsToShow::contains);
+        return new EventCommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListEventCommand)) {
+            return false;
+        }
+
+        ListEventCommand otherListEventCommand = (ListEventCommand) other;
+        return Objects.equals(from, otherListEventCommand.from)
+                && Objects.equals(to, otherListEventCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
     }
 }
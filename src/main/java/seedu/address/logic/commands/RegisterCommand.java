@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+
+/**
+ * Registers the contact with the given email for an event identified using its displayed index.
+ */
+public class RegisterCommand extends EventCommand {
+    public static final String COMMAND_WORD = "register";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Registers the contact with the given email for the event identified by the index number used in the "
+            + "displayed event list.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_EMAIL + "EMAIL\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_EMAIL + "johnd@example.com";
+
+    public static final String MESSAGE_SUCCESS = "Registered %1$s for %2$s";
+    public static final String MESSAGE_ALREADY_REGISTERED = "%1$s is already registered for %2$s";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "No contact has the email %1$s";
+    public static final String MESSAGE_AMBIGUOUS_EMAIL = "More than one contact has the email %1$s";
+
+    private final Index targetIndex;
+    private final Email email;
+
+    /**
+     * Creates a RegisterCommand that registers the contact with {@code email} for the event at {@code targetIndex}.
+     */
+    public RegisterCommand(Index targetIndex, Email email) {
+        requireNonNull(targetIndex);
+        requireNonNull(email);
+        this.targetIndex = targetIndex;
+        this.email = email;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Event event = getTargetEvent(model, targetIndex);
+        Person person = getPersonWithEmail(model, email);
+
+        if (model.isRegisteredForEvent(person, event)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_REGISTERED, person.getName(),
+                    event.getEventName()));
+        }
+
+        model.registerForEvent(person, event);
+        return new EventCommandResult(String.format(MESSAGE_SUCCESS, person.getName(), event.getEventName()));
+    }
+
+    /**
+     * Returns the event at {@code targetIndex} of the filtered event list.
+     *
+     * @throws CommandException if the index is out of bounds.
+     */
+    static Event getTargetEvent(Model model, Index targetIndex) throws CommandException {
+        List<Event> lastShownList = model.getFilteredEventList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
+    /**
+     * Returns the only person in the address book with the given {@code email}.
+     *
+     * @throws CommandException if no person, or more than one person, has the email.
+     */
+    static Person getPersonWithEmail(Model model, Email email) throws CommandException {
+        List<Person> matches = model.findPersonsByEmailOrPhone(email.value);
+        if (matches.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, email));
+        }
+        if (matches.size() > 1) {
+            throw new CommandException(String.format(MESSAGE_AMBIGUOUS_EMAIL, email));
+        }
+        return matches.get(0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RegisterCommand)) {
+            return false;
+        }
+
+        RegisterCommand otherRegisterCommand = (RegisterCommand) other;
+        return targetIndex.equals(otherRegisterCommand.targetIndex)
+                && email.equals(otherRegisterCommand.email);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("email", email)
+                .toString();
+    }
+}
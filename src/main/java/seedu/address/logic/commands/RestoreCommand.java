@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.Snapshot;
+
+/**
+ * Lists the snapshots of the address book and the event book, or restores one of them.
+ * Snapshots are kept by the storage, so executing this command requests them in its {@link CommandResult}. The logic
+ * then reads them in the background, without blocking the user interface, and finishes the command with
+ * {@link #selectSnapshot(List)}.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the snapshots of the contacts and events, "
+            + "or restores the snapshot identified by the index number used in the list.\n"
+            + "Parameters: [INDEX] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_NO_SNAPSHOTS = "There are no snapshots to restore.";
+    public static final String MESSAGE_LIST_SNAPSHOTS = "Snapshots, newest first:\n%1$s\n"
+            + "Use " + COMMAND_WORD + " INDEX to restore one.";
+    public static final String MESSAGE_INVALID_SNAPSHOT_INDEX = "The snapshot index provided is invalid";
+    public static final String MESSAGE_LISTING = "Listing the snapshots...";
+    public static final String MESSAGE_RESTORING = "Restoring snapshot %1$d...";
+    public static final String MESSAGE_RESTORED = "Restored the snapshot taken %1$s.";
+    public static final String MESSAGE_RESTORE_FAILED = "Could not restore the snapshot taken %1$s: %2$s";
+    public static final String MESSAGE_LIST_FAILED = "Could not read the snapshots: %1$s";
+
+    private final Index targetIndex;
+
+    public RestoreCommand() {
+        this.targetIndex = null;
+    }
+
+    /**
+     * Creates a RestoreCommand that restores the snapshot at {@code targetIndex} of the list of snapshots.
+     */
+    public RestoreCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    /**
+     * Returns a result that requests the snapshots, as they cannot be reached from the model.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String feedback = targetIndex == null
+                ? MESSAGE_LISTING
+                : String.format(MESSAGE_RESTORING, targetIndex.getOneBased());
+        return new CommandResult(feedback, this);
+    }
+
+    /**
+     * Returns the snapshot to restore out of {@code snapshots}, listed newest first, or an empty {@code Optional} if
+     * the snapshots are only to be listed.
+     *
+     * @throws CommandException if there are no snapshots, or the index is out of range.
+     */
+    public Optional<Snapshot> selectSnapshot(List<Snapshot> snapshots) throws CommandException {
+        requireNonNull(snapshots);
+        if (snapshots.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_SNAPSHOTS);
+        }
+        if (targetIndex == null) {
+            return Optional.empty();
+        }
+        if (targetIndex.getZeroBased() >= snapshots.size()) {
+            throw new CommandException(MESSAGE_INVALID_SNAPSHOT_INDEX);
+        }
+        return Optional.of(snapshots.get(targetIndex.getZeroBased()));
+    }
+
+    /**
+     * Returns the feedback listing {@code snapshots} with their index numbers.
+     */
+    public static String listSnapshots(List<Snapshot> snapshots) {
+        StringBuilder list = new StringBuilder();
+        for (int i = 0; i < snapshots.size(); i++) {
+            list.append(i + 1).append(". ").append(snapshots.get(i).getDescription()).append("\n");
+        }
+        return String.format(MESSAGE_LIST_SNAPSHOTS, list.toString().trim());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return Objects.equals(targetIndex, otherRestoreCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+
+/**
+ * Lists the persons whose name or comment matches any of the argument keywords, the most relevant first.
+ * Keyword matching is case insensitive and ignores common word endings, e.g. "allergies" matches "allergy".
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches the names and comments of all persons for "
+            + "the specified keywords (case-insensitive) and displays the " + MAX_RESULTS + " best matches as a list "
+            + "with index numbers, the most relevant first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n" + "Example: " + COMMAND_WORD + " vegetarian python";
+
+    private final List<String> keywords;
+
+    public SearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.searchFilteredPersonList(keywords, MAX_RESULTS);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return keywords.equals(otherSearchCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.CategoryType;
+import seedu.address.model.person.PersonStatistics;
+
+/**
+ * Shows the number of persons in each category and in each group of the address book.
+ * Sponsors cannot be put in a group, so they are only counted by category.
+ */
+public class SummaryCommand extends Command {
+
+    public static final String COMMAND_WORD = "summary";
+
+    public static final String MESSAGE_CATEGORIES = "Participants: %1$d, staff: %2$d, sponsors: %3$d";
+    public static final String MESSAGE_UNGROUPED = "Participants and staff not in a group: %1$d"
+            + " (sponsors are never in a group)";
+    public static final String MESSAGE_GROUP = "Group %1$d: %2$d (%3$d participants, %4$d staff)";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        PersonStatistics statistics = model.getPersonStatistics();
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_CATEGORIES,
+                statistics.countByCategory(CategoryType.PARTICIPANT), statistics.countByCategory(CategoryType.STAFF),
+                statistics.countByCategory(CategoryType.SPONSOR)));
+        summary.append("\n").append(String.format(MESSAGE_UNGROUPED, statistics.countByGroup(0)));
+        for (int groupNumber : statistics.getGroupNumbers()) {
+            summary.append("\n").append(String.format(MESSAGE_GROUP, groupNumber, statistics.countByGroup(groupNumber),
+                    statistics.countByGroup(groupNumber, CategoryType.PARTICIPANT),
+                    statistics.countByGroup(groupNumber, CategoryType.STAFF)));
+        }
+        return new CommandResult(summary.toString());
+    }
+}
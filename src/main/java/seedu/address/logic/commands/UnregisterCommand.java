@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+
+/**
+ * Unregisters the contact with the given email from an event identified using its displayed index.
+ */
+public class UnregisterCommand extends EventCommand {
+    public static final String COMMAND_WORD = "unregister";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Unregisters the contact with the given email from the event identified by the index number used in "
+            + "the displayed event list.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_EMAIL + "EMAIL\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_EMAIL + "johnd@example.com";
+
+    public static final String MESSAGE_SUCCESS = "Unregistered %1$s from %2$s";
+    public static final String MESSAGE_NOT_REGISTERED = "%1$s is not registered for %2$s";
+
+    private final Index targetIndex;
+    private final Email email;
+
+    /**
+     * Creates an UnregisterCommand that unregisters the contact with {@code email} from the event at
+     * {@code targetIndex}.
+     */
+    public UnregisterCommand(Index targetIndex, Email email) {
+        requireNonNull(targetIndex);
+        requireNonNull(email);
+        this.targetIndex = targetIndex;
+        this.email = email;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Event event = RegisterCommand.getTargetEvent(model, targetIndex);
+        Person person = RegisterCommand.getPersonWithEmail(model, email);
+
+        if (!model.isRegisteredForEvent(person, event)) {
+            throw new CommandException(String.format(MESSAGE_NOT_REGISTERED, person.getName(), event.getEventName()));
+        }
+
+        model.unregisterFromEvent(person, event);
+        return new EventCommandResult(String.format(MESSAGE_SUCCESS, person.getName(), event.getEventName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnregisterCommand)) {
+            return false;
+        }
+
+        UnregisterCommand otherUnregisterCommand = (UnregisterCommand) other;
+        return targetIndex.equals(otherUnregisterCommand.targetIndex)
+                && email.equals(otherUnregisterCommand.email);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("email", email)
+                .toString();
+    }
+}
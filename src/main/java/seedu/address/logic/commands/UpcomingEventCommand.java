@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+
+/**
+ * Lists the earliest events that take place today or later.
+ */
+public class UpcomingEventCommand extends EventCommand {
+    public static final String COMMAND_WORD = "upcoming";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the next COUNT events, starting from today.\n"
+            + "Parameters: COUNT (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 5";
+
+    public static final String MESSAGE_SUCCESS = "%1$d upcoming events listed!";
+
+    private final int count;
+    private final Clock clock;
+
+    /**
+     * Creates an UpcomingEventCommand that lists at most {@code count} upcoming events.
+     */
+    public UpcomingEventCommand(int count) {
+        this(count, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an UpcomingEventCommand that lists at most {@code count} events dated on or after the current date
+     * of {@code clock}.
+     */
+    public UpcomingEventCommand(int count, Clock clock) {
+        requireNonNull(clock);
+        this.count = count;
+        this.clock = clock;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Event> upcomingEvents = model.getUpcomingEvents(LocalDate.now(clock), count);
+        Set<Event> eventsToShow = new HashSet<>(upcomingEvents);
+        model.updateFilteredEventList(eventsToShow::contains);
+        return new EventCommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredEventList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UpcomingEventCommand)) {
+            return false;
+        }
+
+        UpcomingEventCommand otherUpcomingEventCommand = (UpcomingEventCommand) other;
+        return count == otherUpcomingEventCommand.count
+                && clock.equals(otherUpcomingEventCommand.clock);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("clock", clock)
+                .toString();
+    }
+}
@@ -51,6 +51,12 @@ public class CommandHistoryManager implements ReversibleCommandHistory {
         return command;
     }
 
+    @Override
+    public void clear() {
+        history.clear();
+        future.clear();
+    }
+
     @Override
     public boolean canUndo() {
         return !history.isEmpty();
@@ -30,6 +30,11 @@ public interface ReversibleCommandHistory {
      */
     ReversibleCommand getCommandToRedo() throws UndoException;
 
+    /**
+     * Forgets every command in the history, so that none can be undone or redone.
+     */
+    void clear();
+
     /**
      * Checks if there are commands that can be undone.
      *
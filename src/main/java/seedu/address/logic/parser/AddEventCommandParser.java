@@ -1,9 +1,11 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ENDTIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENTCATEGORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENTDATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENTNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTTIME;
 
 import java.util.stream.Stream;
 
@@ -14,6 +16,7 @@ import seedu.address.model.event.EventCategory;
 import seedu.address.model.event.EventDate;
 import seedu.address.model.event.EventFactory;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventTime;
 
 /**
  * Parses input arguments and creates a new AddCommand object
@@ -28,19 +31,32 @@ public class AddEventCommandParser implements EventParser<AddEventCommand> {
     public AddEventCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_EVENTNAME,
-                        PREFIX_EVENTDATE, PREFIX_EVENTCATEGORY);
+                        PREFIX_EVENTDATE, PREFIX_EVENTCATEGORY, PREFIX_STARTTIME, PREFIX_ENDTIME);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_EVENTNAME, PREFIX_EVENTDATE, PREFIX_EVENTCATEGORY)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddEventCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EVENTNAME, PREFIX_EVENTDATE, PREFIX_EVENTCATEGORY);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EVENTNAME, PREFIX_EVENTDATE, PREFIX_EVENTCATEGORY,
+                PREFIX_STARTTIME, PREFIX_ENDTIME);
         EventName name = EventParserUtil.parseEventName(argMultimap.getValue(PREFIX_EVENTNAME).get());
         EventDate date = EventParserUtil.parseEventDate(argMultimap.getValue(PREFIX_EVENTDATE).get());
         EventCategory category = EventParserUtil.parseEventCategory(argMultimap.getValue(PREFIX_EVENTCATEGORY).get());
 
-        Event event = EventFactory.createEvent(name, date, category);
+        EventTime startTime = null;
+        if (argMultimap.getValue(PREFIX_STARTTIME).isPresent()) {
+            startTime = EventParserUtil.parseEventTime(argMultimap.getValue(PREFIX_STARTTIME).get());
+        }
+        EventTime endTime = null;
+        if (argMultimap.getValue(PREFIX_ENDTIME).isPresent()) {
+            endTime = EventParserUtil.parseEventTime(argMultimap.getValue(PREFIX_ENDTIME).get());
+        }
+        if (!Event.isValidTimeRange(startTime, endTime)) {
+            throw new ParseException(Event.MESSAGE_TIME_RANGE_CONSTRAINTS);
+        }
+
+        Event event = EventFactory.createEvent(name, date, category, startTime, endTime);
 
         return new AddEventCommand(event);
     }
@@ -2,10 +2,15 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
@@ -22,6 +27,9 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SummaryCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.alias.AliasParser;
@@ -37,6 +45,31 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandWordSuggester COMMAND_WORD_SUGGESTER = new CommandWordSuggester(Stream.concat(
+            Stream.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
+                    ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, SearchCommand.COMMAND_WORD,
+                    ListCommand.COMMAND_WORD, GroupCommand.COMMAND_WORD, GroupRandomCommand.COMMAND_WORD,
+                    ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD,
+                    RedoCommand.COMMAND_WORD, LinkCommand.COMMAND_WORD, CommentCommand.COMMAND_WORD,
+                    ViewCommand.COMMAND_WORD, SummaryCommand.COMMAND_WORD, RestoreCommand.COMMAND_WORD),
+            AliasParser.ALIAS_WORDS.stream()).collect(Collectors.toList()));
+
+    private final boolean isAutoCorrecting;
+
+    /**
+     * Creates a parser that rejects misspelled command words with suggestions of valid ones.
+     */
+    public AddressBookParser() {
+        this(false);
+    }
+
+    /**
+     * Creates a parser that, if {@code isAutoCorrecting}, parses a misspelled command word as the only valid command
+     * word closest to it, and otherwise rejects it with suggestions of valid ones.
+     */
+    public AddressBookParser(boolean isAutoCorrecting) {
+        this.isAutoCorrecting = isAutoCorrecting;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -83,8 +116,11 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
 
         case GroupCommand.COMMAND_WORD:
             return new GroupCommandParser().parse(arguments);
@@ -113,10 +149,37 @@ public class AddressBookParser {
         case ViewCommand.COMMAND_WORD:
             return new ViewCommandParser().parse(arguments);
 
+        case SummaryCommand.COMMAND_WORD:
+            return new SummaryCommand();
+
+        case RestoreCommand.COMMAND_WORD:
+            return new RestoreCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
+            return parseMisspelledCommand(commandWord, arguments);
+        }
+    }
+
+    /**
+     * Parses user input whose {@code commandWord} is not valid. If auto-correction is on and a single valid command
+     * word is closest to {@code commandWord}, the input is parsed with that word instead.
+     *
+     * @throws ParseException with the valid command words closest to {@code commandWord}, if any
+     */
+    private Command parseMisspelledCommand(String commandWord, String arguments) throws ParseException {
+        if (isAutoCorrecting) {
+            Optional<String> correction = COMMAND_WORD_SUGGESTER.correct(commandWord);
+            if (correction.isPresent()) {
+                logger.info("Correcting command word " + commandWord + " to " + correction.get());
+                return parseCommand(correction.get() + arguments);
+            }
+        }
+        List<String> suggestions = COMMAND_WORD_SUGGESTER.suggest(commandWord);
+        if (suggestions.isEmpty()) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, String.join(", ", suggestions)));
     }
 
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendeesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Category;
+
+/**
+ * Parses input arguments and creates a new AttendeesCommand object
+ */
+public class AttendeesCommandParser implements EventParser<AttendeesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttendeesCommand
+     * and returns an AttendeesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AttendeesCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CATEGORY);
+
+        Index index;
+        try {
+            index = EventParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendeesCommand.MESSAGE_USAGE), pe);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CATEGORY);
+        Category category = null;
+        if (argMultimap.getValue(PREFIX_CATEGORY).isPresent()) {
+            category = EventParserUtil.parseCategory(argMultimap.getValue(PREFIX_CATEGORY).get());
+        }
+        return new AttendeesCommand(index, category);
+    }
+}
@@ -13,6 +13,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_EVENTNAME = new Prefix("en/");
     public static final Prefix PREFIX_EVENTCATEGORY = new Prefix("ec/");
     public static final Prefix PREFIX_EVENTDATE = new Prefix("ed/");
+    public static final Prefix PREFIX_STARTTIME = new Prefix("st/");
+    public static final Prefix PREFIX_ENDTIME = new Prefix("et/");
     public static final Prefix PREFIX_GROUP = new Prefix("g/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
 
 }
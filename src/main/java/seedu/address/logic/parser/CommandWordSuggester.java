@@ -0,0 +1,123 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Suggests the valid command words closest to a misspelled one.
+ * The valid words are kept in a BK-tree, where the children of a word are keyed by their edit distance to it. By the
+ * triangle inequality, only the children whose key is within the allowed distance of the distance between the
+ * misspelled word and their parent can hold a suggestion, so a lookup visits few of the words.
+ */
+public class CommandWordSuggester {
+
+    private final Node root;
+
+    /**
+     * Creates a suggester of the given valid {@code commandWords}, which must not be empty.
+     */
+    public CommandWordSuggester(List<String> commandWords) {
+        requireNonNull(commandWords);
+        root = new Node(commandWords.get(0));
+        for (String commandWord : commandWords.subList(1, commandWords.size())) {
+            root.add(commandWord);
+        }
+    }
+
+    /**
+     * Returns the maximum number of edits allowed between {@code word} and a suggestion for it. Words of at most two
+     * characters get no suggestions, as nearly any short word would be close to them.
+     */
+    static int getMaxDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 4 ? 1 : 2;
+    }
+
+    /**
+     * Returns the valid command words that are at most a few edits away from {@code word}, closest first and then in
+     * alphabetical order. Returns an empty list if {@code word} is itself valid.
+     */
+    public List<String> suggest(String word) {
+        requireNonNull(word);
+        int maxDistance = getMaxDistance(word);
+        List<String> suggestions = new ArrayList<>();
+        Map<String, Integer> distances = new HashMap<>();
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                return new ArrayList<>();
+            }
+            if (distance <= maxDistance) {
+                suggestions.add(node.word);
+                distances.put(node.word, distance);
+            }
+            for (int key = Math.max(1, distance - maxDistance); key <= distance + maxDistance; key++) {
+                Node child = node.children.get(key);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        suggestions.sort(Comparator.comparing((String suggestion) -> distances.get(suggestion))
+                .thenComparing(Comparator.naturalOrder()));
+        return suggestions;
+    }
+
+    /**
+     * Returns the only valid command word closest to {@code word}, or an empty {@code Optional} if there are no
+     * suggestions for it or several suggestions are equally close.
+     */
+    public Optional<String> correct(String word) {
+        List<String> suggestions = suggest(word);
+        if (suggestions.isEmpty()) {
+            return Optional.empty();
+        }
+        int closestDistance = StringUtil.editDistance(word, suggestions.get(0));
+        boolean isTied = suggestions.size() > 1
+                && StringUtil.editDistance(word, suggestions.get(1)) == closestDistance;
+        return isTied ? Optional.empty() : Optional.of(suggestions.get(0));
+    }
+
+    /**
+     * A word in the BK-tree with its children keyed by their edit distance to it.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+
+        private void add(String newWord) {
+            Node node = this;
+            while (true) {
+                int distance = StringUtil.editDistance(newWord, node.word);
+                if (distance == 0) {
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(newWord));
+                    return;
+                }
+                node = child;
+            }
+        }
+    }
+}
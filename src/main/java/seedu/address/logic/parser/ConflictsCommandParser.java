@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
+
+/**
+ * Parses input arguments and creates a new ConflictsCommand object
+ */
+public class ConflictsCommandParser implements EventParser<ConflictsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConflictsCommand
+     * and returns a ConflictsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConflictsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EMAIL, PREFIX_CATEGORY);
+
+        boolean hasEmailAndCategory = argMultimap.getValue(PREFIX_EMAIL).isPresent()
+                && argMultimap.getValue(PREFIX_CATEGORY).isPresent();
+        if (!argMultimap.getPreamble().isEmpty() || hasEmailAndCategory) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConflictsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EMAIL, PREFIX_CATEGORY);
+        Email email = null;
+        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            email = EventParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
+        }
+        Category category = null;
+        if (argMultimap.getValue(PREFIX_CATEGORY).isPresent()) {
+            category = EventParserUtil.parseCategory(argMultimap.getValue(PREFIX_CATEGORY).get());
+        }
+        return new ConflictsCommand(email, category);
+    }
+}
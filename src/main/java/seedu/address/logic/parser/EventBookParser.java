@@ -2,19 +2,28 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddEventCommand;
+import seedu.address.logic.commands.AttendeesCommand;
+import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.ClearEventCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
 import seedu.address.logic.commands.EventCommand;
 import seedu.address.logic.commands.FindEventCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.commands.RegisterCommand;
+import seedu.address.logic.commands.UnregisterCommand;
+import seedu.address.logic.commands.UpcomingEventCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 
@@ -24,6 +33,28 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class EventBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandWordSuggester COMMAND_WORD_SUGGESTER = new CommandWordSuggester(List.of(
+            AddEventCommand.COMMAND_WORD, DeleteEventCommand.COMMAND_WORD, FindEventCommand.COMMAND_WORD,
+            ListEventCommand.COMMAND_WORD, UpcomingEventCommand.COMMAND_WORD, RegisterCommand.COMMAND_WORD,
+            UnregisterCommand.COMMAND_WORD, AttendeesCommand.COMMAND_WORD, CheckInCommand.COMMAND_WORD,
+            ConflictsCommand.COMMAND_WORD, ClearEventCommand.COMMAND_WORD));
+
+    private final boolean isAutoCorrecting;
+
+    /**
+     * Creates a parser that rejects misspelled command words with suggestions of valid ones.
+     */
+    public EventBookParser() {
+        this(false);
+    }
+
+    /**
+     * Creates a parser that, if {@code isAutoCorrecting}, parses a misspelled command word as the only valid command
+     * word closest to it, and otherwise rejects it with suggestions of valid ones.
+     */
+    public EventBookParser(boolean isAutoCorrecting) {
+        this.isAutoCorrecting = isAutoCorrecting;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -59,14 +90,53 @@ public class EventBookParser {
             return new FindEventCommandParser().parse(arguments);
 
         case ListEventCommand.COMMAND_WORD:
-            return new ListEventCommand();
+            return new ListEventCommandParser().parse(arguments);
+
+        case UpcomingEventCommand.COMMAND_WORD:
+            return new UpcomingEventCommandParser().parse(arguments);
+
+        case RegisterCommand.COMMAND_WORD:
+            return new RegisterCommandParser().parse(arguments);
+
+        case UnregisterCommand.COMMAND_WORD:
+            return new UnregisterCommandParser().parse(arguments);
+
+        case AttendeesCommand.COMMAND_WORD:
+            return new AttendeesCommandParser().parse(arguments);
+
+        case CheckInCommand.COMMAND_WORD:
+            return new CheckInCommandParser().parse(arguments);
+
+        case ConflictsCommand.COMMAND_WORD:
+            return new ConflictsCommandParser().parse(arguments);
 
         case ClearEventCommand.COMMAND_WORD:
             return new ClearEventCommand();
 
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
+            return parseMisspelledCommand(commandWord, arguments);
+        }
+    }
+
+    /**
+     * Parses user input whose {@code commandWord} is not valid. If auto-correction is on and a single valid command
+     * word is closest to {@code commandWord}, the input is parsed with that word instead.
+     *
+     * @throws ParseException with the valid command words closest to {@code commandWord}, if any
+     */
+    private EventCommand parseMisspelledCommand(String commandWord, String arguments) throws ParseException {
+        if (isAutoCorrecting) {
+            Optional<String> correction = COMMAND_WORD_SUGGESTER.correct(commandWord);
+            if (correction.isPresent()) {
+                logger.info("Correcting command word " + commandWord + " to " + correction.get());
+                return parseCommand(correction.get() + arguments);
+            }
+        }
+        List<String> suggestions = COMMAND_WORD_SUGGESTER.suggest(commandWord);
+        if (suggestions.isEmpty()) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, String.join(", ", suggestions)));
     }
 }
@@ -8,6 +8,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.EventCategory;
 import seedu.address.model.event.EventDate;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventTime;
 import seedu.address.model.person.Category;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -90,7 +91,7 @@ public class EventParserUtil {
         if (!Category.isValidCategory(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(trimmedCategory);
+        return Category.of(trimmedCategory);
     }
 
     /**
@@ -145,4 +146,22 @@ public class EventParserUtil {
         }
         return new EventCategory(trimmedCategory);
     }
+
+    /**
+     * Parses a string representation of a start or end time of an event into an EventTime object.
+     *
+     * @param time A string representing the time to be parsed.
+     * @return The parsed EventTime object.
+     * @throws ParseException If the given time string is invalid or cannot be parsed.
+     *                        The error message will contain details about the parsing constraints.
+     * @throws NullPointerException If the input time string is null.
+     */
+    public static EventTime parseEventTime(String time) throws ParseException {
+        requireNonNull(time);
+        String trimmedTime = time.trim();
+        if (!EventTime.isValidTime(trimmedTime)) {
+            throw new ParseException(EventTime.MESSAGE_CONSTRAINTS);
+        }
+        return new EventTime(trimmedTime);
+    }
 }
@@ -1,12 +1,21 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Category;
 import seedu.address.model.person.ContactContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +34,66 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs,
+                PREFIX_CATEGORY, PREFIX_GROUP, PREFIX_NAME, PREFIX_EMAIL);
+        if (hasAnyPrefix(argMultimap)) {
+            return new FindCommand(parseQuery(argMultimap));
+        }
+
+        List<String> keywords = new ArrayList<>();
+        List<String> fuzzyKeywords = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            boolean isFuzzy = keyword.endsWith(FindCommand.FUZZY_SUFFIX)
+                    && keyword.length() > FindCommand.FUZZY_SUFFIX.length();
+            if (isFuzzy) {
+                fuzzyKeywords.add(keyword.substring(0, keyword.length() - FindCommand.FUZZY_SUFFIX.length()));
+            } else {
+                keywords.add(keyword);
+            }
+        }
+
+        return new FindCommand(new ContactContainsKeywordsPredicate(keywords), fuzzyKeywords);
+    }
+
+    private static boolean hasAnyPrefix(ArgumentMultimap argMultimap) {
+        return Stream.of(PREFIX_CATEGORY, PREFIX_GROUP, PREFIX_NAME, PREFIX_EMAIL)
+                .anyMatch(prefix -> argMultimap.getValue(prefix).isPresent());
+    }
 
-        return new FindCommand(new ContactContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Parses the conditions of a structured query. Only the name condition may be given more than once, and every
+     * name keyword must then start a word of the name.
+     * @throws ParseException if a condition is empty or invalid, or if there are bare keywords before the conditions
+     */
+    private static PersonQuery parseQuery(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CATEGORY, PREFIX_GROUP, PREFIX_EMAIL);
+
+        Category category = null;
+        if (argMultimap.getValue(PREFIX_CATEGORY).isPresent()) {
+            category = ParserUtil.parseCategory(argMultimap.getValue(PREFIX_CATEGORY).get());
+        }
+        Integer groupNumber = null;
+        if (argMultimap.getValue(PREFIX_GROUP).isPresent()) {
+            groupNumber = ParserUtil.parseGroup(argMultimap.getValue(PREFIX_GROUP).get()).getGroupNumber();
+        }
+        List<String> nameKeywords = new ArrayList<>();
+        for (String name : argMultimap.getAllValues(PREFIX_NAME)) {
+            if (name.isBlank()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            nameKeywords.addAll(Arrays.asList(name.trim().split("\\s+")));
+        }
+        String emailFragment = null;
+        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            emailFragment = argMultimap.getValue(PREFIX_EMAIL).get().trim();
+            if (emailFragment.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+        }
+        return new PersonQuery(category, groupNumber, nameKeywords, emailFragment);
     }
 
 }
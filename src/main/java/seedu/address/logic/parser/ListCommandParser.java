@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution. Arguments other than a group are ignored.
+     * @throws ParseException if the given group is invalid
+     */
+    public ListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP);
+
+        Optional<String> group = argMultimap.getValue(PREFIX_GROUP);
+        if (group.isEmpty()) {
+            return new ListCommand();
+        }
+
+        try {
+            return new ListCommand(ParserUtil.parseGroup(group.get()).getGroupNumber());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
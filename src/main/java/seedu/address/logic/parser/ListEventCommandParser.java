@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.EventDate;
+
+/**
+ * Parses input arguments and creates a new ListEventCommand object
+ */
+public class ListEventCommandParser implements EventParser<ListEventCommand> {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date must not be after the end date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListEventCommand
+     * and returns a ListEventCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListEventCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        EventDate from = null;
+        EventDate to = null;
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            from = EventParserUtil.parseEventDate(argMultimap.getValue(PREFIX_FROM).get());
+        }
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            to = EventParserUtil.parseEventDate(argMultimap.getValue(PREFIX_TO).get());
+        }
+
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return new ListEventCommand(from, to);
+    }
+}
@@ -94,7 +94,7 @@ public class ParserUtil {
         if (!Category.isValidCategory(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(trimmedCategory);
+        return Category.of(trimmedCategory);
     }
 
     /**
@@ -110,7 +110,7 @@ public class ParserUtil {
             throw new ParseException(Comment.MESSAGE_CONSTRAINTS);
         }
         String result = trimmedComment.replace(",", "");
-        return new Comment(result);
+        return Comment.of(result);
     }
 
     /**
@@ -192,7 +192,7 @@ public class ParserUtil {
             throw new ParseException(Group.MESSAGE_CONSTRAINTS);
         }
 
-        return new Group(groupNumber);
+        return Group.of(groupNumber);
 
     }
 
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RegisterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+
+/**
+ * Parses input arguments and creates a new RegisterCommand object
+ */
+public class RegisterCommandParser implements EventParser<RegisterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RegisterCommand
+     * and returns a RegisterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RegisterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EMAIL);
+
+        if (argMultimap.getValue(PREFIX_EMAIL).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RegisterCommand.MESSAGE_USAGE));
+        }
+
+        Index index;
+        try {
+            index = EventParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RegisterCommand.MESSAGE_USAGE), pe);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EMAIL);
+        Email email = EventParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
+        return new RegisterCommand(index, email);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.UpcomingEventCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UpcomingEventCommand object
+ */
+public class UpcomingEventCommandParser implements EventParser<UpcomingEventCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingEventCommand
+     * and returns an UpcomingEventCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UpcomingEventCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingEventCommand.MESSAGE_USAGE));
+        }
+        return new UpcomingEventCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.logic.parser.alias;
 
+import java.util.List;
+
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -8,6 +10,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AliasParser {
 
+    /** Every alias word this parser recognises. */
+    public static final List<String> ALIAS_WORDS = List.of(AddParticipantAlias.ALIAS_WORD,
+            AddStaffAlias.ALIAS_WORD, AddSponsorAlias.ALIAS_WORD, DeleteAlias.ALIAS_WORD, EditAlias.ALIAS_WORD,
+            ExitAlias.ALIAS_WORD, FindAlias.ALIAS_WORD, UndoAlias.ALIAS_WORD, RedoAlias.ALIAS_WORD);
+
     /**
      * Parses user input into command for execution.
      *
@@ -2,11 +2,23 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.person.NameTrigramIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttributeIndex;
+import seedu.address.model.person.PersonPrefixIndex;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +28,11 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ContactIndex contactIndex;
+    private final PersonSearchIndex searchIndex;
+    private final NameTrigramIndex nameIndex;
+    private final PersonPrefixIndex prefixIndex;
+    private final PersonAttributeIndex attributeIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +43,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        contactIndex = new ContactIndex();
+        searchIndex = new PersonSearchIndex();
+        nameIndex = new NameTrigramIndex();
+        prefixIndex = new PersonPrefixIndex();
+        attributeIndex = new PersonAttributeIndex();
     }
 
     public AddressBook() {}
@@ -46,6 +68,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        contactIndex.setPersons(persons);
+        searchIndex.setPersons(persons);
+        nameIndex.setPersons(persons);
+        prefixIndex.setPersons(persons);
+        attributeIndex.setPersons(persons);
     }
 
     /**
@@ -73,36 +100,155 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexPerson(p);
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     *
+     * @return the person that was replaced, which may be a different instance equal to {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person replacedPerson = persons.setPerson(target, editedPerson);
+        unindexPerson(replacedPerson);
+        indexPerson(editedPerson);
+        return replacedPerson;
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
+     *
+     * @return the person that was removed, which may be a different instance equal to {@code key}.
      */
-    public void removePerson(Person key) {
-        persons.remove(key);
+    public Person removePerson(Person key) {
+        Person removedPerson = persons.remove(key);
+        unindexPerson(removedPerson);
+        return removedPerson;
+    }
+
+    private void indexPerson(Person person) {
+        contactIndex.add(person);
+        searchIndex.add(person);
+        nameIndex.add(person);
+        prefixIndex.add(person);
+        attributeIndex.add(person);
+    }
+
+    private void unindexPerson(Person person) {
+        contactIndex.remove(person);
+        searchIndex.remove(person);
+        nameIndex.remove(person);
+        prefixIndex.remove(person);
+        attributeIndex.remove(person);
     }
 
     /**
-     * Groups {@code target} into {@code groupNumber}.
-     * {@code target} must exist in the address book.
-     * {@code groupNumber} must be a positive integer.
+     * Returns the persons whose email or phone number is exactly {@code emailOrPhone}.
+     */
+    public List<Person> findPersonsByEmailOrPhone(String emailOrPhone) {
+        return contactIndex.find(emailOrPhone);
+    }
+
+    /**
+     * Returns the person in the address book with the same identity as {@code person}, preferring one equal to it.
+     */
+    public Optional<Person> findSamePerson(Person person) {
+        requireNonNull(person);
+        List<Person> candidates = new ArrayList<>(contactIndex.find(person.getEmail().value));
+        candidates.addAll(contactIndex.find(person.getPhone().value));
+        return candidates.stream()
+                .filter(person::equals)
+                .findFirst()
+                .or(() -> candidates.stream().filter(person::isSameIdentity).findFirst());
+    }
+
+    /**
+     * Returns the persons with a name word that is at most a few typos away from {@code keyword}.
+     *
+     * @see NameTrigramIndex#find(String)
+     */
+    public List<Person> findPersonsByFuzzyName(String keyword) {
+        return nameIndex.find(keyword);
+    }
+
+    /**
+     * Returns the persons whose name, a word of whose name, or whose email starts with {@code prefix}.
+     */
+    public List<Person> findPersonsByPrefix(String prefix) {
+        return prefixIndex.find(prefix);
+    }
+
+    /**
+     * Returns the persons matching {@code query}, in no particular order.
+     * The most selective index that applies to the query (category, group, name words or email domain) gives the
+     * candidates, and only those are tested against the whole query. Every person is tested if no index applies.
+     * Like the indexes, the persons tested then include the changes of a batch that is still open.
      */
-    public void groupPerson(Person target, int groupNumber) {
-        requireNonNull(target);
+    public List<Person> findPersons(PersonQuery query) {
+        requireNonNull(query);
+        Collection<Person> candidates = persons.asUnmodifiableCurrentList();
+        for (Collection<Person> indexedCandidates : getIndexedCandidates(query)) {
+            if (indexedCandidates.size() < candidates.size()) {
+                candidates = indexedCandidates;
+            }
+        }
+        return candidates.stream().filter(query).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the candidate persons for {@code query} given by each index that applies to it.
+     */
+    private List<Collection<Person>> getIndexedCandidates(PersonQuery query) {
+        List<Collection<Person>> indexedCandidates = new ArrayList<>();
+        query.getCategory().ifPresent(category -> indexedCandidates.add(attributeIndex.findByCategory(category)));
+        query.getGroupNumber().ifPresent(group -> indexedCandidates.add(attributeIndex.findByGroup(group)));
+        query.getEmailDomainPrefix().ifPresent(domain -> indexedCandidates.add(
+                attributeIndex.findByEmailDomainPrefix(domain)));
+        for (String nameKeyword : query.getNameKeywords()) {
+            indexedCandidates.add(prefixIndex.find(nameKeyword));
+        }
+        return indexedCandidates;
+    }
 
-        persons.groupPerson(target, groupNumber);
+    /**
+     * Returns the persons in the group numbered {@code groupNumber}.
+     */
+    public Set<Person> getGroupMembers(int groupNumber) {
+        return attributeIndex.findByGroup(groupNumber);
+    }
+
+    /**
+     * Returns the number of persons in each category and in each group, kept up to date as the persons change.
+     */
+    public PersonStatistics getPersonStatistics() {
+        return attributeIndex;
+    }
+
+    /**
+     * Returns at most {@code limit} of the persons whose name or comment matches any of {@code keywords}, the most
+     * relevant first.
+     */
+    public List<Person> searchPersons(List<String> keywords, int limit) {
+        return searchIndex.search(keywords, limit);
+    }
+
+    /**
+     * Defers publishing changes to the person list until {@link #commitBatch()} is called.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Publishes the changes made since {@link #beginBatch()} as a single change to the person list.
+     */
+    public void commitBatch() {
+        persons.commitBatch();
     }
 
     //// util methods
@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDateIndex;
 import seedu.address.model.event.UniqueEventList;
 
 /**
@@ -16,6 +18,7 @@ import seedu.address.model.event.UniqueEventList;
 public class EventBook implements ReadOnlyEventBook {
 
     private final UniqueEventList events;
+    private final EventDateIndex dateIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +29,7 @@ public class EventBook implements ReadOnlyEventBook {
      */
     {
         events = new UniqueEventList();
+        dateIndex = new EventDateIndex();
     }
 
     public EventBook() {}
@@ -46,6 +50,7 @@ public class EventBook implements ReadOnlyEventBook {
      */
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        dateIndex.setEvents(events);
     }
 
     /**
@@ -73,6 +78,7 @@ public class EventBook implements ReadOnlyEventBook {
      */
     public void addEvent(Event e) {
         events.add(e);
+        dateIndex.add(e);
     }
 
 
@@ -85,6 +91,8 @@ public class EventBook implements ReadOnlyEventBook {
         requireNonNull(editedEvent);
 
         events.setEvent(target, editedEvent);
+        dateIndex.remove(target);
+        dateIndex.add(editedEvent);
     }
 
     /**
@@ -93,6 +101,23 @@ public class EventBook implements ReadOnlyEventBook {
      */
     public void removeEvent(Event key) {
         events.remove(key);
+        dateIndex.remove(key);
+    }
+
+    //// date queries
+
+    /**
+     * Returns the events dated from {@code from} to {@code to}, both inclusive, in date order.
+     */
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        return dateIndex.getEventsBetween(from, to);
+    }
+
+    /**
+     * Returns at most {@code count} of the earliest events dated on or after {@code from}, in date order.
+     */
+    public List<Event> getUpcomingEvents(LocalDate from, int count) {
+        return dateIndex.getEventsFrom(from, count);
     }
 
     //// util methods
@@ -1,6 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,7 +14,11 @@ import seedu.address.logic.commands.ReversibleCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.model.event.Event;
+import seedu.address.model.participation.CheckIn;
+import seedu.address.model.person.Category;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonStatistics;
 
 /**
  * The API of the Model component.
@@ -87,11 +95,62 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /**
-     * Groups the given person {@code target} into {@code groupNumber}.
+     * Replaces the given person {@code target} with a copy of it in the group numbered {@code groupNumber}.
      * {@code target} must exist in the address book.
      * {@code groupNumber} must be a positive integer.
+     *
+     * @return the copy of {@code target} in the group.
+     */
+    Person groupPerson(Person target, int groupNumber);
+
+    /**
+     * Returns the persons whose email or phone number is exactly {@code emailOrPhone}.
+     */
+    List<Person> findPersonsByEmailOrPhone(String emailOrPhone);
+
+    /**
+     * Returns at most {@code limit} of the persons whose name, a word of whose name, or whose email starts with
+     * {@code prefix}, ignoring case. The persons used most often, as recorded by {@link #recordPersonUse(Person)},
+     * come first, and persons used equally often are ordered by name.
+     */
+    List<Person> findPersonsByPrefix(String prefix, int limit);
+
+    /**
+     * Records that {@code person} was picked by the user, so that it is suggested earlier by
+     * {@link #findPersonsByPrefix(String, int)}. The use is recorded for the person in the address book with the same
+     * identity as {@code person}, if any.
+     */
+    void recordPersonUse(Person person);
+
+    /**
+     * Returns the persons with a name word that is at most a few typos away from {@code keyword}, ignoring case.
      */
-    void groupPerson(Person target, int groupNumber);
+    List<Person> findPersonsByFuzzyName(String keyword);
+
+    /**
+     * Returns the persons matching every condition of {@code query}, in no particular order.
+     */
+    List<Person> findPersons(PersonQuery query);
+
+    /**
+     * Returns the persons in the group numbered {@code groupNumber}.
+     * Persons that have not been put in a group are in group 0.
+     */
+    Set<Person> getGroupMembers(int groupNumber);
+
+    /**
+     * Returns the number of persons in each category and in each group, kept up to date as the persons change.
+     */
+    PersonStatistics getPersonStatistics();
+
+    /**
+     * Filters the filtered person list to at most {@code limit} of the persons whose name or comment matches any of
+     * {@code keywords}, ordered by relevance with the most relevant first.
+     * The order is kept until the filter is next updated with {@link #updateFilteredPersonList(Predicate)}.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void searchFilteredPersonList(List<String> keywords, int limit);
 
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
@@ -104,6 +163,32 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Temporarily filters the filtered person list to persons whose information has a word starting with any of
+     * the given {@code keywords}. The filter in place before the first preview is kept so that it can be restored.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void previewFilteredPersonList(List<String> keywords);
+
+    /**
+     * Ends the preview started by {@link #previewFilteredPersonList(List)} and restores the filter that was in place
+     * before it. Does nothing if no preview is in progress.
+     */
+    void clearFilteredPersonListPreview();
+
+    /**
+     * Starts a transaction on the person list. Until {@link #commitTransaction()} is called, changes to the persons
+     * and to the filter of the filtered person list are not published to the filtered person list, so a command that
+     * makes several changes causes a single update of the displayed list.
+     * Transactions may be nested; only the outermost commit publishes the changes.
+     */
+    void beginTransaction();
+
+    /**
+     * Commits the transaction started by {@link #beginTransaction()}, publishing its changes at once.
+     */
+    void commitTransaction();
 
     /**
      * Returns true if the model has previous address book states to restore.
@@ -140,6 +225,12 @@ public interface Model {
      */
     void addCommand(ReversibleCommand command);
 
+    /**
+     * Forgets the commands in the history for undo/redo, as after the whole data has been replaced they may refer to
+     * persons that no longer exist.
+     */
+    void clearCommandHistory();
+
     void addEvent(Event event);
     void deleteEvent(Event event);
     boolean hasEvent(Event event);
@@ -149,4 +240,101 @@ public interface Model {
     Path getEventBookFilePath();
     public void setEventBook(ReadOnlyEventBook eventBook);
     public void setEventBookFilePath(Path eventBookFilePath);
+
+    /**
+     * Returns the events dated from {@code from} to {@code to}, both inclusive, in date order.
+     */
+    List<Event> getEventsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns at most {@code count} of the earliest events dated on or after {@code from}, in date order.
+     */
+    List<Event> getUpcomingEvents(LocalDate from, int count);
+
+    /**
+     * Returns the registrations of persons for events.
+     */
+    ReadOnlyParticipationBook getParticipationBook();
+
+    /**
+     * Replaces the registrations with the data in {@code participationBook}.
+     */
+    void setParticipationBook(ReadOnlyParticipationBook participationBook);
+
+    /**
+     * Returns true if {@code person} is registered for {@code event}.
+     */
+    boolean isRegisteredForEvent(Person person, Event event);
+
+    /**
+     * Registers {@code person} for {@code event}.
+     * {@code person} must exist in the address book and {@code event} must exist in the event book.
+     */
+    void registerForEvent(Person person, Event event);
+
+    /**
+     * Unregisters {@code person} from {@code event}.
+     */
+    void unregisterFromEvent(Person person, Event event);
+
+    /**
+     * Returns the persons registered for {@code event}.
+     */
+    List<Person> getAttendees(Event event);
+
+    /**
+     * Returns the persons of the given {@code category} registered for {@code event}.
+     */
+    List<Person> getAttendees(Event event, Category category);
+
+    /**
+     * Returns the number of persons registered for {@code event}.
+     */
+    int getAttendeeCount(Event event);
+
+    /**
+     * Returns the events {@code person} is registered for.
+     */
+    List<Event> getRegisteredEvents(Person person);
+
+    /**
+     * Starts checking in arrivals at {@code event}, ending any check-in in progress.
+     */
+    void startCheckIn(Event event);
+
+    /**
+     * Returns the event whose arrivals are being checked in, if any.
+     */
+    Optional<Event> getCheckInEvent();
+
+    /**
+     * Ends the check-in in progress. Does nothing if there is none.
+     */
+    void endCheckIn();
+
+    /**
+     * Returns the check-in of {@code person} at {@code event}, if the person has checked in.
+     */
+    Optional<CheckIn> getCheckIn(Person person, Event event);
+
+    /**
+     * Appends {@code checkIn} to the check-in log.
+     * The person must not already be checked in at the event.
+     */
+    void addCheckIn(CheckIn checkIn);
+
+    /**
+     * Returns the number of persons checked in at {@code event}.
+     */
+    int getCheckInCount(Event event);
+
+    /**
+     * Returns an unmodifiable view of the check-in log, in the order the check-ins were added.
+     */
+    List<CheckIn> getCheckIns();
+
+    /**
+     * Replaces the check-in log with {@code checkIns}.
+     */
+    void setCheckIns(List<CheckIn> checkIns);
 }
@@ -4,11 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
@@ -18,7 +32,13 @@ import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.logic.commands.history.CommandHistoryManager;
 import seedu.address.logic.commands.history.ReversibleCommandHistory;
 import seedu.address.model.event.Event;
+import seedu.address.model.participation.CheckIn;
+import seedu.address.model.participation.CheckInLog;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.IncrementalContactMatcher;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonStatistics;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,26 +48,54 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final EventBook eventBook;
+    private final ParticipationBook participationBook;
+    private final CheckInLog checkInLog;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Event> filteredEvents;
     private final ReversibleCommandHistory commandHistory;
+    private final IncrementalContactMatcher contactMatcher;
+    private final Map<Person, Integer> personUseCounts = new HashMap<>();
+
+    private boolean isPreviewing;
+    private Predicate<? super Person> predicateBeforePreview;
+
+    private int transactionDepth;
+    private Predicate<? super Person> pendingPredicate;
+
+    private Event checkInEvent;
+
+    private boolean isOrderedByRelevance;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs, and an
+     * Initializes a ModelManager with the given addressBook, eventBook, participationBook and userPrefs, and an
      * empty command history.
      */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook,
+            ReadOnlyParticipationBook participationBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, participationBook, userPrefs);
 
         logger.fine("Initializing with data file: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.eventBook = new EventBook(eventBook);
+        this.participationBook = new ParticipationBook(participationBook);
+        this.checkInLog = new CheckInLog();
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredEvents = new FilteredList<>(this.eventBook.getEventList());
         commandHistory = new CommandHistoryManager();
+        contactMatcher = new IncrementalContactMatcher(this.addressBook.getPersonList());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, eventBook and userPrefs, no registrations and an
+     * empty command history.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, eventBook, new ParticipationBook(), userPrefs);
     }
 
     public ModelManager() {
@@ -96,6 +144,14 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        // the new address book may have other objects for the same persons, e.g. when it is read from a snapshot
+        participationBook.replacePersons(person -> this.addressBook.findSamePerson(person));
+        Set<Person> checkedInPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        checkInLog.getCheckIns().forEach(checkIn -> checkedInPersons.add(checkIn.getPerson()));
+        for (Person person : checkedInPersons) {
+            this.addressBook.findSamePerson(person).ifPresent(samePerson -> checkInLog.setPerson(person, samePerson));
+        }
+        personUseCounts.keySet().retainAll(new HashSet<>(this.addressBook.getPersonList()));
     }
 
     @Override
@@ -111,7 +167,9 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        Person removedPerson = addressBook.removePerson(target);
+        participationBook.removePerson(removedPerson);
+        personUseCounts.remove(removedPerson);
     }
 
     @Override
@@ -124,14 +182,79 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        Person replacedPerson = addressBook.setPerson(target, editedPerson);
+        participationBook.setPerson(replacedPerson, editedPerson);
+        checkInLog.setPerson(replacedPerson, editedPerson);
+        Integer useCount = personUseCounts.remove(replacedPerson);
+        if (useCount != null) {
+            personUseCounts.put(editedPerson, useCount);
+        }
+    }
+
+    @Override
+    public List<Person> findPersonsByEmailOrPhone(String emailOrPhone) {
+        requireNonNull(emailOrPhone);
+        return addressBook.findPersonsByEmailOrPhone(emailOrPhone);
+    }
+
+    @Override
+    public List<Person> findPersonsByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        Comparator<Person> byUse = Comparator.comparingInt((Person person) -> personUseCounts.getOrDefault(person, 0))
+                .thenComparing(person -> person.getName().fullName, Comparator.reverseOrder());
+        // keeps the most used matches seen so far, with the least used of them at the head
+        PriorityQueue<Person> mostUsed = new PriorityQueue<>(byUse);
+        for (Person person : addressBook.findPersonsByPrefix(prefix)) {
+            mostUsed.add(person);
+            if (mostUsed.size() > limit) {
+                mostUsed.poll();
+            }
+        }
+        List<Person> matches = new ArrayList<>(mostUsed.size());
+        while (!mostUsed.isEmpty()) {
+            matches.add(mostUsed.poll());
+        }
+        Collections.reverse(matches);
+        return matches;
+    }
+
+    @Override
+    public void recordPersonUse(Person person) {
+        requireNonNull(person);
+        // the command the person was picked for may have replaced it, or removed it
+        addressBook.findSamePerson(person)
+                .ifPresent(usedPerson -> personUseCounts.merge(usedPerson, 1, Integer::sum));
+    }
+
+    @Override
+    public List<Person> findPersonsByFuzzyName(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.findPersonsByFuzzyName(keyword);
     }
 
     @Override
-    public void groupPerson(Person target, int groupNumber) {
+    public List<Person> findPersons(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.findPersons(query);
+    }
+
+    @Override
+    public Set<Person> getGroupMembers(int groupNumber) {
+        return addressBook.getGroupMembers(groupNumber);
+    }
+
+    @Override
+    public PersonStatistics getPersonStatistics() {
+        return addressBook.getPersonStatistics();
+    }
+
+    @Override
+    public Person groupPerson(Person target, int groupNumber) {
         requireAllNonNull(target, groupNumber);
 
-        addressBook.groupPerson(target, groupNumber);
+        Person groupedPerson = target.withGroupNumber(groupNumber);
+        setPerson(target, groupedPerson);
+        return groupedPerson;
     }
 
     // =========== Filtered Person List Accessors
@@ -143,12 +266,103 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        endPreview();
+        setFilteredPersonPredicate(predicate);
+        if (isOrderedByRelevance) {
+            isOrderedByRelevance = false;
+            sortedPersons.setComparator(null);
+        }
+    }
+
+    @Override
+    public void searchFilteredPersonList(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        List<Person> results = addressBook.searchPersons(keywords, limit);
+        Map<Person, Integer> ranks = new HashMap<>();
+        for (int rank = 0; rank < results.size(); rank++) {
+            ranks.put(results.get(rank), rank);
+        }
+        endPreview();
+        setFilteredPersonPredicate(ranks::containsKey);
+        // persons that are not search results may still be shown by a preview, so they go after the results
+        sortedPersons.setComparator(Comparator.comparingInt(person -> ranks.getOrDefault(person, results.size())));
+        isOrderedByRelevance = true;
+    }
+
+    @Override
+    public void previewFilteredPersonList(List<String> keywords) {
+        requireNonNull(keywords);
+        if (!isPreviewing) {
+            isPreviewing = true;
+            predicateBeforePreview = filteredPersons.getPredicate();
+            contactMatcher.reset();
+        }
+        setFilteredPersonPredicate(contactMatcher.match(keywords));
+    }
+
+    @Override
+    public void clearFilteredPersonListPreview() {
+        if (!isPreviewing) {
+            return;
+        }
+        Predicate<? super Person> predicate = predicateBeforePreview;
+        endPreview();
+        setFilteredPersonPredicate(predicate);
+    }
+
+    /**
+     * Ends the preview, if any, discarding the words the preview cached, which include the texts of the comments.
+     */
+    private void endPreview() {
+        if (isPreviewing) {
+            contactMatcher.reset();
+        }
+        isPreviewing = false;
+        predicateBeforePreview = null;
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (transactionDepth == 0) {
+            pendingPredicate = filteredPersons.getPredicate();
+            addressBook.beginBatch();
+        }
+        transactionDepth++;
+    }
+
+    @Override
+    public void commitTransaction() {
+        if (transactionDepth == 0) {
+            return;
+        }
+        transactionDepth--;
+        if (transactionDepth > 0) {
+            return;
+        }
+        addressBook.commitBatch();
+        Predicate<? super Person> predicate = pendingPredicate;
+        pendingPredicate = null;
+        setFilteredPersonPredicate(predicate);
+    }
+
+    /**
+     * Sets the predicate of the filtered person list, deferring it to the end of the current transaction if there is
+     * one. The filtered list is not re-evaluated if {@code predicate} is the predicate already in place.
+     */
+    private void setFilteredPersonPredicate(Predicate<? super Person> predicate) {
+        if (transactionDepth > 0) {
+            pendingPredicate = predicate;
+            return;
+        }
+        if (Objects.equals(predicate, filteredPersons.getPredicate())) {
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -176,6 +390,11 @@ public class ModelManager implements Model {
         commandHistory.addCommand(command);
     }
 
+    @Override
+    public void clearCommandHistory() {
+        commandHistory.clear();
+    }
+
     @Override
     public boolean canUndoAddressBook() {
         return commandHistory.canUndo();
@@ -209,6 +428,10 @@ public class ModelManager implements Model {
     @Override
     public void deleteEvent(Event target) {
         eventBook.removeEvent(target);
+        participationBook.removeEvent(target);
+        if (target.equals(checkInEvent)) {
+            endCheckIn();
+        }
     }
 
     @Override
@@ -222,6 +445,11 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedEvent);
 
         eventBook.setEvent(target, editedEvent);
+        participationBook.setEvent(target, editedEvent);
+        checkInLog.setEvent(target, editedEvent);
+        if (target.equals(checkInEvent)) {
+            checkInEvent = editedEvent;
+        }
     }
 
     @Override
@@ -254,6 +482,125 @@ public class ModelManager implements Model {
     @Override
     public void setEventBook(ReadOnlyEventBook eventBook) {
         this.eventBook.resetData(eventBook);
+        participationBook.retainEvents(this.eventBook.getEventList());
+        if (checkInEvent != null && !this.eventBook.hasEvent(checkInEvent)) {
+            endCheckIn();
+        }
+    }
+
+    @Override
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return eventBook.getEventsBetween(from, to);
+    }
+
+    @Override
+    public List<Event> getUpcomingEvents(LocalDate from, int count) {
+        requireNonNull(from);
+        return eventBook.getUpcomingEvents(from, count);
+    }
+
+    // =========== Participation
+    // ========================================================================
+
+    @Override
+    public ReadOnlyParticipationBook getParticipationBook() {
+        return participationBook;
+    }
+
+    @Override
+    public void setParticipationBook(ReadOnlyParticipationBook participationBook) {
+        requireNonNull(participationBook);
+        this.participationBook.resetData(participationBook);
+    }
+
+    @Override
+    public boolean isRegisteredForEvent(Person person, Event event) {
+        requireAllNonNull(person, event);
+        return participationBook.isRegistered(person, event);
+    }
+
+    @Override
+    public void registerForEvent(Person person, Event event) {
+        requireAllNonNull(person, event);
+        participationBook.register(person, event);
+    }
+
+    @Override
+    public void unregisterFromEvent(Person person, Event event) {
+        requireAllNonNull(person, event);
+        participationBook.unregister(person, event);
+    }
+
+    @Override
+    public List<Person> getAttendees(Event event) {
+        requireNonNull(event);
+        return participationBook.getAttendees(event);
+    }
+
+    @Override
+    public List<Person> getAttendees(Event event, Category category) {
+        requireAllNonNull(event, category);
+        return participationBook.getAttendees(event, category);
     }
 
+    @Override
+    public int getAttendeeCount(Event event) {
+        requireNonNull(event);
+        return participationBook.getAttendeeCount(event);
+    }
+
+    @Override
+    public List<Event> getRegisteredEvents(Person person) {
+        requireNonNull(person);
+        return participationBook.getEvents(person);
+    }
+
+    // =========== Check-in
+    // ========================================================================
+
+    @Override
+    public void startCheckIn(Event event) {
+        requireNonNull(event);
+        checkInEvent = event;
+    }
+
+    @Override
+    public Optional<Event> getCheckInEvent() {
+        return Optional.ofNullable(checkInEvent);
+    }
+
+    @Override
+    public void endCheckIn() {
+        checkInEvent = null;
+    }
+
+    @Override
+    public Optional<CheckIn> getCheckIn(Person person, Event event) {
+        requireAllNonNull(person, event);
+        return checkInLog.getCheckIn(person, event);
+    }
+
+    @Override
+    public void addCheckIn(CheckIn checkIn) {
+        requireNonNull(checkIn);
+        checkInLog.append(checkIn);
+    }
+
+    @Override
+    public int getCheckInCount(Event event) {
+        requireNonNull(event);
+        return checkInLog.getCheckInCount(event);
+    }
+
+    @Override
+    public List<CheckIn> getCheckIns() {
+        return checkInLog.getCheckIns();
+    }
+
+    @Override
+    public void setCheckIns(List<CheckIn> checkIns) {
+        requireNonNull(checkIns);
+        checkInLog.resetData(checkIns);
+    }
 }
@@ -0,0 +1,300 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.participation.DenseIdTable;
+import seedu.address.model.participation.Registration;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Person;
+
+/**
+ * Wraps the registrations of persons for events.
+ * Persons and events that have registrations get dense ids, and the registrations are kept as a bitset of person ids
+ * per event and a bitset of event ids per person. Persons are also kept in a bitset per category, so filtering the
+ * attendees of an event by category is a bitset intersection.
+ * Persons are tracked by reference, so a person that is replaced in the address book must be replaced here too.
+ */
+public class ParticipationBook implements ReadOnlyParticipationBook {
+
+    private final DenseIdTable<Person> persons = new DenseIdTable<>(new IdentityHashMap<>());
+    private final DenseIdTable<Event> events = new DenseIdTable<>(new HashMap<>());
+    private final Map<Category, BitSet> personsByCategory = new HashMap<>();
+
+    public ParticipationBook() {}
+
+    /**
+     * Creates a ParticipationBook using the registrations in the {@code toBeCopied}
+     */
+    public ParticipationBook(ReadOnlyParticipationBook toBeCopied) {
+        this();
+        resetData(toBeCopied);
+    }
+
+    /**
+     * Resets the existing data of this {@code ParticipationBook} with {@code newData}.
+     */
+    public void resetData(ReadOnlyParticipationBook newData) {
+        requireNonNull(newData);
+        persons.clear();
+        events.clear();
+        personsByCategory.clear();
+        for (Registration registration : newData.getRegistrations()) {
+            register(registration.getPerson(), registration.getEvent());
+        }
+    }
+
+    //// registration-level operations
+
+    /**
+     * Returns true if {@code person} is registered for {@code event}.
+     */
+    public boolean isRegistered(Person person, Event event) {
+        requireAllNonNull(person, event);
+        int personId = persons.idOf(person);
+        int eventId = events.idOf(event);
+        return personId >= 0 && eventId >= 0 && events.linksOf(eventId).get(personId);
+    }
+
+    /**
+     * Registers {@code person} for {@code event}. Does nothing if the person is already registered.
+     */
+    public void register(Person person, Event event) {
+        requireAllNonNull(person, event);
+        boolean isNewPerson = persons.idOf(person) < 0;
+        int personId = persons.idOrAssign(person);
+        int eventId = events.idOrAssign(event);
+        if (isNewPerson) {
+            personsByCategory.computeIfAbsent(person.getCategory(), category -> new BitSet()).set(personId);
+        }
+        events.linksOf(eventId).set(personId);
+        persons.linksOf(personId).set(eventId);
+    }
+
+    /**
+     * Unregisters {@code person} from {@code event}. Does nothing if the person is not registered.
+     */
+    public void unregister(Person person, Event event) {
+        requireAllNonNull(person, event);
+        int personId = persons.idOf(person);
+        int eventId = events.idOf(event);
+        if (personId < 0 || eventId < 0) {
+            return;
+        }
+        events.linksOf(eventId).clear(personId);
+        persons.linksOf(personId).clear(eventId);
+        releaseEventIfUnused(eventId);
+        releasePersonIfUnused(personId);
+    }
+
+    /**
+     * Returns the persons registered for {@code event}.
+     */
+    public List<Person> getAttendees(Event event) {
+        requireNonNull(event);
+        int eventId = events.idOf(event);
+        if (eventId < 0) {
+            return Collections.emptyList();
+        }
+        return persons.getItems(events.linksOf(eventId));
+    }
+
+    /**
+     * Returns the number of persons registered for {@code event}.
+     */
+    public int getAttendeeCount(Event event) {
+        requireNonNull(event);
+        int eventId = events.idOf(event);
+        return eventId < 0 ? 0 : events.linksOf(eventId).cardinality();
+    }
+
+    /**
+     * Returns the persons of the given {@code category} registered for {@code event}.
+     */
+    public List<Person> getAttendees(Event event, Category category) {
+        requireAllNonNull(event, category);
+        int eventId = events.idOf(event);
+        BitSet personsInCategory = personsByCategory.get(category);
+        if (eventId < 0 || personsInCategory == null) {
+            return Collections.emptyList();
+        }
+        BitSet attendees = (BitSet) events.linksOf(eventId).clone();
+        attendees.and(personsInCategory);
+        return persons.getItems(attendees);
+    }
+
+    /**
+     * Returns the events {@code person} is registered for.
+     */
+    public List<Event> getEvents(Person person) {
+        requireNonNull(person);
+        int personId = persons.idOf(person);
+        if (personId < 0) {
+            return Collections.emptyList();
+        }
+        return events.getItems(persons.linksOf(personId));
+    }
+
+    //// keeping registrations in sync with the address and event books
+
+    /**
+     * Removes every registration of {@code person}.
+     */
+    public void removePerson(Person person) {
+        requireNonNull(person);
+        int personId = persons.idOf(person);
+        if (personId < 0) {
+            return;
+        }
+        BitSet eventIds = persons.linksOf(personId);
+        for (int eventId = eventIds.nextSetBit(0); eventId >= 0; eventId = eventIds.nextSetBit(eventId + 1)) {
+            events.linksOf(eventId).clear(personId);
+            releaseEventIfUnused(eventId);
+        }
+        releasePerson(personId);
+    }
+
+    /**
+     * Moves the registrations of {@code target} to {@code editedPerson}.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        int personId = persons.idOf(target);
+        if (personId < 0) {
+            return;
+        }
+        personsByCategory.get(target.getCategory()).clear(personId);
+        persons.replace(target, editedPerson);
+        personsByCategory.computeIfAbsent(editedPerson.getCategory(), category -> new BitSet()).set(personId);
+    }
+
+    /**
+     * Removes every registration for {@code event}.
+     */
+    public void removeEvent(Event event) {
+        requireNonNull(event);
+        int eventId = events.idOf(event);
+        if (eventId < 0) {
+            return;
+        }
+        BitSet personIds = events.linksOf(eventId);
+        for (int personId = personIds.nextSetBit(0); personId >= 0; personId = personIds.nextSetBit(personId + 1)) {
+            persons.linksOf(personId).clear(eventId);
+            releasePersonIfUnused(personId);
+        }
+        events.release(eventId);
+    }
+
+    /**
+     * Moves the registrations for {@code target} to {@code editedEvent}.
+     */
+    public void setEvent(Event target, Event editedEvent) {
+        requireAllNonNull(target, editedEvent);
+        events.replace(target, editedEvent);
+    }
+
+    /**
+     * Moves the registrations of each person to the person {@code replacements} gives for it, such as the same person
+     * read back from a snapshot, and removes the registrations of the persons it gives no person for.
+     */
+    public void replacePersons(Function<Person, Optional<Person>> replacements) {
+        requireNonNull(replacements);
+        for (Person person : persons.getItems()) {
+            Optional<Person> replacement = replacements.apply(person);
+            if (replacement.isEmpty()) {
+                removePerson(person);
+            } else if (replacement.get() != person && persons.idOf(replacement.get()) < 0) {
+                setPerson(person, replacement.get());
+            } else if (replacement.get() != person) {
+                // the replacement has registrations of its own, so those of the person are added to them
+                List<Event> personEvents = getEvents(person);
+                removePerson(person);
+                personEvents.forEach(event -> register(replacement.get(), event));
+            }
+        }
+    }
+
+    /**
+     * Removes the registrations for events that are not in {@code eventsToKeep}.
+     */
+    public void retainEvents(List<Event> eventsToKeep) {
+        requireNonNull(eventsToKeep);
+        Set<Event> keep = new HashSet<>(eventsToKeep);
+        for (Event event : events.getItems()) {
+            if (!keep.contains(event)) {
+                removeEvent(event);
+            }
+        }
+    }
+
+    private void releasePersonIfUnused(int personId) {
+        if (persons.linksOf(personId).isEmpty()) {
+            releasePerson(personId);
+        }
+    }
+
+    private void releasePerson(int personId) {
+        personsByCategory.get(persons.get(personId).getCategory()).clear(personId);
+        persons.release(personId);
+    }
+
+    private void releaseEventIfUnused(int eventId) {
+        if (events.linksOf(eventId).isEmpty()) {
+            events.release(eventId);
+        }
+    }
+
+    //// util methods
+
+    @Override
+    public List<Registration> getRegistrations() {
+        List<Registration> registrations = new ArrayList<>();
+        for (Event event : events.getItems()) {
+            for (Person person : getAttendees(event)) {
+                registrations.add(new Registration(person, event));
+            }
+        }
+        return registrations;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("registrations", getRegistrations())
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ParticipationBook)) {
+            return false;
+        }
+
+        ParticipationBook otherParticipationBook = (ParticipationBook) other;
+        return new HashSet<>(getRegistrations()).equals(new HashSet<>(otherParticipationBook.getRegistrations()));
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashSet<>(getRegistrations()).hashCode();
+    }
+}
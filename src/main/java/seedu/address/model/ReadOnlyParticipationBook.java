@@ -0,0 +1,16 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.participation.Registration;
+
+/**
+ * Unmodifiable view of the registrations of persons for events
+ */
+public interface ReadOnlyParticipationBook {
+
+    /**
+     * Returns every registration, grouped by event.
+     */
+    List<Registration> getRegistrations();
+}
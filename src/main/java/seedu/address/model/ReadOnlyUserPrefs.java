@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageBackend;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,19 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if a misspelled command word should be run as the only valid command word closest to it.
+     */
+    boolean isAutoCorrectCommands();
+
+    /**
+     * Returns the format the data files are saved in.
+     */
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns where the address book and the event book are kept.
+     */
+    StorageBackend getStorageBackend();
+
 }
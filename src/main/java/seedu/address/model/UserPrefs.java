@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageBackend;
 
 /**
  * Represents User's preferences.
@@ -16,6 +18,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path eventBookFilePath = Paths.get("data" , "eventbook.json");
+    private Path participationBookFilePath = Paths.get("data" , "participationbook.json");
+    private Path checkInLogFilePath = Paths.get("data" , "checkins.csv");
+    private boolean autoCorrectCommands = false;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private StorageBackend storageBackend = StorageBackend.JSON;
 
 
     /**
@@ -38,6 +45,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAutoCorrectCommands(newUserPrefs.isAutoCorrectCommands());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setStorageBackend(newUserPrefs.getStorageBackend());
     }
 
     public GuiSettings getGuiSettings() {
@@ -71,12 +81,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && autoCorrectCommands == otherUserPrefs.autoCorrectCommands
+                && dataFileFormat == otherUserPrefs.dataFileFormat
+                && storageBackend == otherUserPrefs.storageBackend;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, autoCorrectCommands, dataFileFormat, storageBackend);
     }
 
     @Override
@@ -94,4 +107,48 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setEventBookFilePath(Path eventBookFilePath) {
         this.eventBookFilePath = eventBookFilePath;
     }
+
+    public Path getParticipationBookFilePath() {
+        return participationBookFilePath;
+    }
+
+    public void setParticipationBookFilePath(Path participationBookFilePath) {
+        requireNonNull(participationBookFilePath);
+        this.participationBookFilePath = participationBookFilePath;
+    }
+
+    public Path getCheckInLogFilePath() {
+        return checkInLogFilePath;
+    }
+
+    public void setCheckInLogFilePath(Path checkInLogFilePath) {
+        requireNonNull(checkInLogFilePath);
+        this.checkInLogFilePath = checkInLogFilePath;
+    }
+
+    public boolean isAutoCorrectCommands() {
+        return autoCorrectCommands;
+    }
+
+    public void setAutoCorrectCommands(boolean autoCorrectCommands) {
+        this.autoCorrectCommands = autoCorrectCommands;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public StorageBackend getStorageBackend() {
+        return storageBackend;
+    }
+
+    public void setStorageBackend(StorageBackend storageBackend) {
+        requireNonNull(storageBackend);
+        this.storageBackend = storageBackend;
+    }
 }
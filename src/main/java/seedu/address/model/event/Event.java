@@ -1,15 +1,27 @@
 package seedu.address.model.event;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents a Event in the event book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The start and end times are optional, but an event has either both or neither. An event without times takes up
+ * the whole of its date.
  */
 public class Event {
+    public static final String MESSAGE_TIME_RANGE_CONSTRAINTS =
+            "An event should have both a start and an end time, or neither, and it should end after it starts.";
+
     private final EventName eventName;
     private final EventCategory eventCategory;
     private final EventDate eventDate;
+    private final EventTime startTime;
+    private final EventTime endTime;
 
     /**
      * Constructs an Event object with the specified name, date, and category.
@@ -19,9 +31,38 @@ public class Event {
      * @param eventCategory The category of the event.
      */
     public Event(EventName eventName, EventDate eventDate, EventCategory eventCategory) {
+        this(eventName, eventDate, eventCategory, null, null);
+    }
+
+    /**
+     * Constructs an Event object with the specified name, date, category and times.
+     * The times must be a valid time range as declared in {@link #isValidTimeRange(EventTime, EventTime)}.
+     *
+     * @param eventName The name of the event.
+     * @param eventDate The date of the event.
+     * @param eventCategory The category of the event.
+     * @param startTime The start time of the event, or null if the event has no times.
+     * @param endTime The end time of the event, or null if the event has no times.
+     */
+    public Event(EventName eventName, EventDate eventDate, EventCategory eventCategory, EventTime startTime,
+            EventTime endTime) {
+        checkArgument(isValidTimeRange(startTime, endTime), MESSAGE_TIME_RANGE_CONSTRAINTS);
         this.eventName = eventName;
         this.eventCategory = eventCategory;
         this.eventDate = eventDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Returns true if {@code startTime} and {@code endTime} are both null, or if {@code endTime} is after
+     * {@code startTime}.
+     */
+    public static boolean isValidTimeRange(EventTime startTime, EventTime endTime) {
+        if (startTime == null || endTime == null) {
+            return startTime == null && endTime == null;
+        }
+        return endTime.compareTo(startTime) > 0;
     }
 
     public EventName getEventName() {
@@ -36,6 +77,39 @@ public class Event {
         return this.eventDate;
     }
 
+    public Optional<EventTime> getStartTime() {
+        return Optional.ofNullable(startTime);
+    }
+
+    public Optional<EventTime> getEndTime() {
+        return Optional.ofNullable(endTime);
+    }
+
+    /**
+     * Returns the moment the event starts, which is the start of its date if it has no times.
+     */
+    public LocalDateTime getStart() {
+        LocalTime time = startTime == null ? LocalTime.MIDNIGHT : startTime.getTime();
+        return eventDate.getDate().atTime(time);
+    }
+
+    /**
+     * Returns the moment the event ends, which is the end of its date if it has no times.
+     */
+    public LocalDateTime getEnd() {
+        return endTime == null
+                ? eventDate.getDate().plusDays(1).atStartOfDay()
+                : eventDate.getDate().atTime(endTime.getTime());
+    }
+
+    /**
+     * Returns true if this event and {@code otherEvent} take place at the same time for some period.
+     * An event that ends when the other starts does not overlap it.
+     */
+    public boolean overlaps(Event otherEvent) {
+        return getStart().isBefore(otherEvent.getEnd()) && otherEvent.getStart().isBefore(getEnd());
+    }
+
     /**
      * Returns true if both events have the same event name and event category.
      * This defines a weaker notion of equality between two events.
@@ -52,7 +126,7 @@ public class Event {
     }
 
     /**
-     * Returns true if both events have the same event name, event date and event category.
+     * Returns true if both events have the same event name, event date, event category and times.
      * This defines a stronger notion of equality between two events.
      */
     @Override
@@ -70,13 +144,15 @@ public class Event {
         return otherEvent != null
                 && (eventName.equals(otherEvent.eventName)
                 && eventDate.equals(otherEvent.eventDate)
-                && eventCategory.equals(otherEvent.eventCategory));
+                && eventCategory.equals(otherEvent.eventCategory)
+                && Objects.equals(startTime, otherEvent.startTime)
+                && Objects.equals(endTime, otherEvent.endTime));
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(eventName, eventDate, eventCategory);
+        return Objects.hash(eventName, eventDate, eventCategory, startTime, endTime);
     }
 
     @Override
@@ -86,7 +162,8 @@ public class Event {
                 + ", eventDate="
                 + eventDate
                 + ", eventCategory="
-                + eventCategory;
+                + eventCategory
+                + (startTime == null ? "" : ", startTime=" + startTime + ", endTime=" + endTime);
     }
 
 
@@ -0,0 +1,63 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents two events that overlap in time, the earlier-starting one first.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class EventConflict {
+
+    private final Event first;
+    private final Event second;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public EventConflict(Event first, Event second) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+    }
+
+    public Event getFirst() {
+        return first;
+    }
+
+    public Event getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventConflict)) {
+            return false;
+        }
+
+        EventConflict otherConflict = (EventConflict) other;
+        return first.equals(otherConflict.first)
+                && second.equals(otherConflict.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("second", second)
+                .toString();
+    }
+}
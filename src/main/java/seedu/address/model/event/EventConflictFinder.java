@@ -0,0 +1,52 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Finds the pairs of events that overlap in time.
+ * The events are swept in order of their start, keeping the events that have started but not ended in a set
+ * ordered by their end. Each event overlaps exactly the events still in the set when it starts, which are the ones
+ * left once the events that ended are taken from the front of the set, so finding the conflicts of n events takes
+ * O(n log n) time plus the number of conflicts found.
+ */
+public class EventConflictFinder {
+
+    private static final Comparator<Event> BY_START = Comparator.comparing(Event::getStart)
+            .thenComparing(Event::getEnd);
+
+    private EventConflictFinder() {} // prevents instantiation
+
+    /**
+     * Returns the pairs of overlapping events among {@code events}, ordered by the start of the later event of
+     * each pair, then by the end of the earlier event.
+     */
+    public static List<EventConflict> findConflicts(Collection<Event> events) {
+        requireNonNull(events);
+        List<Event> eventsByStart = new ArrayList<>(events);
+        eventsByStart.sort(BY_START);
+
+        List<EventConflict> conflicts = new ArrayList<>();
+        // the ongoing events are kept by their positions in start order, which also tell apart events ending together
+        NavigableSet<Integer> ongoing = new TreeSet<>(Comparator
+                .comparing((Integer position) -> eventsByStart.get(position).getEnd())
+                .thenComparing(Comparator.naturalOrder()));
+        for (int position = 0; position < eventsByStart.size(); position++) {
+            Event event = eventsByStart.get(position);
+            while (!ongoing.isEmpty() && !eventsByStart.get(ongoing.first()).getEnd().isAfter(event.getStart())) {
+                ongoing.pollFirst();
+            }
+            for (int earlierPosition : ongoing) {
+                conflicts.add(new EventConflict(eventsByStart.get(earlierPosition), event));
+            }
+            ongoing.add(position);
+        }
+        return conflicts;
+    }
+}
@@ -10,15 +10,19 @@ import java.time.format.DateTimeParseException;
 /**
  * Represents a date for an Event in the event book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
+ * Dates are ordered chronologically.
  */
-public class EventDate {
+public class EventDate implements Comparable<EventDate> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Dates of events should be in DD-MM-YYYY format, and it should not be blank. ";
 
     public static final String VALIDATION_REGEX = "^[0-3]?[0-9].[0-3]?[0-9].(?:[0-9]{2})?[0-9]{2}$";
-    public final String eventDate;
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    public final String eventDate;
+    private final LocalDate date;
 
     /**
      * Constructs a {@code Date}.
@@ -29,22 +33,37 @@ public class EventDate {
         requireNonNull(eventDate);
         checkArgument(isValidDate(eventDate), MESSAGE_CONSTRAINTS);
         this.eventDate = eventDate;
+        this.date = LocalDate.parse(eventDate, DATE_FORMATTER);
     }
 
-
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidDate(String test) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
         try {
-            LocalDate date = LocalDate.parse(test, formatter);
+            LocalDate.parse(test, DATE_FORMATTER);
             return true;
         } catch (DateTimeParseException e) {
             return false;
         }
     }
 
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the number of days from the epoch (1970-01-01) to this date.
+     */
+    public long toEpochDay() {
+        return date.toEpochDay();
+    }
+
+    @Override
+    public int compareTo(EventDate other) {
+        return date.compareTo(other.date);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
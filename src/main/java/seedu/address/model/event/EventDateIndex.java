@@ -0,0 +1,85 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of events ordered by their dates.
+ * Events on the same date are kept in the order they were added.
+ * Range queries only visit the dates within the range.
+ */
+public class EventDateIndex {
+
+    private final NavigableMap<LocalDate, List<Event>> eventsByDate = new TreeMap<>();
+
+    /**
+     * Adds {@code event} to the index.
+     */
+    public void add(Event event) {
+        requireNonNull(event);
+        eventsByDate.computeIfAbsent(event.getEventDate().getDate(), date -> new ArrayList<>()).add(event);
+    }
+
+    /**
+     * Removes every event that is the same event as {@code event} from the index.
+     *
+     * @see Event#isSameEvent(Event)
+     */
+    public void remove(Event event) {
+        requireNonNull(event);
+        LocalDate date = event.getEventDate().getDate();
+        List<Event> eventsOnDate = eventsByDate.get(date);
+        if (eventsOnDate == null) {
+            return;
+        }
+        eventsOnDate.removeIf(event::isSameEvent);
+        if (eventsOnDate.isEmpty()) {
+            eventsByDate.remove(date);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code events}.
+     */
+    public void setEvents(Iterable<Event> events) {
+        requireNonNull(events);
+        eventsByDate.clear();
+        events.forEach(this::add);
+    }
+
+    /**
+     * Returns the events dated from {@code from} to {@code to}, both inclusive, in date order.
+     */
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        List<Event> events = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return events;
+        }
+        eventsByDate.subMap(from, true, to, true).values().forEach(events::addAll);
+        return events;
+    }
+
+    /**
+     * Returns at most {@code count} of the earliest events dated on or after {@code from}, in date order.
+     */
+    public List<Event> getEventsFrom(LocalDate from, int count) {
+        requireNonNull(from);
+        List<Event> events = new ArrayList<>();
+        for (List<Event> eventsOnDate : eventsByDate.tailMap(from, true).values()) {
+            for (Event event : eventsOnDate) {
+                if (events.size() >= count) {
+                    return events;
+                }
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
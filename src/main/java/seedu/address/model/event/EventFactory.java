@@ -7,4 +7,9 @@ public class EventFactory {
     public static Event createEvent(EventName name, EventDate date, EventCategory category) {
         return new Event(name, date, category);
     }
+
+    public static Event createEvent(EventName name, EventDate date, EventCategory category, EventTime startTime,
+            EventTime endTime) {
+        return new Event(name, date, category, startTime, endTime);
+    }
 }
@@ -0,0 +1,85 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+/**
+ * Represents a start or end time of an Event in the event book.
+ * Guarantees: immutable; is valid as declared in {@link #isValidTime(String)}
+ * Times are ordered chronologically.
+ */
+public class EventTime implements Comparable<EventTime> {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Times of events should be in HH:MM format (24-hour clock), and it should not be blank. ";
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    public final String eventTime;
+    private final LocalTime time;
+
+    /**
+     * Constructs an {@code EventTime}.
+     *
+     * @param eventTime A valid time.
+     */
+    public EventTime(String eventTime) {
+        requireNonNull(eventTime);
+        checkArgument(isValidTime(eventTime), MESSAGE_CONSTRAINTS);
+        this.eventTime = eventTime;
+        this.time = LocalTime.parse(eventTime, TIME_FORMATTER);
+    }
+
+    /**
+     * Returns true if a given string is a valid time.
+     */
+    public static boolean isValidTime(String test) {
+        try {
+            LocalTime.parse(test, TIME_FORMATTER);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    @Override
+    public int compareTo(EventTime other) {
+        return time.compareTo(other.time);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventTime)) {
+            return false;
+        }
+
+        EventTime otherTime = (EventTime) other;
+        return eventTime.equals(otherTime.eventTime);
+    }
+
+    @Override
+    public String toString() {
+        return eventTime;
+    }
+
+    @Override
+    public int hashCode() {
+        return eventTime.hashCode();
+    }
+
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.participation;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the arrival of a {@code Person} at an {@code Event} at a point in time.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class CheckIn {
+
+    private final Person person;
+    private final Event event;
+    private final LocalDateTime time;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CheckIn(Person person, Event event, LocalDateTime time) {
+        requireAllNonNull(person, event, time);
+        this.person = person;
+        this.event = event;
+        this.time = time;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CheckIn)) {
+            return false;
+        }
+
+        CheckIn otherCheckIn = (CheckIn) other;
+        return person.equals(otherCheckIn.person)
+                && event.equals(otherCheckIn.event)
+                && time.equals(otherCheckIn.time);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, event, time);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person)
+                .add("event", event)
+                .add("time", time)
+                .toString();
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.participation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * An append-only log of check-ins at events.
+ * Besides the log itself, the first check-in of each person at each event is indexed, so checking whether a person
+ * has arrived and counting the arrivals at an event take constant time.
+ * Persons are tracked by reference, like in {@code ParticipationBook}.
+ */
+public class CheckInLog {
+
+    private final List<CheckIn> checkIns = new ArrayList<>();
+    private final Map<Event, Map<Person, CheckIn>> checkInsByEvent = new HashMap<>();
+
+    /**
+     * Appends {@code checkIn} to the log.
+     * The person must not already be checked in at the event.
+     */
+    public void append(CheckIn checkIn) {
+        requireNonNull(checkIn);
+        Map<Person, CheckIn> arrivals = checkInsByEvent.computeIfAbsent(checkIn.getEvent(),
+                event -> new IdentityHashMap<>());
+        if (arrivals.containsKey(checkIn.getPerson())) {
+            throw new IllegalArgumentException("Person is already checked in at the event");
+        }
+        arrivals.put(checkIn.getPerson(), checkIn);
+        checkIns.add(checkIn);
+    }
+
+    /**
+     * Replaces the log with {@code newCheckIns}. Later check-ins of a person already checked in at the same event
+     * are left out.
+     */
+    public void resetData(List<CheckIn> newCheckIns) {
+        requireNonNull(newCheckIns);
+        checkIns.clear();
+        checkInsByEvent.clear();
+        for (CheckIn checkIn : newCheckIns) {
+            if (getCheckIn(checkIn.getPerson(), checkIn.getEvent()).isEmpty()) {
+                append(checkIn);
+            }
+        }
+    }
+
+    /**
+     * Returns the check-in of {@code person} at {@code event}, if the person has checked in.
+     */
+    public Optional<CheckIn> getCheckIn(Person person, Event event) {
+        requireAllNonNull(person, event);
+        Map<Person, CheckIn> arrivals = checkInsByEvent.get(event);
+        return arrivals == null ? Optional.empty() : Optional.ofNullable(arrivals.get(person));
+    }
+
+    /**
+     * Returns the number of persons checked in at {@code event}.
+     */
+    public int getCheckInCount(Event event) {
+        requireNonNull(event);
+        Map<Person, CheckIn> arrivals = checkInsByEvent.get(event);
+        return arrivals == null ? 0 : arrivals.size();
+    }
+
+    /**
+     * Makes later lookups of {@code editedPerson} find the check-ins of {@code target}.
+     * The entries already in the log are not rewritten.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        for (Map<Person, CheckIn> arrivals : checkInsByEvent.values()) {
+            CheckIn checkIn = arrivals.remove(target);
+            if (checkIn != null) {
+                arrivals.put(editedPerson, checkIn);
+            }
+        }
+    }
+
+    /**
+     * Makes later lookups of {@code editedEvent} find the check-ins at {@code target}.
+     * The entries already in the log are not rewritten.
+     */
+    public void setEvent(Event target, Event editedEvent) {
+        requireAllNonNull(target, editedEvent);
+        Map<Person, CheckIn> arrivals = checkInsByEvent.remove(target);
+        if (arrivals != null) {
+            checkInsByEvent.put(editedEvent, arrivals);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the log, in the order the check-ins were appended.
+     */
+    public List<CheckIn> getCheckIns() {
+        return Collections.unmodifiableList(checkIns);
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model.participation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns small, dense integer ids to items and keeps a {@code BitSet} of linked ids for each of them.
+ * Ids of released items are reused, so the ids stay close to the number of items in the table and the bitsets that
+ * refer to them stay compact.
+ *
+ * @param <T> type of the items.
+ */
+public class DenseIdTable<T> {
+
+    private final Map<T, Integer> ids;
+    private final List<T> items = new ArrayList<>();
+    private final List<BitSet> links = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    /**
+     * Creates an empty table that looks up ids in {@code ids}.
+     * The kind of map decides which items are considered the same, e.g. an {@code IdentityHashMap}.
+     */
+    public DenseIdTable(Map<T, Integer> ids) {
+        requireNonNull(ids);
+        this.ids = ids;
+    }
+
+    /**
+     * Returns the id of {@code item}, or -1 if it has none.
+     */
+    public int idOf(T item) {
+        return ids.getOrDefault(item, -1);
+    }
+
+    /**
+     * Returns the id of {@code item}, assigning it a new id if it has none.
+     */
+    public int idOrAssign(T item) {
+        requireNonNull(item);
+        Integer id = ids.get(item);
+        if (id != null) {
+            return id;
+        }
+        if (freeIds.isEmpty()) {
+            id = items.size();
+            items.add(item);
+            links.add(new BitSet());
+        } else {
+            id = freeIds.pop();
+            items.set(id, item);
+        }
+        ids.put(item, id);
+        return id;
+    }
+
+    /**
+     * Returns the item with the given {@code id}.
+     */
+    public T get(int id) {
+        return items.get(id);
+    }
+
+    /**
+     * Returns the ids linked to the item with the given {@code id}.
+     * The returned set is backed by the table.
+     */
+    public BitSet linksOf(int id) {
+        return links.get(id);
+    }
+
+    /**
+     * Gives the id of {@code target} to {@code replacement}. Does nothing if {@code target} has no id.
+     */
+    public void replace(T target, T replacement) {
+        requireNonNull(replacement);
+        Integer id = ids.remove(target);
+        if (id == null) {
+            return;
+        }
+        items.set(id, replacement);
+        ids.put(replacement, id);
+    }
+
+    /**
+     * Frees the id of the item with the given {@code id} so that it can be reused, and clears its links.
+     */
+    public void release(int id) {
+        ids.remove(items.get(id));
+        items.set(id, null);
+        links.get(id).clear();
+        freeIds.push(id);
+    }
+
+    /**
+     * Returns the items that currently have ids, ordered by id.
+     */
+    public List<T> getItems() {
+        List<T> currentItems = new ArrayList<>();
+        for (T item : items) {
+            if (item != null) {
+                currentItems.add(item);
+            }
+        }
+        return currentItems;
+    }
+
+    /**
+     * Returns the items with the ids in {@code idSet}, ordered by id.
+     */
+    public List<T> getItems(BitSet idSet) {
+        List<T> selectedItems = new ArrayList<>();
+        for (int id = idSet.nextSetBit(0); id >= 0; id = idSet.nextSetBit(id + 1)) {
+            selectedItems.add(items.get(id));
+        }
+        return selectedItems;
+    }
+
+    /**
+     * Removes every item and id from the table.
+     */
+    public void clear() {
+        ids.clear();
+        items.clear();
+        links.clear();
+        freeIds.clear();
+    }
+}
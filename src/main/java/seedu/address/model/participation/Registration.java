@@ -0,0 +1,65 @@
+package seedu.address.model.participation;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the registration of a {@code Person} for an {@code Event}.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class Registration {
+
+    private final Person person;
+    private final Event event;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Registration(Person person, Event event) {
+        requireAllNonNull(person, event);
+        this.person = person;
+        this.event = event;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Registration)) {
+            return false;
+        }
+
+        Registration otherRegistration = (Registration) other;
+        return person.equals(otherRegistration.person)
+                && event.equals(otherRegistration.event);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, event);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person)
+                .add("event", event)
+                .toString();
+    }
+}
@@ -3,12 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
 /**
  * Represents a Person's category in the HackLink.
+ * There are only a few categories, so the shared instance of each is returned by {@link #of(CategoryType)}.
  */
 public class Category {
     public static final String MESSAGE_CONSTRAINTS =
             "Category should be one of participant, staff, and sponsor.";
+
+    private static final Category[] INSTANCES = Arrays.stream(CategoryType.values())
+            .map(categoryType -> new Category(categoryType.name()))
+            .toArray(Category[]::new);
+
     public final String value;
     public final CategoryType type;
 
@@ -24,6 +32,25 @@ public class Category {
         type = CategoryType.valueOf(category.toUpperCase());
     }
 
+    /**
+     * Returns the shared {@code Category} of the given {@code type}.
+     */
+    public static Category of(CategoryType type) {
+        requireNonNull(type);
+        return INSTANCES[type.ordinal()];
+    }
+
+    /**
+     * Returns the shared {@code Category} named {@code category}.
+     *
+     * @param category one of Participant, Staff, and Sponsors.
+     */
+    public static Category of(String category) {
+        requireNonNull(category);
+        checkArgument(isValidCategory(category), MESSAGE_CONSTRAINTS);
+        return of(CategoryType.valueOf(category));
+    }
+
     /**
      * Returns true if a given string is a valid Category.
      */
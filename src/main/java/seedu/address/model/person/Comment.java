@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.BlobStore;
+
 /**
  * Represents a Person's comment in the HackLink.
+ * A comment read from a {@link BlobStore} only keeps a reference to its text, which is read when it is needed.
  * Guarantees: immutable; is valid as declared in {@link #isValidComment(String)}
  */
 public class Comment {
@@ -18,13 +21,18 @@ public class Comment {
 
     public static final String DEFAULT_COMMENT = "No comment provided.";
 
-    public final String value;
+    private static final Comment DEFAULT = new Comment();
+
+    /** The text of the comment, or null if it is kept in {@link #store}. */
+    private final String value;
+    private final BlobStore store;
+    private final int id;
 
     /**
      * Constructs a {@code Comment} with the default comment.
      */
     public Comment() {
-        value = DEFAULT_COMMENT;
+        this(DEFAULT_COMMENT, null, 0);
     }
 
     /**
@@ -36,6 +44,42 @@ public class Comment {
         requireNonNull(comment);
         checkArgument(isValidComment(comment), MESSAGE_CONSTRAINTS);
         value = comment;
+        store = null;
+        id = 0;
+    }
+
+    private Comment(String value, BlobStore store, int id) {
+        this.value = value;
+        this.store = store;
+        this.id = id;
+    }
+
+    /**
+     * Returns the shared {@code Comment} with the default comment.
+     */
+    public static Comment getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a {@code Comment} of {@code comment}, which is the shared default comment if {@code comment} is the
+     * default comment.
+     *
+     * @param comment A valid comment.
+     */
+    public static Comment of(String comment) {
+        requireNonNull(comment);
+        return comment.equals(DEFAULT_COMMENT) ? DEFAULT : new Comment(comment);
+    }
+
+    /**
+     * Returns a {@code Comment} whose text is kept in {@code store} under {@code id}. The text must not be the default
+     * comment.
+     */
+    public static Comment stored(BlobStore store, int id) {
+        requireNonNull(store);
+        checkArgument(store.contains(id), "No comment with id " + id + " in " + store.getFile());
+        return new Comment(null, store, id);
     }
 
     /**
@@ -45,13 +89,42 @@ public class Comment {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the text of the comment, reading it from its store if it is kept in one.
+     */
+    public String getValue() {
+        return value == null ? store.get(id) : value;
+    }
+
+    /**
+     * Returns true if the text of the comment is kept in a store.
+     */
+    public boolean isStored() {
+        return store != null;
+    }
+
+    /**
+     * Returns true if the text of the comment is kept in {@code store}.
+     */
+    public boolean isStoredIn(BlobStore store) {
+        return isStored() && this.store == store;
+    }
+
+    /**
+     * Returns the id of the text in its store. Only meaningful if the comment is kept in a store.
+     */
+    public int getId() {
+        return id;
+    }
+
     public boolean hasComment() {
-        return !value.equals(DEFAULT_COMMENT);
+        // the default comment is never kept in a store, so the text need not be read
+        return value == null || !value.equals(DEFAULT_COMMENT);
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -66,11 +139,14 @@ public class Comment {
         }
 
         Comment otherComment = (Comment) other;
-        return value.equals(otherComment.value);
+        if (store != null && store == otherComment.store && id == otherComment.id) {
+            return true;
+        }
+        return getValue().equals(otherComment.getValue());
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 }
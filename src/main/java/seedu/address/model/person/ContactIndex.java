@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hash index of persons by the values of their emails and phone numbers.
+ * Several persons may share an email or a phone number, so each value maps to a list of persons.
+ */
+public class ContactIndex {
+
+    private final Map<String, List<Person>> personsByEmail = new HashMap<>();
+    private final Map<String, List<Person>> personsByPhone = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByEmail.computeIfAbsent(person.getEmail().value, email -> new ArrayList<>(1)).add(person);
+        personsByPhone.computeIfAbsent(person.getPhone().value, phone -> new ArrayList<>(1)).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        removeFrom(personsByEmail, person.getEmail().value, person);
+        removeFrom(personsByPhone, person.getPhone().value, person);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByEmail.clear();
+        personsByPhone.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose email or phone number is exactly {@code emailOrPhone}.
+     */
+    public List<Person> find(String emailOrPhone) {
+        requireNonNull(emailOrPhone);
+        // emails contain an '@' and phone numbers are all digits, so a value never matches both
+        List<Person> matches = personsByEmail.containsKey(emailOrPhone)
+                ? personsByEmail.get(emailOrPhone)
+                : personsByPhone.getOrDefault(emailOrPhone, Collections.emptyList());
+        return Collections.unmodifiableList(matches);
+    }
+
+    private static void removeFrom(Map<String, List<Person>> index, String key, Person person) {
+        List<Person> persons = index.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -2,13 +2,18 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Person's group in the hackathon.
+ * The members of a group share the instance returned by {@link #of(int)}.
  */
 public class Group {
     public static final String MESSAGE_CONSTRAINTS =
             "Group should be a positive integer.";
-    private static int totalGroupNumber = 0;
+
+    private static final Map<Integer, Group> INSTANCES = new ConcurrentHashMap<>();
 
     public final String value;
     private final int groupNumber;
@@ -33,6 +38,16 @@ public class Group {
         this.value = String.valueOf(groupNumber);
     }
 
+    /**
+     * Returns the shared {@code Group} numbered {@code groupNumber}.
+     *
+     * @param groupNumber a positive integer, or 0 for the default group.
+     */
+    public static Group of(int groupNumber) {
+        checkArgument(isValidGroup(groupNumber), MESSAGE_CONSTRAINTS);
+        return INSTANCES.computeIfAbsent(groupNumber, Group::new);
+    }
+
     /**
      * Returns true if a given integer is a valid Group. Includes 0 for default group.
      */
@@ -54,20 +69,6 @@ public class Group {
         }
     }
 
-    /**
-     * Sets the last group number.
-     */
-    public static void setTotalGroupNumber(int lastNumber) {
-        totalGroupNumber = lastNumber;
-    }
-
-    /**
-     * Returns the last group number.
-     */
-    public static int getTotalGroupNumber() {
-        return totalGroupNumber;
-    }
-
     /**
      * Returns the group number.
      */
@@ -79,7 +80,7 @@ public class Group {
         switch (categoryType) {
         case PARTICIPANT:
         case STAFF:
-            return new Group();
+            return of(0);
         case SPONSOR:
             return null;
         default:
@@ -107,4 +108,9 @@ public class Group {
         Group otherCategory = (Group) other;
         return groupNumber == otherCategory.groupNumber;
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(groupNumber);
+    }
 }
@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Matches persons against keywords that are typed one character at a time.
+ * A keyword matches a person if any word of the person's information starts with it (case-insensitive), and a person
+ * is matched if any of the keywords matches. When a keyword extends the keyword typed at the same position in the
+ * previous query, only the persons matched by that previous keyword are tested again.
+ * The words of each person, including those of the comment, are cached until {@link #reset()}, so the matcher should
+ * be reset once the keywords are no longer being typed.
+ */
+public class IncrementalContactMatcher {
+
+    private final ObservableList<Person> persons;
+    private final Map<Person, String[]> wordsOfPerson = new IdentityHashMap<>();
+
+    private List<String> lastKeywords = new ArrayList<>();
+    private List<List<Person>> lastMatches = new ArrayList<>();
+
+    /**
+     * Creates an {@code IncrementalContactMatcher} over {@code persons}.
+     * Cached results are discarded whenever {@code persons} changes.
+     */
+    public IncrementalContactMatcher(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener((ListChangeListener<Person>) change -> reset());
+    }
+
+    /**
+     * Discards the results of the previous query and the cached words of every person.
+     */
+    public void reset() {
+        wordsOfPerson.clear();
+        lastKeywords = new ArrayList<>();
+        lastMatches = new ArrayList<>();
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the persons matched by {@code keywords}.
+     */
+    public Predicate<Person> match(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> currentKeywords = new ArrayList<>();
+        List<List<Person>> currentMatches = new ArrayList<>();
+        Set<Person> matchedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i).toLowerCase();
+            List<Person> matches = matchKeyword(keyword, i);
+            currentKeywords.add(keyword);
+            currentMatches.add(matches);
+            matchedPersons.addAll(matches);
+        }
+
+        lastKeywords = currentKeywords;
+        lastMatches = currentMatches;
+        return matchedPersons::contains;
+    }
+
+    /**
+     * Returns the persons matched by {@code keyword}, refining the previous matches at {@code position} if
+     * {@code keyword} extends the previous keyword there.
+     */
+    private List<Person> matchKeyword(String keyword, int position) {
+        boolean hasPrevious = position < lastKeywords.size();
+        if (hasPrevious && keyword.equals(lastKeywords.get(position))) {
+            return lastMatches.get(position);
+        }
+
+        List<Person> candidates = hasPrevious && keyword.startsWith(lastKeywords.get(position))
+                ? lastMatches.get(position)
+                : persons;
+        List<Person> matches = new ArrayList<>();
+        for (Person person : candidates) {
+            if (hasWordStartingWith(person, keyword)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private boolean hasWordStartingWith(Person person, String prefix) {
+        String[] words = wordsOfPerson.computeIfAbsent(person,
+                p -> p.getInformation().toLowerCase().split("\\s+"));
+        for (String word : words) {
+            if (word.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
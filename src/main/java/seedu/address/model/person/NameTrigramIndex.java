@@ -0,0 +1,153 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index for typo-tolerant lookups of persons by the words of their names.
+ * Each distinct name word is indexed by its trigrams (three-letter substrings, with the word padded at both ends).
+ * A lookup only checks the edit distance to the words that share enough trigrams with the keyword to possibly be
+ * within the allowed distance, so its cost depends on the number of similar words rather than the number of persons.
+ */
+public class NameTrigramIndex {
+
+    private static final char PADDING = '$';
+
+    private final Map<String, List<Person>> personsByWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : getNameWords(person)) {
+            List<Person> persons = personsByWord.computeIfAbsent(word, unused -> new ArrayList<>(1));
+            if (persons.isEmpty()) {
+                for (String trigram : getTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : getNameWords(person)) {
+            List<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (!persons.isEmpty()) {
+                continue;
+            }
+            personsByWord.remove(word);
+            for (String trigram : getTrigrams(word)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByWord.clear();
+        wordsByTrigram.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with a name word within {@link #getMaxDistance(String)} edits of {@code keyword}, ignoring
+     * case. A person is returned once even if several of its name words match.
+     */
+    public List<Person> find(String keyword) {
+        requireNonNull(keyword);
+        String word = keyword.trim().toLowerCase(Locale.ROOT);
+        if (word.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int maxDistance = getMaxDistance(word);
+
+        Set<String> trigrams = getTrigrams(word);
+        // each edit changes at most three of the trigrams, so a match shares all but 3 * maxDistance of them
+        int minSharedTrigrams = trigrams.size() - 3 * maxDistance;
+        Set<String> candidates;
+        if (minSharedTrigrams <= 0) {
+            candidates = personsByWord.keySet();
+        } else {
+            Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+            for (String trigram : trigrams) {
+                for (String candidate : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                    sharedTrigramCounts.merge(candidate, 1, Integer::sum);
+                }
+            }
+            candidates = new HashSet<>();
+            sharedTrigramCounts.forEach((candidate, count) -> {
+                if (count >= minSharedTrigrams) {
+                    candidates.add(candidate);
+                }
+            });
+        }
+
+        Set<Person> matches = new LinkedHashSet<>();
+        for (String candidate : candidates) {
+            if (StringUtil.isWithinEditDistance(word, candidate, maxDistance)) {
+                matches.addAll(personsByWord.get(candidate));
+            }
+        }
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns the number of edits allowed between {@code keyword} and a matching name word. Longer keywords allow
+     * more edits, while keywords of one or two letters must match exactly.
+     */
+    public static int getMaxDistance(String keyword) {
+        int length = keyword.trim().length();
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    private static Set<String> getNameWords(Person person) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : person.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        String padded = "" + PADDING + PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
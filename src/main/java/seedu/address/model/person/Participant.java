@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -8,22 +10,22 @@ import seedu.address.commons.util.ToStringBuilder;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Participant extends Person {
-    private Group group;
+    private final Group group;
 
     /**
      * Constructs participants with essential information and comment.
      * Every field must be present and not null.
      */
     public Participant(Name name, Phone phone, Email email, Category category, Comment comment) {
-        super(name, phone, email, category, comment);
-        this.group = new Group();
+        this(name, phone, email, category, comment, Group.of(0));
     }
 
     /**
-     * Sets the group of the participant.
+     * Constructs a participant in {@code group}. Every field must be present and not null.
      */
-    @Override
-    public void setGroup(Group group) {
+    public Participant(Name name, Phone phone, Email email, Category category, Comment comment, Group group) {
+        super(name, phone, email, category, comment);
+        requireNonNull(group);
         this.group = group;
     }
 
@@ -36,11 +38,11 @@ public class Participant extends Person {
     }
 
     /**
-     * Sets the group number of the participant.
+     * Returns a copy of the participant in {@code group}.
      */
     @Override
-    public void setGroupNumber(int groupNumber) {
-        this.group = new Group(groupNumber);
+    public Participant withGroup(Group group) {
+        return new Participant(getName(), getPhone(), getEmail(), getCategory(), getComment(), group);
     }
 
     /**
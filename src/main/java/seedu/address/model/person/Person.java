@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.exceptions.GroupSponsorException;
 
 /**
  * Represents a Person(Staff, Sponsor, Participant) in the hackathon.
@@ -55,11 +56,23 @@ public abstract class Person implements Identifiable {
 
     public abstract Group getGroup();
 
-    public abstract void setGroup(Group group);
-
     public abstract int getGroupNumber();
 
-    public abstract void setGroupNumber(int groupNumber);
+    /**
+     * Returns a copy of this person in {@code group}.
+     *
+     * @throws GroupSponsorException if this person cannot be put in a group.
+     */
+    public abstract Person withGroup(Group group);
+
+    /**
+     * Returns a copy of this person in the group numbered {@code groupNumber}.
+     *
+     * @throws GroupSponsorException if this person cannot be put in a group.
+     */
+    public Person withGroupNumber(int groupNumber) {
+        return withGroup(Group.of(groupNumber));
+    }
 
     /**
      * Returns true if both persons have the same identity.
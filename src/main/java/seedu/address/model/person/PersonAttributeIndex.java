@@ -0,0 +1,149 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of persons by their categories, their group numbers and the domains of their emails.
+ * Email domains are kept in sorted order so that the persons with a domain starting with a prefix can be found by
+ * visiting only the domains with that prefix.
+ * The number of persons of each category in each group is counted as persons are added and removed, so every count
+ * is read in constant time.
+ */
+public class PersonAttributeIndex implements PersonStatistics {
+
+    private final Map<CategoryType, Set<Person>> personsByCategory = new EnumMap<>(CategoryType.class);
+    private final NavigableMap<Integer, Set<Person>> personsByGroup = new TreeMap<>();
+    private final Map<Integer, int[]> categoryCountsByGroup = new HashMap<>();
+    private final NavigableMap<String, Set<Person>> personsByEmailDomain = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        IndexedKeys keys = new IndexedKeys(person);
+        personsByCategory.computeIfAbsent(keys.categoryType, unused -> new LinkedHashSet<>()).add(person);
+        personsByGroup.computeIfAbsent(keys.groupNumber, unused -> new LinkedHashSet<>()).add(person);
+        personsByEmailDomain.computeIfAbsent(keys.emailDomain, unused -> new LinkedHashSet<>()).add(person);
+        int[] categoryCounts = categoryCountsByGroup.computeIfAbsent(keys.groupNumber,
+                unused -> new int[CategoryType.values().length]);
+        categoryCounts[keys.categoryType.ordinal()]++;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        IndexedKeys keys = new IndexedKeys(person);
+        Set<Person> groupMembers = personsByGroup.get(keys.groupNumber);
+        if (groupMembers == null || !groupMembers.contains(person)) {
+            return;
+        }
+        removeFrom(personsByCategory, keys.categoryType, person);
+        removeFrom(personsByGroup, keys.groupNumber, person);
+        removeFrom(personsByEmailDomain, keys.emailDomain, person);
+        categoryCountsByGroup.get(keys.groupNumber)[keys.categoryType.ordinal()]--;
+        if (!personsByGroup.containsKey(keys.groupNumber)) {
+            categoryCountsByGroup.remove(keys.groupNumber);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByCategory.clear();
+        personsByGroup.clear();
+        personsByEmailDomain.clear();
+        categoryCountsByGroup.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons of the given {@code category}.
+     */
+    public Set<Person> findByCategory(Category category) {
+        requireNonNull(category);
+        return Collections.unmodifiableSet(personsByCategory.getOrDefault(category.type, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the persons in the group numbered {@code groupNumber}.
+     */
+    public Set<Person> findByGroup(int groupNumber) {
+        return Collections.unmodifiableSet(personsByGroup.getOrDefault(groupNumber, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the persons whose email domain starts with {@code domainPrefix}, ignoring case.
+     */
+    public List<Person> findByEmailDomainPrefix(String domainPrefix) {
+        requireNonNull(domainPrefix);
+        String key = domainPrefix.toLowerCase(Locale.ROOT);
+        List<Person> matches = new ArrayList<>();
+        // every domain starting with the prefix sorts from the prefix up to the prefix followed by the largest char
+        personsByEmailDomain.subMap(key, true, key + Character.MAX_VALUE, true).values().forEach(matches::addAll);
+        return matches;
+    }
+
+    @Override
+    public int countByCategory(CategoryType categoryType) {
+        requireNonNull(categoryType);
+        return personsByCategory.getOrDefault(categoryType, Collections.emptySet()).size();
+    }
+
+    @Override
+    public int countByGroup(int groupNumber) {
+        return personsByGroup.getOrDefault(groupNumber, Collections.emptySet()).size();
+    }
+
+    @Override
+    public int countByGroup(int groupNumber, CategoryType categoryType) {
+        requireNonNull(categoryType);
+        int[] categoryCounts = categoryCountsByGroup.get(groupNumber);
+        return categoryCounts == null ? 0 : categoryCounts[categoryType.ordinal()];
+    }
+
+    @Override
+    public Set<Integer> getGroupNumbers() {
+        return Collections.unmodifiableSet(personsByGroup.tailMap(1, true).keySet());
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Person>> index, K key, Person person) {
+        Set<Person> persons = index.get(key);
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * The keys a person was indexed under.
+     */
+    private static class IndexedKeys {
+        private final CategoryType categoryType;
+        private final int groupNumber;
+        private final String emailDomain;
+
+        private IndexedKeys(Person person) {
+            categoryType = person.getCategory().type;
+            groupNumber = person.getGroupNumber();
+            String email = person.getEmail().value.toLowerCase(Locale.ROOT);
+            emailDomain = email.substring(email.indexOf('@') + 1);
+        }
+    }
+}
@@ -8,7 +8,7 @@ public class PersonFactory {
      * Creates a Person based on the necessary fields.
      */
     public static Person createPerson(Name name, Phone phone, Email email, Category category) {
-        return createPerson(name, phone, email, category, new Comment());
+        return createPerson(name, phone, email, category, Comment.getDefault());
     }
 
     /**
@@ -20,23 +20,19 @@ public class PersonFactory {
 
     /**
      * Creates a Person with the category, comment and group.
+     * The group of a sponsor is ignored, as sponsors are not in groups.
      */
     public static Person createPerson(Name name, Phone phone, Email email, Category category, Comment comment,
                                       Group group) {
-        Person categoryPerson;
         switch (category.type) {
         case PARTICIPANT:
-            categoryPerson = new Participant(name, phone, email, category, comment);
-            break;
+            return new Participant(name, phone, email, category, comment, group);
         case STAFF:
-            categoryPerson = new Staff(name, phone, email, category, comment);
-            break;
+            return new Staff(name, phone, email, category, comment, group);
         case SPONSOR:
             return new Sponsor(name, phone, email, category, comment);
         default: // cannot happen due to category validation
             throw new IllegalArgumentException(Category.MESSAGE_CONSTRAINTS);
         }
-        categoryPerson.setGroup(group);
-        return categoryPerson;
     }
 }
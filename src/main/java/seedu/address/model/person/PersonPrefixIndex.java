@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of persons by their names, the words of their names and their emails, kept in sorted order so that the
+ * persons with a key starting with a prefix can be found by visiting only the keys with that prefix.
+ * Keys are case insensitive.
+ */
+public class PersonPrefixIndex {
+
+    private final NavigableMap<String, List<Person>> personsByKey = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String key : getKeys(person)) {
+            personsByKey.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String key : getKeys(person)) {
+            List<Person> persons = personsByKey.get(key);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByKey.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose name, a word of whose name, or whose email starts with {@code prefix}, ignoring case.
+     * A person is returned once even if several of its keys match.
+     */
+    public List<Person> find(String prefix) {
+        requireNonNull(prefix);
+        String key = prefix.trim().toLowerCase(Locale.ROOT);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<Person> matches = new LinkedHashSet<>();
+        // every key starting with the prefix sorts from the prefix up to the prefix followed by the largest char
+        personsByKey.subMap(key, true, key + Character.MAX_VALUE, true).values().forEach(matches::addAll);
+        return new ArrayList<>(matches);
+    }
+
+    private static Set<String> getKeys(Person person) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = person.getName().fullName.toLowerCase(Locale.ROOT);
+        keys.add(name);
+        for (String word : name.split("\\s+")) {
+            if (!word.isEmpty()) {
+                keys.add(word);
+            }
+        }
+        keys.add(person.getEmail().value.toLowerCase(Locale.ROOT));
+        return keys;
+    }
+}
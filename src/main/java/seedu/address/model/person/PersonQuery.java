@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches every condition of a structured query: being of a category, being in a group,
+ * having name words starting with each of some keywords, and having an email containing a fragment.
+ * Conditions that are not given match every person.
+ */
+public class PersonQuery implements Predicate<Person> {
+
+    private final Category category;
+    private final Integer groupNumber;
+    private final List<String> nameKeywords;
+    private final String emailFragment;
+
+    /**
+     * Creates a query of the given conditions. {@code category}, {@code groupNumber} and {@code emailFragment} may be
+     * null if they are not part of the query.
+     */
+    public PersonQuery(Category category, Integer groupNumber, List<String> nameKeywords, String emailFragment) {
+        requireNonNull(nameKeywords);
+        this.category = category;
+        this.groupNumber = groupNumber;
+        this.nameKeywords = nameKeywords;
+        this.emailFragment = emailFragment;
+    }
+
+    public Optional<Category> getCategory() {
+        return Optional.ofNullable(category);
+    }
+
+    public Optional<Integer> getGroupNumber() {
+        return Optional.ofNullable(groupNumber);
+    }
+
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    public Optional<String> getEmailFragment() {
+        return Optional.ofNullable(emailFragment);
+    }
+
+    /**
+     * Returns the email domain that every person matching the query has an email domain starting with, if the email
+     * fragment pins one down, i.e. if it contains an '@'.
+     */
+    public Optional<String> getEmailDomainPrefix() {
+        if (emailFragment == null || !emailFragment.contains("@")) {
+            return Optional.empty();
+        }
+        return Optional.of(emailFragment.substring(emailFragment.indexOf('@') + 1).toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return (category == null || category.type == person.getCategory().type)
+                && (groupNumber == null || groupNumber == person.getGroupNumber())
+                && nameKeywords.stream().allMatch(keyword -> hasNameWordStartingWith(person, keyword))
+                && (emailFragment == null || person.getEmail().value.toLowerCase(Locale.ROOT)
+                        .contains(emailFragment.toLowerCase(Locale.ROOT)));
+    }
+
+    private static boolean hasNameWordStartingWith(Person person, String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase(Locale.ROOT);
+        return Arrays.stream(person.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+"))
+                .anyMatch(word -> word.startsWith(lowerCaseKeyword));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return Objects.equals(category, otherQuery.category)
+                && Objects.equals(groupNumber, otherQuery.groupNumber)
+                && nameKeywords.equals(otherQuery.nameKeywords)
+                && Objects.equals(emailFragment, otherQuery.emailFragment);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(category == null ? null : category.type, groupNumber, nameKeywords, emailFragment);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("category", category)
+                .add("groupNumber", groupNumber)
+                .add("nameKeywords", nameKeywords)
+                .add("emailFragment", emailFragment)
+                .toString();
+    }
+}
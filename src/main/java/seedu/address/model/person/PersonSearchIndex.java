@@ -0,0 +1,170 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * A full-text index over the names and comments of persons, ranking matches with BM25.
+ * Text is split into lower-case words, and common English suffixes are stripped so that e.g. "allergies" and
+ * "allergy" match. The index keeps, for each word, the persons whose text contains it and how often, so a search only
+ * visits the persons that contain at least one of the searched words.
+ */
+public class PersonSearchIndex {
+
+    /** Controls how quickly repeated occurrences of a word stop adding to the score. */
+    private static final double K1 = 1.2;
+    /** Controls how much a long text is penalised relative to the average text length. */
+    private static final double B = 0.75;
+
+    private static final Comparator<ScoredPerson> BY_RELEVANCE = Comparator
+            .comparingDouble((ScoredPerson scored) -> scored.score)
+            .thenComparing(scored -> scored.person.getName().fullName, Comparator.reverseOrder());
+
+    private final Map<String, Map<Person, Integer>> postings = new HashMap<>();
+    private final Map<Person, Integer> textLengths = new HashMap<>();
+    private long totalTextLength;
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        List<String> words = tokenize(getText(person));
+        for (String word : words) {
+            postings.computeIfAbsent(word, unused -> new HashMap<>()).merge(person, 1, Integer::sum);
+        }
+        textLengths.put(person, words.size());
+        totalTextLength += words.size();
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer textLength = textLengths.remove(person);
+        if (textLength == null) {
+            return;
+        }
+        totalTextLength -= textLength;
+        for (String word : new LinkedHashSet<>(tokenize(getText(person)))) {
+            Map<Person, Integer> persons = postings.get(word);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        textLengths.clear();
+        totalTextLength = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns at most {@code limit} of the persons whose name or comment contains any of {@code keywords}, the most
+     * relevant first. Persons that are equally relevant are ordered by name.
+     */
+    public List<Person> search(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        if (limit <= 0 || textLengths.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> queryWords = new LinkedHashSet<>();
+        keywords.forEach(keyword -> queryWords.addAll(tokenize(keyword)));
+        double averageTextLength = (double) totalTextLength / textLengths.size();
+        Map<Person, Double> scores = new HashMap<>();
+        for (String word : queryWords) {
+            Map<Person, Integer> persons = postings.get(word);
+            if (persons == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (textLengths.size() - persons.size() + 0.5) / (persons.size() + 0.5));
+            persons.forEach((person, frequency) -> {
+                double lengthRatio = textLengths.get(person) / averageTextLength;
+                double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                scores.merge(person, score, Double::sum);
+            });
+        }
+
+        // keeps the best results seen so far, with the least relevant of them at the head
+        PriorityQueue<ScoredPerson> best = new PriorityQueue<>(BY_RELEVANCE);
+        scores.forEach((person, score) -> {
+            best.add(new ScoredPerson(person, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+        List<Person> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            results.add(best.poll().person);
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Splits {@code text} into lower-case words with common English suffixes stripped.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty()) {
+                words.add(stem(word));
+            }
+        }
+        return words;
+    }
+
+    private static String stem(String word) {
+        if (word.length() > 4 && word.endsWith("ies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.length() > 5 && word.endsWith("ing")) {
+            return word.substring(0, word.length() - 3);
+        }
+        if (word.length() > 4 && word.endsWith("ed")) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    private static String getText(Person person) {
+        Comment comment = person.getComment();
+        if (comment == null || !comment.hasComment()) {
+            return person.getName().fullName;
+        }
+        return person.getName().fullName + " " + comment.getValue();
+    }
+
+    private static class ScoredPerson {
+        private final Person person;
+        private final double score;
+
+        ScoredPerson(Person person, double score) {
+            this.person = person;
+            this.score = score;
+        }
+    }
+}
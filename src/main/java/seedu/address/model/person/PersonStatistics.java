@@ -0,0 +1,31 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+
+/**
+ * Unmodifiable view of the number of persons in each category and in each group.
+ */
+public interface PersonStatistics {
+
+    /**
+     * Returns the number of persons of the given {@code categoryType}.
+     */
+    int countByCategory(CategoryType categoryType);
+
+    /**
+     * Returns the number of persons in the group numbered {@code groupNumber}.
+     * Persons that have not been put in a group are in group 0.
+     */
+    int countByGroup(int groupNumber);
+
+    /**
+     * Returns the number of persons of the given {@code categoryType} in the group numbered {@code groupNumber}.
+     */
+    int countByGroup(int groupNumber, CategoryType categoryType);
+
+    /**
+     * Returns the numbers of the groups that have members, in ascending order. Group 0 is not included.
+     * The returned set cannot be modified, and may be a view that changes with the persons.
+     */
+    Set<Integer> getGroupNumbers();
+}
@@ -21,7 +21,7 @@ public class Sponsor extends Person {
      * Throws GroupSponsorException.
      */
     @Override
-    public void setGroup(Group group) {
+    public Sponsor withGroup(Group group) {
         throw new GroupSponsorException();
     }
 
@@ -33,13 +33,6 @@ public class Sponsor extends Person {
         return null;
     }
 
-    /**
-     * Throws GroupSponsorException.
-     */
-    public void setGroupNumber(int groupNumber) {
-        throw new GroupSponsorException();
-    }
-
     /**
      * Returns invalid group number.
      */
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -8,21 +10,21 @@ import seedu.address.commons.util.ToStringBuilder;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Staff extends Person {
-    private Group group;
+    private final Group group;
 
     /**
      * Constructs staff with essential information and comment. Every field must be present and not null.
      */
     public Staff(Name name, Phone phone, Email email, Category category, Comment comment) {
-        super(name, phone, email, category, comment);
-        this.group = new Group();
+        this(name, phone, email, category, comment, Group.of(0));
     }
 
     /**
-     * Sets the group of the staff.
+     * Constructs staff in {@code group}. Every field must be present and not null.
      */
-    @Override
-    public void setGroup(Group group) {
+    public Staff(Name name, Phone phone, Email email, Category category, Comment comment, Group group) {
+        super(name, phone, email, category, comment);
+        requireNonNull(group);
         this.group = group;
     }
 
@@ -35,11 +37,11 @@ public class Staff extends Person {
     }
 
     /**
-     * Sets the group number of the staff.
+     * Returns a copy of the staff in {@code group}.
      */
     @Override
-    public void setGroupNumber(int groupNumber) {
-        this.group = new Group(groupNumber);
+    public Staff withGroup(Group group) {
+        return new Staff(getName(), getPhone(), getEmail(), getCategory(), getComment(), group);
     }
 
     /**
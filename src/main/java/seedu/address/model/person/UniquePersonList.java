@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -20,6 +22,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Changes can be batched between {@link #beginBatch()} and {@link #commitBatch()}. While a batch is open, changes are
+ * applied to a working copy and the observable list is updated only once, when the batch is committed.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,12 +33,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Working copy of {@code internalList} while a batch is open, or null otherwise. */
+    private List<Person> batchList;
+    private boolean hasBatchChanges;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameIdentity);
+        return currentList().stream().anyMatch(toCheck::isSameIdentity);
     }
 
     /**
@@ -45,18 +54,21 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        currentList().add(toAdd);
+        hasBatchChanges = true;
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person that was in the list, which may be a different instance equal to {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = currentList().indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,23 +77,31 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replacedPerson = currentList().set(index, editedPerson);
+        hasBatchChanges = true;
+        return replacedPerson;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the person that was in the list, which may be a different instance equal to {@code toRemove}.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = currentList().indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removedPerson = currentList().remove(index);
+        hasBatchChanges = true;
+        return removedPerson;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setAll(replacement.currentList());
     }
 
     /**
@@ -94,25 +114,42 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        setAll(persons);
     }
 
     /**
-     * Groups {@code target} into {@code groupNumber}.
-     * {@code target} must exist in the address book.
-     * {@code groupNumber} must be a positive integer.
+     * Opens a batch. Until {@link #commitBatch()} is called, changes are not visible through
+     * {@link #asUnmodifiableObservableList()} and no change events are fired.
+     * Does nothing if a batch is already open.
      */
-    public void groupPerson(Person target, int groupNumber) {
-        requireAllNonNull(target, groupNumber);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
+    public void beginBatch() {
+        if (batchList != null) {
+            return;
         }
+        batchList = new ArrayList<>(internalList);
+        hasBatchChanges = false;
+    }
 
-        target.setGroupNumber(groupNumber);
+    /**
+     * Closes the open batch and publishes its changes to the observable list as a single change.
+     * Does nothing if no batch is open.
+     */
+    public void commitBatch() {
+        if (batchList == null) {
+            return;
+        }
+        List<Person> changedList = batchList;
+        batchList = null;
+        if (hasBatchChanges) {
+            internalList.setAll(changedList);
+        }
+    }
 
-        internalList.set(index, target);
+    /**
+     * Returns true if a batch is open.
+     */
+    public boolean isBatching() {
+        return batchList != null;
     }
 
     /**
@@ -122,9 +159,18 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons, including the changes of the open batch if any, as an unmodifiable list.
+     * Unlike {@link #asUnmodifiableObservableList()}, which is only updated when a batch is committed, the list is
+     * not observable.
+     */
+    public List<Person> asUnmodifiableCurrentList() {
+        return Collections.unmodifiableList(currentList());
+    }
+
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return currentList().iterator();
     }
 
     @Override
@@ -139,17 +185,34 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return currentList().equals(otherUniquePersonList.currentList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return currentList().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return currentList().toString();
+    }
+
+    /**
+     * Returns the list that changes are applied to: the working copy while a batch is open, or the backing list.
+     */
+    private List<Person> currentList() {
+        return batchList == null ? internalList : batchList;
+    }
+
+    private void setAll(List<Person> persons) {
+        if (batchList == null) {
+            internalList.setAll(persons);
+            return;
+        }
+        batchList.clear();
+        batchList.addAll(persons);
+        hasBatchChanges = true;
     }
 
     /**
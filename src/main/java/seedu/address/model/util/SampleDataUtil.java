@@ -24,25 +24,25 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[]{
                 PersonFactory.createPerson(new Name("Alex Yeoh"), new Phone("87438807"),
-                        new Email("alexyeoh@example.com"), new Category("PARTICIPANT")),
+                        new Email("alexyeoh@example.com"), Category.of("PARTICIPANT")),
                 PersonFactory.createPerson(new Name("Bernice Yu"), new Phone("99272758"),
-                        new Email("berniceyu@example.com"), new Category("PARTICIPANT")),
+                        new Email("berniceyu@example.com"), Category.of("PARTICIPANT")),
                 PersonFactory.createPerson(new Name("Charlotte Oliveiro"), new Phone("93210283"),
-                        new Email("charlotte@example.com"), new Category("PARTICIPANT")),
+                        new Email("charlotte@example.com"), Category.of("PARTICIPANT")),
                 PersonFactory.createPerson(new Name("David Li"), new Phone("91031282"),
-                        new Email("lidavid@example.com"), new Category("PARTICIPANT")),
+                        new Email("lidavid@example.com"), Category.of("PARTICIPANT")),
                 PersonFactory.createPerson(new Name("Irfan Ibrahim"), new Phone("92492021"),
-                        new Email("irfan@example.com"), new Category("PARTICIPANT")),
+                        new Email("irfan@example.com"), Category.of("PARTICIPANT")),
                 PersonFactory.createPerson(new Name("Roy Balakrishnan"), new Phone("92624417"),
-                        new Email("royb@example.com"), new Category("PARTICIPANT")),
+                        new Email("royb@example.com"), Category.of("PARTICIPANT")),
                 PersonFactory.createPerson(new Name("Gogle"), new Phone("12345678"),
-                        new Email("gogle@example.com"), new Category("SPONSOR")),
+                        new Email("gogle@example.com"), Category.of("SPONSOR")),
                 PersonFactory.createPerson(new Name("Facebok"), new Phone("87654321"),
-                        new Email("facebok@example.com"), new Category("SPONSOR")),
+                        new Email("facebok@example.com"), Category.of("SPONSOR")),
                 PersonFactory.createPerson(new Name("Twiter"), new Phone("87654322"),
-                        new Email("twiter@example.com"), new Category("SPONSOR")),
+                        new Email("twiter@example.com"), Category.of("SPONSOR")),
                 PersonFactory.createPerson(new Name("Peter Lee"), new Phone("7171717"),
-                        new Email("peterlee@example.com"), new Category("STAFF"))};
+                        new Email("peterlee@example.com"), Category.of("STAFF"))};
     }
 
     public static ReadOnlyAddressBook getSampleAddressBook() {
@@ -42,4 +42,13 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Renames the data file like {@link seedu.address.commons.util.FileUtil#moveAside(Path, String)}, keeping
+     * anything the data file needs next to the renamed file, so that it can still be recovered.
+     *
+     * @return the path of the renamed file.
+     * @throws IOException if there was any problem renaming the file.
+     */
+    Path moveAddressBookFileAside(String label) throws IOException;
+
 }
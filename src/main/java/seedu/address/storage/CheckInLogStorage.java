@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.participation.CheckIn;
+
+/**
+ * Represents a storage for the append-only log of check-ins.
+ */
+public interface CheckInLogStorage {
+
+    /**
+     * Returns the file path of the log file.
+     */
+    Path getCheckInLogFilePath();
+
+    /**
+     * Returns the check-ins in the log, with persons and events resolved in {@code addressBook} and
+     * {@code eventBook}. Check-ins of persons or at events that no longer exist are left out.
+     * Returns {@code Optional.empty()} if the log file is not found.
+     *
+     * @throws DataLoadingException if loading the log from storage failed.
+     */
+    Optional<List<CheckIn>> readCheckInLog(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook)
+            throws DataLoadingException;
+
+    /**
+     * Appends {@code checkIns} to the end of the log. The entries already in the log are not rewritten.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCheckIns(List<CheckIn> checkIns) throws IOException;
+
+}
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.BlobStore;
+import seedu.address.model.person.Comment;
+
+/**
+ * Keeps the texts of the comments of an address book in a {@link BlobStore} next to its data file, so that the data
+ * file only refers to each comment by its id and a comment is only read when it is shown.
+ */
+class CommentStore {
+
+    public static final String FILE_SUFFIX = ".comments";
+    public static final int CACHE_SIZE = 64;
+    public static final String MISSING_COMMENT = "This comment was lost from the comments file.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommentStore.class);
+
+    private final BlobStore blobStore;
+    /** The ids of the comments added that are not kept in the store themselves, e.g. comments edited since loading. */
+    private final Map<Comment, Integer> addedIds = new WeakHashMap<>();
+    private boolean hasUnflushedComments;
+
+    private CommentStore(BlobStore blobStore) {
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * Opens the comment store of the address book kept in {@code dataFile}.
+     */
+    public static CommentStore forDataFile(Path dataFile) throws IOException {
+        requireNonNull(dataFile);
+        return new CommentStore(new BlobStore(getFile(dataFile), CACHE_SIZE));
+    }
+
+    /**
+     * Copies the comment store of the address book kept in {@code dataFile}, if any, next to {@code movedDataFile},
+     * which {@code dataFile} was moved to, so that the moved file keeps its comments even after the comment store of
+     * {@code dataFile} is compacted.
+     */
+    public static void keepForMovedDataFile(Path dataFile, Path movedDataFile) throws IOException {
+        requireNonNull(movedDataFile);
+        Path file = getFile(dataFile);
+        if (Files.exists(file)) {
+            Files.copy(file, getFile(movedDataFile));
+        }
+    }
+
+    private static Path getFile(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the id of {@code comment} in the store, adding its text to the store if it is not there yet.
+     */
+    public int getId(Comment comment) throws IOException {
+        requireNonNull(comment);
+        if (comment.isStoredIn(blobStore)) {
+            return comment.getId();
+        }
+        Integer id = addedIds.get(comment);
+        if (id == null) {
+            id = blobStore.add(comment.getValue());
+            addedIds.put(comment, id);
+            hasUnflushedComments = true;
+        }
+        return id;
+    }
+
+    /**
+     * Returns the comment with the given {@code id}, whose text is only read when it is needed.
+     * If the store has no comment with the given {@code id}, a comment saying that it was lost is returned instead, so
+     * that the rest of the address book can still be loaded.
+     */
+    public Comment getComment(int id) {
+        if (!blobStore.contains(id)) {
+            logger.warning("Comment " + id + " is missing from " + blobStore.getFile());
+            return Comment.of(MISSING_COMMENT);
+        }
+        return Comment.stored(blobStore, id);
+    }
+
+    /**
+     * Removes the comments whose ids are not in {@code ids} if they take up most of the store.
+     * Nothing is removed if {@code ids} is empty, as the data file may just have been replaced by an empty one while
+     * the data file it replaced is still to be recovered.
+     * Must be called before any comment of the store is read.
+     */
+    public void compact(Set<Integer> ids) throws IOException {
+        if (!ids.isEmpty()) {
+            blobStore.compact(ids);
+        }
+    }
+
+    /**
+     * Flushes the comments added since the last flush to the disk, so that the data file can refer to them.
+     */
+    public void flush() throws IOException {
+        if (hasUnflushedComments) {
+            blobStore.force();
+            hasUnflushedComments = false;
+        }
+    }
+
+    /**
+     * Closes the store, after which comments of the store can no longer be read.
+     */
+    public void close() throws IOException {
+        blobStore.close();
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.participation.CheckIn;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access the check-in log stored as a csv file on the hard disk.
+ * Each check-in is one line, and new check-ins are appended to the file without rewriting it.
+ * A line that cannot be read, such as a line cut short when the application stopped while writing it, is skipped.
+ */
+public class CsvCheckInLogStorage implements CheckInLogStorage {
+
+    public static final String HEADER = "time,name,email,event name,event date,event category\n";
+
+    private static final Logger logger = LogsCenter.getLogger(CsvCheckInLogStorage.class);
+
+    private static final String SEPARATOR = ",";
+    private static final int FIELD_COUNT = 6;
+
+    private Path filePath;
+
+    public CsvCheckInLogStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCheckInLogFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<List<CheckIn>> readCheckInLog(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook)
+            throws DataLoadingException {
+        requireNonNull(addressBook);
+        requireNonNull(eventBook);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        String content;
+        try {
+            content = FileUtil.readFromFile(filePath);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        Map<String, Person> personsByKey = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            personsByKey.putIfAbsent(toPersonKey(person.getName().fullName, person.getEmail().value), person);
+        }
+        Map<String, Event> eventsByKey = new HashMap<>();
+        for (Event event : eventBook.getEventList()) {
+            eventsByKey.putIfAbsent(toEventKey(event), event);
+        }
+
+        List<CheckIn> checkIns = new ArrayList<>();
+        String[] lines = content.split("\n");
+        for (int i = 1; i < lines.length; i++) {
+            parseLine(lines[i], personsByKey, eventsByKey).ifPresent(checkIns::add);
+        }
+        return Optional.of(checkIns);
+    }
+
+    private Optional<CheckIn> parseLine(String line, Map<String, Person> personsByKey,
+            Map<String, Event> eventsByKey) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length != FIELD_COUNT) {
+            logger.warning("Skipping malformed line in " + filePath + ": " + line);
+            return Optional.empty();
+        }
+
+        try {
+            LocalDateTime time = LocalDateTime.parse(fields[0]);
+            Person person = personsByKey.get(toPersonKey(fields[1], fields[2]));
+            Event event = eventsByKey.get(String.join(SEPARATOR, fields[3], fields[4], fields[5]));
+            if (person == null || event == null) {
+                logger.fine("Skipping check-in of a removed person or at a removed event: " + line);
+                return Optional.empty();
+            }
+            return Optional.of(new CheckIn(person, event, time));
+        } catch (DateTimeParseException e) {
+            logger.warning("Skipping malformed line in " + filePath + ": " + line);
+            return Optional.empty();
+        }
+    }
+
+    private static String toPersonKey(String name, String email) {
+        return name + SEPARATOR + email;
+    }
+
+    private static String toEventKey(Event event) {
+        return String.join(SEPARATOR, event.getEventName().eventName, event.getEventDate().eventDate,
+                event.getEventCategory().value);
+    }
+
+    @Override
+    public void appendCheckIns(List<CheckIn> checkIns) throws IOException {
+        requireNonNull(checkIns);
+        if (checkIns.isEmpty()) {
+            return;
+        }
+        if (!FileUtil.isFileExists(filePath)) {
+            FileUtil.createCsvFile(filePath, HEADER);
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (CheckIn checkIn : checkIns) {
+            lines.append(String.join(SEPARATOR, checkIn.getTime().toString(),
+                    toPersonKey(checkIn.getPerson().getName().fullName, checkIn.getPerson().getEmail().value),
+                    toEventKey(checkIn.getEvent()))).append("\n");
+        }
+        FileUtil.appendToFile(filePath, lines.toString());
+    }
+
+}
@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.RecordStore;
+import seedu.address.commons.util.StringPool;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Comment;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in an embedded {@link RecordStore} on the hard disk, with a record per
+ * person under the name and the email of the person.
+ * Saving the address book only writes the persons that changed since it was last saved, in a single transaction, so
+ * a crash leaves the address book as it was either before or after the save.
+ * An address book that is not in the store yet is read from a legacy storage instead, if any, and moved into the
+ * store, after which the legacy data file is kept aside. The texts of the comments are kept in a
+ * {@link CommentStore} next to the store.
+ */
+public class EmbeddedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(EmbeddedAddressBookStorage.class);
+    private static final String RECORD_LIST_NAME = "persons";
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private final Path filePath;
+    private final AddressBookStorage legacyStorage;
+    private final boolean isDeduplicatingStrings;
+    private final Map<Path, OpenStore> stores = new HashMap<>();
+
+    public EmbeddedAddressBookStorage(Path filePath) {
+        this(filePath, null, false);
+    }
+
+    /**
+     * Creates a storage of the address book in the store at {@code filePath}.
+     * If the store has no address book yet, the address book of {@code legacyStorage} is moved into it, unless
+     * {@code legacyStorage} is null.
+     * If {@code isDeduplicatingStrings} is true, repeated field values read from the store share one string in memory.
+     */
+    public EmbeddedAddressBookStorage(Path filePath, AddressBookStorage legacyStorage,
+            boolean isDeduplicatingStrings) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.legacyStorage = legacyStorage;
+        this.isDeduplicatingStrings = isDeduplicatingStrings;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            OpenStore store = getStore(filePath);
+            if (!store.persons.isSavedIn(store.records)) {
+                return filePath.equals(this.filePath) ? migrateLegacyAddressBook() : Optional.empty();
+            }
+
+            UnaryOperator<String> deduplicator = isDeduplicatingStrings
+                    ? new StringPool()::intern
+                    : UnaryOperator.identity();
+            List<Person> persons = store.persons.read(store.records, content -> JsonUtil.fromJsonBytes(content,
+                    JsonAdaptedPerson.class).toModelType(deduplicator, store.comments));
+            if (store.isCompactable) {
+                // no comment has been read from a store that was just opened, so it can still be compacted
+                store.comments.compact(getCommentIds(persons));
+                store.isCompactable = false;
+            }
+
+            AddressBook addressBook = new AddressBook();
+            for (Person person : persons) {
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            closeStore(filePath);
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + filePath + ": " + ioe);
+            closeStore(filePath);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        OpenStore store = getStore(filePath);
+        store.isCompactable = false;
+        RecordStore.Transaction transaction = store.persons.prepareSave(addressBook.getPersonList(), store.records,
+                person -> JsonUtil.toCompactJsonBytes(new JsonAdaptedPerson(person, store.comments)));
+        // the comments must be on the disk before the records that refer to them
+        store.comments.flush();
+        transaction.commit();
+    }
+
+    @Override
+    public synchronized Path moveAddressBookFileAside(String label) throws IOException {
+        closeStore(filePath);
+        Path movedFile = FileUtil.moveAside(filePath, label);
+        CommentStore.keepForMovedDataFile(filePath, movedFile);
+        return movedFile;
+    }
+
+    /**
+     * Reads the address book of the legacy storage and saves it to the store, keeping the legacy data file aside.
+     * The address book is then read back from the store, so that its comments are read from the comment store of the
+     * store rather than from that of the legacy data file.
+     */
+    private Optional<ReadOnlyAddressBook> migrateLegacyAddressBook() throws IOException, DataLoadingException {
+        if (legacyStorage == null) {
+            return Optional.empty();
+        }
+        Optional<ReadOnlyAddressBook> addressBook = legacyStorage.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return Optional.empty();
+        }
+
+        saveAddressBook(addressBook.get(), filePath);
+        Path legacyFile = legacyStorage.moveAddressBookFileAside(RecordList.MIGRATED_FILE_LABEL);
+        logger.info("Moved the address book into " + filePath + ", keeping the old data file as " + legacyFile);
+        return readAddressBook(filePath);
+    }
+
+    private OpenStore getStore(Path filePath) throws IOException {
+        OpenStore store = stores.get(filePath);
+        if (store == null) {
+            store = new OpenStore(new RecordStore(filePath), CommentStore.forDataFile(filePath));
+            stores.put(filePath, store);
+        }
+        return store;
+    }
+
+    /**
+     * Closes the store at {@code filePath} if it is open, so that a store that cannot be read can be moved aside.
+     */
+    private void closeStore(Path filePath) {
+        OpenStore store = stores.remove(filePath);
+        if (store == null) {
+            return;
+        }
+        try {
+            store.records.close();
+            store.comments.close();
+        } catch (IOException e) {
+            logger.warning("Error closing " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the ids of the comments of {@code persons} that are kept in a {@link CommentStore}.
+     */
+    private static Set<Integer> getCommentIds(List<Person> persons) {
+        return persons.stream()
+                .map(Person::getComment)
+                .filter(Comment::isStored)
+                .map(Comment::getId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the identity under which {@code person} is kept. A person has the same identity as another only if
+     * they have the same name and email, which makes them the same person.
+     */
+    private static String getIdentity(Person person) {
+        return person.getName().fullName + KEY_SEPARATOR + person.getEmail().value;
+    }
+
+    /**
+     * An open store, with the persons last saved to it or read from it.
+     */
+    private static class OpenStore {
+        private final RecordStore records;
+        private final CommentStore comments;
+        private final RecordList<Person> persons =
+                new RecordList<>(RECORD_LIST_NAME, EmbeddedAddressBookStorage::getIdentity);
+        private boolean isCompactable = true;
+
+        private OpenStore(RecordStore records, CommentStore comments) {
+            this.records = records;
+            this.comments = comments;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.RecordStore;
+import seedu.address.model.EventBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+
+/**
+ * A class to access EventBook data stored in an embedded {@link RecordStore} on the hard disk, with a record per
+ * event under the name, the date and the category of the event, like {@link EmbeddedAddressBookStorage}.
+ */
+public class EmbeddedEventBookStorage implements EventBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(EmbeddedEventBookStorage.class);
+    private static final String RECORD_LIST_NAME = "events";
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private final Path filePath;
+    private final EventBookStorage legacyStorage;
+    private final Map<Path, OpenStore> stores = new HashMap<>();
+
+    public EmbeddedEventBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage of the event book in the store at {@code filePath}.
+     * If the store has no event book yet, the event book of {@code legacyStorage} is moved into it, unless
+     * {@code legacyStorage} is null.
+     */
+    public EmbeddedEventBookStorage(Path filePath, EventBookStorage legacyStorage) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.legacyStorage = legacyStorage;
+    }
+
+    @Override
+    public Path getEventBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEventBook> readEventBook() throws DataLoadingException {
+        return readEventBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyEventBook> readEventBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            OpenStore store = getStore(filePath);
+            if (!store.events.isSavedIn(store.records)) {
+                return filePath.equals(this.filePath) ? migrateLegacyEventBook() : Optional.empty();
+            }
+
+            List<Event> events = store.events.read(store.records, content -> JsonUtil.fromJsonBytes(content,
+                    JsonAdaptedEvent.class).toModelType());
+            EventBook eventBook = new EventBook();
+            for (Event event : events) {
+                if (eventBook.hasEvent(event)) {
+                    throw new IllegalValueException(JsonSerializableEventBook.MESSAGE_DUPLICATE_EVENT);
+                }
+                eventBook.addEvent(event);
+            }
+            return Optional.of(eventBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            closeStore(filePath);
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + filePath + ": " + ioe);
+            closeStore(filePath);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveEventBook(ReadOnlyEventBook eventBook) throws IOException {
+        saveEventBook(eventBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEventBook(ReadOnlyEventBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveEventBook(ReadOnlyEventBook eventBook, Path filePath) throws IOException {
+        requireNonNull(eventBook);
+        requireNonNull(filePath);
+
+        OpenStore store = getStore(filePath);
+        store.events.prepareSave(eventBook.getEventList(), store.records,
+                event -> JsonUtil.toCompactJsonBytes(new JsonAdaptedEvent(event))).commit();
+    }
+
+    /**
+     * Reads the event book of the legacy storage and saves it to the store, keeping the legacy data file aside.
+     */
+    private Optional<ReadOnlyEventBook> migrateLegacyEventBook() throws IOException, DataLoadingException {
+        if (legacyStorage == null) {
+            return Optional.empty();
+        }
+        Optional<ReadOnlyEventBook> eventBook = legacyStorage.readEventBook();
+        if (eventBook.isEmpty()) {
+            return Optional.empty();
+        }
+
+        saveEventBook(eventBook.get(), filePath);
+        Path legacyFile = FileUtil.moveAside(legacyStorage.getEventBookFilePath(), RecordList.MIGRATED_FILE_LABEL);
+        logger.info("Moved the event book into " + filePath + ", keeping the old data file as " + legacyFile);
+        return eventBook;
+    }
+
+    private OpenStore getStore(Path filePath) throws IOException {
+        OpenStore store = stores.get(filePath);
+        if (store == null) {
+            store = new OpenStore(new RecordStore(filePath));
+            stores.put(filePath, store);
+        }
+        return store;
+    }
+
+    /**
+     * Closes the store at {@code filePath} if it is open, so that a store that cannot be read can be moved aside.
+     */
+    private void closeStore(Path filePath) {
+        OpenStore store = stores.remove(filePath);
+        if (store == null) {
+            return;
+        }
+        try {
+            store.records.close();
+        } catch (IOException e) {
+            logger.warning("Error closing " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the identity under which {@code event} is kept. An event has the same identity as another only if
+     * they have the same name, date and category, which makes them the same event.
+     */
+    private static String getIdentity(Event event) {
+        return event.getEventName().eventName + KEY_SEPARATOR + event.getEventDate().eventDate + KEY_SEPARATOR
+                + event.getEventCategory().value;
+    }
+
+    /**
+     * An open store, with the events last saved to it or read from it.
+     */
+    private static class OpenStore {
+        private final RecordStore records;
+        private final RecordList<Event> events =
+                new RecordList<>(RECORD_LIST_NAME, EmbeddedEventBookStorage::getIdentity);
+
+        private OpenStore(RecordStore records) {
+            this.records = records;
+        }
+    }
+}
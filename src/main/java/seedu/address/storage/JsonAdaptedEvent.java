@@ -9,6 +9,7 @@ import seedu.address.model.event.EventCategory;
 import seedu.address.model.event.EventDate;
 import seedu.address.model.event.EventFactory;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventTime;
 import seedu.address.model.person.Category;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -22,17 +23,28 @@ public class JsonAdaptedEvent {
     private final String name;
     private final String date;
     private final String category;
+    private final String startTime;
+    private final String endTime;
+
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given event details and no times.
+     */
+    public JsonAdaptedEvent(String name, String date, String category) {
+        this(name, date, category, null, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
     public JsonAdaptedEvent(@JsonProperty("name") String name, @JsonProperty("date") String date,
-                             @JsonProperty("category") String category) {
+                             @JsonProperty("category") String category, @JsonProperty("startTime") String startTime,
+                             @JsonProperty("endTime") String endTime) {
         this.name = name;
         this.date = date;
         this.category = category;
-
+        this.startTime = startTime;
+        this.endTime = endTime;
     }
 
     /**
@@ -42,6 +54,8 @@ public class JsonAdaptedEvent {
         name = source.getEventName().eventName;
         date = source.getEventDate().eventDate;
         category = source.getEventCategory().value;
+        startTime = source.getStartTime().map(time -> time.eventTime).orElse(null);
+        endTime = source.getEndTime().map(time -> time.eventTime).orElse(null);
     }
 
     /**
@@ -77,7 +91,23 @@ public class JsonAdaptedEvent {
         }
         final EventCategory modelCategory = new EventCategory(category);
 
-        return EventFactory.createEvent(modelName, modelDate, modelCategory);
+        final EventTime modelStartTime = toModelTime(startTime);
+        final EventTime modelEndTime = toModelTime(endTime);
+        if (!Event.isValidTimeRange(modelStartTime, modelEndTime)) {
+            throw new IllegalValueException(Event.MESSAGE_TIME_RANGE_CONSTRAINTS);
+        }
+
+        return EventFactory.createEvent(modelName, modelDate, modelCategory, modelStartTime, modelEndTime);
+    }
+
+    private static EventTime toModelTime(String time) throws IllegalValueException {
+        if (time == null) {
+            return null;
+        }
+        if (!EventTime.isValidTime(time)) {
+            throw new IllegalValueException(EventTime.MESSAGE_CONSTRAINTS);
+        }
+        return new EventTime(time);
     }
 
 }
@@ -1,5 +1,11 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -25,21 +31,33 @@ class JsonAdaptedPerson {
     private final String email;
     private final String category;
     private final String comment;
+    private final Integer commentId;
     private final String group;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
+    public JsonAdaptedPerson(String name, String phone, String email, String category, String comment,
+            String group) {
+        this(name, phone, email, category, comment, null, group);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, where the text of the comment is either
+     * given as {@code comment} or kept in a {@link CommentStore} under {@code commentId}.
+     */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("category") String category,
                              @JsonProperty("comment") String comment,
+                             @JsonProperty("commentId") Integer commentId,
                              @JsonProperty("group") String group) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.category = category;
         this.comment = comment;
+        this.commentId = commentId;
         this.group = group;
     }
 
@@ -51,12 +69,36 @@ class JsonAdaptedPerson {
         phone = source.getPhone().value;
         email = source.getEmail().value;
         category = source.getCategory().value;
-        comment = source.getComment().value;
-        if (source.getGroup() == null) {
-            group = null;
+        comment = source.getComment().getValue();
+        commentId = null;
+        group = source.getGroup() == null ? null : source.getGroup().value;
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use, keeping the text of its comment in
+     * {@code commentStore} unless it is the default comment.
+     */
+    public JsonAdaptedPerson(Person source, CommentStore commentStore) throws IOException {
+        requireNonNull(commentStore);
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        category = source.getCategory().value;
+        if (source.getComment().hasComment()) {
+            comment = null;
+            commentId = commentStore.getId(source.getComment());
         } else {
-            group = source.getGroup().value;
+            comment = source.getComment().getValue();
+            commentId = null;
         }
+        group = source.getGroup() == null ? null : source.getGroup().value;
+    }
+
+    /**
+     * Returns the id of the comment of this person in a {@link CommentStore}, if the comment is kept in one.
+     */
+    public Optional<Integer> getCommentId() {
+        return comment == null ? Optional.ofNullable(commentId) : Optional.empty();
     }
 
     /**
@@ -65,13 +107,36 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(UnaryOperator.identity());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, passing the text
+     * of each field through {@code deduplicator} so that repeated values can share one string.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(UnaryOperator<String> deduplicator) throws IllegalValueException {
+        return toModelType(deduplicator, null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, like
+     * {@link #toModelType(UnaryOperator)}, reading a comment kept in a store from {@code commentStore}.
+     *
+     * @param commentStore the store of the comments, or null if the data has no store.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(UnaryOperator<String> deduplicator, CommentStore commentStore)
+            throws IllegalValueException {
+        requireNonNull(deduplicator);
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = new Name(deduplicator.apply(name));
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -79,7 +144,7 @@ class JsonAdaptedPerson {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = new Phone(deduplicator.apply(phone));
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -87,7 +152,7 @@ class JsonAdaptedPerson {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = new Email(deduplicator.apply(email));
 
         if (category == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -96,8 +161,22 @@ class JsonAdaptedPerson {
         if (!Category.isValidCategory(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        final Category modelCategory = new Category(category);
+        final Category modelCategory = Category.of(category);
 
+        final Comment modelComment = toModelComment(deduplicator, commentStore);
+
+        final Group modelGroup = Group.isValidGroup(group)
+                ? Group.of(Integer.parseInt(group))
+                : Group.getDefaultGroupForCategory(modelCategory.type);
+
+        return PersonFactory.createPerson(modelName, modelPhone, modelEmail, modelCategory, modelComment, modelGroup);
+    }
+
+    private Comment toModelComment(UnaryOperator<String> deduplicator, CommentStore commentStore)
+            throws IllegalValueException {
+        if (comment == null && commentId != null && commentStore != null) {
+            return commentStore.getComment(commentId);
+        }
         if (comment == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Comment.class.getSimpleName()));
@@ -105,17 +184,7 @@ class JsonAdaptedPerson {
         if (!Comment.isValidComment(comment)) {
             throw new IllegalValueException(Comment.MESSAGE_CONSTRAINTS);
         }
-
-        final Comment modelComment = new Comment(comment);
-
-        Person model = PersonFactory.createPerson(modelName, modelPhone, modelEmail, modelCategory, modelComment);
-
-        if (Group.isValidGroup(group)) {
-            model.setGroupNumber(Integer.parseInt(group));
-            Group.setTotalGroupNumber(Math.max(Group.getTotalGroupNumber(), Integer.parseInt(group)));
-        }
-
-        return model;
+        return Comment.of(deduplicator.apply(comment));
     }
 
 }
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.participation.Registration;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link Registration}.
+ * The person is stored by name and email, and must be found in the address book when it is read back.
+ */
+class JsonAdaptedRegistration {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Registration's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Registration refers to a person not in the address book.";
+    public static final String MESSAGE_UNKNOWN_EVENT = "Registration refers to an event not in the event book.";
+
+    private final String name;
+    private final String email;
+    private final JsonAdaptedEvent event;
+
+    /**
+     * Constructs a {@code JsonAdaptedRegistration} with the given registration details.
+     */
+    @JsonCreator
+    public JsonAdaptedRegistration(@JsonProperty("name") String name, @JsonProperty("email") String email,
+            @JsonProperty("event") JsonAdaptedEvent event) {
+        this.name = name;
+        this.email = email;
+        this.event = event;
+    }
+
+    /**
+     * Converts a given {@code Registration} into this class for Jackson use.
+     */
+    public JsonAdaptedRegistration(Registration source) {
+        name = source.getPerson().getName().fullName;
+        email = source.getPerson().getEmail().value;
+        event = new JsonAdaptedEvent(source.getEvent());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted registration into the model's {@code Registration} object, resolving
+     * its person in {@code addressBook} and its event in {@code eventBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted registration, or if
+     *     its person or event cannot be found.
+     */
+    public Registration toModelType(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook)
+            throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (email == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
+        }
+        if (event == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Event.class.getSimpleName()));
+        }
+
+        Person modelPerson = addressBook.getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals(name) && person.getEmail().value.equals(email))
+                .findFirst()
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_UNKNOWN_PERSON));
+
+        Event modelEvent = event.toModelType();
+        if (!eventBook.getEventList().contains(modelEvent)) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_EVENT);
+        }
+
+        return new Registration(modelPerson, modelEvent);
+    }
+}
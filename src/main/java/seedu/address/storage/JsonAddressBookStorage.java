@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,15 +19,49 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is saved in the chosen {@link DataFileFormat} and read in either format.
+ * The texts of the comments may be kept in a {@link CommentStore} next to the file, in which case they are only read
+ * when they are needed.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isDeduplicatingStrings;
+    private final boolean isStoringCommentsApart;
+    private final DataFileFormat dataFileFormat;
+    private final Map<Path, CommentStore> commentStores = new HashMap<>();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public JsonAddressBookStorage(Path filePath, boolean isDeduplicatingStrings) {
+        this(filePath, isDeduplicatingStrings, false);
+    }
+
+    /**
+     * Creates a storage of the address book at {@code filePath}.
+     * If {@code isDeduplicatingStrings} is true, repeated field values read from the file share one string in memory.
+     * If {@code isStoringCommentsApart} is true, the texts of the comments are saved in a comment store next to the
+     * file instead of in the file. Comments kept in a comment store are read from it either way.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isDeduplicatingStrings, boolean isStoringCommentsApart) {
+        this(filePath, isDeduplicatingStrings, isStoringCommentsApart, DataFileFormat.JSON);
+    }
+
+    /**
+     * Creates a storage of the address book at {@code filePath} like
+     * {@link #JsonAddressBookStorage(Path, boolean, boolean)}, which saves the file in {@code dataFileFormat}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isDeduplicatingStrings, boolean isStoringCommentsApart,
+            DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
         this.filePath = filePath;
+        this.isDeduplicatingStrings = isDeduplicatingStrings;
+        this.isStoringCommentsApart = isStoringCommentsApart;
+        this.dataFileFormat = dataFileFormat;
     }
 
     public Path getAddressBookFilePath() {
@@ -52,10 +89,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isCommentStoreOpen = commentStores.containsKey(filePath);
+            CommentStore commentStore = getCommentStore(filePath);
+            if (!isCommentStoreOpen) {
+                // no comment has been read from a store that was just opened, so it can still be compacted
+                commentStore.compact(jsonAddressBook.get().getCommentIds());
+            }
+            return Optional.of(jsonAddressBook.get().toModelType(isDeduplicatingStrings, commentStore));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading the comments of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
     }
 
@@ -74,7 +120,31 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (!isStoringCommentsApart) {
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, dataFileFormat);
+            return;
+        }
+        CommentStore commentStore = getCommentStore(filePath);
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(addressBook, commentStore);
+        // the comments must be on the disk before the file that refers to them
+        commentStore.flush();
+        JsonUtil.saveJsonFile(jsonAddressBook, filePath, dataFileFormat);
+    }
+
+    @Override
+    public Path moveAddressBookFileAside(String label) throws IOException {
+        Path movedFile = FileUtil.moveAside(filePath, label);
+        CommentStore.keepForMovedDataFile(filePath, movedFile);
+        return movedFile;
+    }
+
+    private CommentStore getCommentStore(Path filePath) throws IOException {
+        CommentStore commentStore = commentStores.get(filePath);
+        if (commentStore == null) {
+            commentStore = CommentStore.forDataFile(filePath);
+            commentStores.put(filePath, commentStore);
+        }
+        return commentStore;
     }
 
 }
@@ -7,6 +7,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,13 +17,24 @@ import seedu.address.model.ReadOnlyEventBook;
 
 /**
  * A class to access EventBook data stored as a json file on the hard disk.
+ * The file is saved in the chosen {@link DataFileFormat} and read in either format.
  */
 public class JsonEventBookStorage implements EventBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonEventBookStorage.class);
     private Path filePath;
+    private final DataFileFormat dataFileFormat;
 
     public JsonEventBookStorage(Path filePath) {
+        this(filePath, DataFileFormat.JSON);
+    }
+
+    /**
+     * Creates a storage of the event book at {@code filePath}, which saves the file in {@code dataFileFormat}.
+     */
+    public JsonEventBookStorage(Path filePath, DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
         this.filePath = filePath;
+        this.dataFileFormat = dataFileFormat;
     }
 
     public Path getEventBookFilePath() {
@@ -67,7 +79,7 @@ public class JsonEventBookStorage implements EventBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEventBook(eventBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableEventBook(eventBook), filePath, dataFileFormat);
     }
 
 }
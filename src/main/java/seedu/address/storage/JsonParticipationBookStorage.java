@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyParticipationBook;
+
+/**
+ * A class to access ParticipationBook data stored as a json file on the hard disk.
+ * The file is saved in the chosen {@link DataFileFormat} and read in either format.
+ */
+public class JsonParticipationBookStorage implements ParticipationBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonParticipationBookStorage.class);
+
+    private Path filePath;
+    private final DataFileFormat dataFileFormat;
+
+    public JsonParticipationBookStorage(Path filePath) {
+        this(filePath, DataFileFormat.JSON);
+    }
+
+    /**
+     * Creates a storage of the registrations at {@code filePath}, which saves the file in {@code dataFileFormat}.
+     */
+    public JsonParticipationBookStorage(Path filePath, DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.filePath = filePath;
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public Path getParticipationBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyParticipationBook> readParticipationBook(ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) throws DataLoadingException {
+        return readParticipationBook(filePath, addressBook, eventBook);
+    }
+
+    /**
+     * Similar to {@link #readParticipationBook(ReadOnlyAddressBook, ReadOnlyEventBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyParticipationBook> readParticipationBook(Path filePath, ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableParticipationBook> jsonParticipationBook = JsonUtil.readJsonFile(
+                filePath, JsonSerializableParticipationBook.class);
+        if (!jsonParticipationBook.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonParticipationBook.get().toModelType(addressBook, eventBook));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveParticipationBook(ReadOnlyParticipationBook participationBook) throws IOException {
+        saveParticipationBook(participationBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveParticipationBook(ReadOnlyParticipationBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveParticipationBook(ReadOnlyParticipationBook participationBook, Path filePath)
+            throws IOException {
+        requireNonNull(participationBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableParticipationBook(participationBook), filePath, dataFileFormat);
+    }
+
+}
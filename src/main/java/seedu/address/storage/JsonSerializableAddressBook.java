@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -9,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringPool;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -40,15 +45,63 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, keeping the texts of the comments
+     * in {@code commentStore}.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, CommentStore commentStore) throws IOException {
+        for (Person person : source.getPersonList()) {
+            persons.add(new JsonAdaptedPerson(person, commentStore));
+        }
+    }
+
+    /**
+     * Returns the ids of the comments kept in a {@link CommentStore}.
+     */
+    public Set<Integer> getCommentIds() {
+        return persons.stream()
+                .map(JsonAdaptedPerson::getCommentId)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object.
+     * If {@code isDeduplicatingStrings} is true, persons with equal field values, e.g. the same comment, share the
+     * strings of those values.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(boolean isDeduplicatingStrings) throws IllegalValueException {
+        return toModelType(isDeduplicatingStrings, null);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, like {@link #toModelType(boolean)},
+     * reading the comments kept in a store from {@code commentStore}.
+     *
+     * @param commentStore the store of the comments, or null if the data has no store.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(boolean isDeduplicatingStrings, CommentStore commentStore)
+            throws IllegalValueException {
+        UnaryOperator<String> deduplicator = isDeduplicatingStrings
+                ? new StringPool()::intern
+                : UnaryOperator.identity();
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+            Person person = jsonAdaptedPerson.toModelType(deduplicator, commentStore);
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
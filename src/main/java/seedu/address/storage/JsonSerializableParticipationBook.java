@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ParticipationBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyParticipationBook;
+import seedu.address.model.participation.Registration;
+
+/**
+ * An Immutable ParticipationBook that is serializable to JSON format.
+ */
+@JsonRootName(value = "participationbook")
+class JsonSerializableParticipationBook {
+
+    private final List<JsonAdaptedRegistration> registrations = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableParticipationBook} with the given registrations.
+     */
+    @JsonCreator
+    public JsonSerializableParticipationBook(
+            @JsonProperty("registrations") List<JsonAdaptedRegistration> registrations) {
+        this.registrations.addAll(registrations);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyParticipationBook} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableParticipationBook}.
+     */
+    public JsonSerializableParticipationBook(ReadOnlyParticipationBook source) {
+        registrations.addAll(source.getRegistrations().stream()
+                .map(JsonAdaptedRegistration::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this participation book into the model's {@code ParticipationBook} object, resolving persons in
+     * {@code addressBook} and events in {@code eventBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ParticipationBook toModelType(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook)
+            throws IllegalValueException {
+        ParticipationBook participationBook = new ParticipationBook();
+        for (JsonAdaptedRegistration jsonAdaptedRegistration : registrations) {
+            Registration registration = jsonAdaptedRegistration.toModelType(addressBook, eventBook);
+            participationBook.register(registration.getPerson(), registration.getEvent());
+        }
+        return participationBook;
+    }
+}
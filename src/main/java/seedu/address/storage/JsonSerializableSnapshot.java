@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An immutable snapshot of the address book and the event book that is serializable to JSON format.
+ */
+class JsonSerializableSnapshot {
+
+    private final JsonSerializableAddressBook addressBook;
+    private final JsonSerializableEventBook eventBook;
+
+    /**
+     * Constructs a {@code JsonSerializableSnapshot} with the given books.
+     */
+    @JsonCreator
+    public JsonSerializableSnapshot(@JsonProperty("addressBook") JsonSerializableAddressBook addressBook,
+            @JsonProperty("eventBook") JsonSerializableEventBook eventBook) {
+        this.addressBook = addressBook;
+        this.eventBook = eventBook;
+    }
+
+    public JsonSerializableAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    public JsonSerializableEventBook getEventBook() {
+        return eventBook;
+    }
+}
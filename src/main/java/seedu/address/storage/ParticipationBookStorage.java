@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyParticipationBook;
+
+/**
+ * Represents a storage for {@link seedu.address.model.ParticipationBook}.
+ */
+public interface ParticipationBookStorage {
+
+    /**
+     * Returns the file path of the data file.
+     */
+    Path getParticipationBookFilePath();
+
+    /**
+     * Returns the registrations as a {@link ReadOnlyParticipationBook}, with persons and events resolved in
+     * {@code addressBook} and {@code eventBook}.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<ReadOnlyParticipationBook> readParticipationBook(ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) throws DataLoadingException;
+
+    /**
+     * @see #readParticipationBook(ReadOnlyAddressBook, ReadOnlyEventBook)
+     */
+    Optional<ReadOnlyParticipationBook> readParticipationBook(Path filePath, ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) throws DataLoadingException;
+
+    /**
+     * Saves the given {@link ReadOnlyParticipationBook} to the storage.
+     * @param participationBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveParticipationBook(ReadOnlyParticipationBook participationBook) throws IOException;
+
+    /**
+     * @see #saveParticipationBook(ReadOnlyParticipationBook)
+     */
+    void saveParticipationBook(ReadOnlyParticipationBook participationBook, Path filePath) throws IOException;
+
+}
@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.RecordStore;
+
+/**
+ * Keeps a list of immutable items, such as the persons of an address book, in a {@link RecordStore}, one record per
+ * item under a key made from the identity of the item.
+ * Saving the list only writes the items that are not the very objects saved or read before, and deletes the records
+ * of the items no longer in the list. The position of each item in the list is kept as a sequence number in its
+ * record, with gaps between the numbers so that an item can usually be added or replaced without renumbering the
+ * others.
+ */
+class RecordList<T> {
+
+    public static final long SEQUENCE_GAP = 1 << 16;
+    /** The label of a legacy data file that was moved into a store and kept aside. */
+    public static final String MIGRATED_FILE_LABEL = "migrated";
+
+    private final String name;
+    private final Function<T, String> identity;
+    private final Map<T, SavedItem> savedItems = new IdentityHashMap<>();
+
+    /**
+     * Creates a list kept under keys starting with {@code name}, with the identity of each item given by
+     * {@code identity}. Items in the list must have distinct identities.
+     */
+    public RecordList(String name, Function<T, String> identity) {
+        requireNonNull(name);
+        requireNonNull(identity);
+        this.name = name;
+        this.identity = identity;
+    }
+
+    /**
+     * Returns true if the list has been saved to {@code store}, even if it was empty then.
+     */
+    public boolean isSavedIn(RecordStore store) {
+        return store.contains(name);
+    }
+
+    /**
+     * Reads the items of the list from {@code store}, in the order of the list.
+     *
+     * @throws IllegalValueException if a record cannot be decoded by {@code decoder}.
+     */
+    public List<T> read(RecordStore store, Decoder<T> decoder) throws IOException, IllegalValueException {
+        List<SavedItem> records = new ArrayList<>();
+        List<byte[]> contents = new ArrayList<>();
+        for (String key : store.getKeys(name + "/")) {
+            ByteBuffer value = ByteBuffer.wrap(store.get(key).orElseThrow());
+            records.add(new SavedItem(key, value.getLong()));
+            contents.add(Arrays.copyOfRange(value.array(), Long.BYTES, value.capacity()));
+        }
+
+        Integer[] order = new Integer[records.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingLong(i -> records.get(i).sequence));
+
+        savedItems.clear();
+        List<T> items = new ArrayList<>(order.length);
+        for (int i : order) {
+            T item = decoder.decode(contents.get(i));
+            savedItems.put(item, records.get(i));
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Returns a transaction that saves {@code items} as the list in {@code store} once it is committed. Changes of
+     * the caller's own may be added to the transaction, which the caller must commit.
+     *
+     * @throws IllegalArgumentException if two of the items have the same identity.
+     */
+    public RecordStore.Transaction prepareSave(List<? extends T> items, RecordStore store, Encoder<T> encoder)
+            throws IOException {
+        requireNonNull(items);
+        SavedItem[] records = new SavedItem[items.size()];
+        boolean[] isUnchanged = new boolean[items.size()];
+        long previousSequence = 0;
+        for (int i = 0; i < items.size(); i++) {
+            SavedItem saved = savedItems.get(items.get(i));
+            if (saved != null && saved.sequence > previousSequence) {
+                records[i] = saved;
+                isUnchanged[i] = true;
+                previousSequence = saved.sequence;
+            }
+        }
+        if (!assignSequences(items, records)) {
+            // there is no gap left for an item, so every item is renumbered
+            Arrays.fill(isUnchanged, false);
+            for (int i = 0; i < items.size(); i++) {
+                records[i] = new SavedItem(getKey(items.get(i)), (i + 1) * SEQUENCE_GAP);
+            }
+        }
+
+        RecordStore.Transaction transaction = store.beginTransaction();
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (!keys.add(records[i].key)) {
+                throw new IllegalArgumentException("Two items of " + name + " have the identity " + records[i].key);
+            }
+            if (!isUnchanged[i]) {
+                byte[] content = encoder.encode(items.get(i));
+                transaction.put(records[i].key, ByteBuffer.allocate(Long.BYTES + content.length)
+                        .putLong(records[i].sequence).put(content).array());
+            }
+        }
+        for (SavedItem saved : savedItems.values()) {
+            if (!keys.contains(saved.key)) {
+                transaction.delete(saved.key);
+            }
+        }
+        if (!isSavedIn(store)) {
+            transaction.put(name, new byte[0]);
+        }
+
+        List<T> savedList = new ArrayList<>(items);
+        return transaction.onCommit(() -> {
+            savedItems.clear();
+            for (int i = 0; i < savedList.size(); i++) {
+                savedItems.put(savedList.get(i), records[i]);
+            }
+        });
+    }
+
+    /**
+     * Gives the items without a record in {@code records} a key and a sequence number between those of the items
+     * with a record around them.
+     *
+     * @return false if there is no gap left between two sequence numbers for the items between them.
+     */
+    private boolean assignSequences(List<? extends T> items, SavedItem[] records) {
+        int runStart = 0;
+        long previousSequence = 0;
+        for (int i = 0; i <= items.size(); i++) {
+            if (i < items.size() && records[i] == null) {
+                continue;
+            }
+            int runLength = i - runStart;
+            long step = i < items.size()
+                    ? (records[i].sequence - previousSequence) / (runLength + 1)
+                    : SEQUENCE_GAP;
+            if (runLength > 0 && step == 0) {
+                return false;
+            }
+            for (int j = runStart; j < i; j++) {
+                records[j] = new SavedItem(getKey(items.get(j)), previousSequence + (j - runStart + 1) * step);
+            }
+            if (i < items.size()) {
+                previousSequence = records[i].sequence;
+            }
+            runStart = i + 1;
+        }
+        return true;
+    }
+
+    private String getKey(T item) {
+        return name + "/" + identity.apply(item);
+    }
+
+    /**
+     * The key and the sequence number of the record of an item.
+     */
+    private static class SavedItem {
+        private final String key;
+        private final long sequence;
+
+        private SavedItem(String key, long sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Converts an item into the content of its record.
+     */
+    @FunctionalInterface
+    public interface Encoder<T> {
+        byte[] encode(T item) throws IOException;
+    }
+
+    /**
+     * Converts the content of a record back into an item.
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+        T decode(byte[] content) throws IOException, IllegalValueException;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A compressed copy of the address book and the event book saved at some time, kept in a file whose name records
+ * when and why the snapshot was taken.
+ */
+public class Snapshot {
+
+    private static final DateTimeFormatter FILE_NAME_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final DateTimeFormatter DISPLAY_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern FILE_NAME_FORMAT =
+            Pattern.compile("snapshot-(?<time>\\d{8}-\\d{6}-\\d{3})-(?<reason>[a-z]+)\\.json\\.gz");
+
+    private final Path file;
+    private final LocalDateTime takenAt;
+    private final String reason;
+
+    private Snapshot(Path file, LocalDateTime takenAt, String reason) {
+        this.file = file;
+        this.takenAt = takenAt;
+        this.reason = reason;
+    }
+
+    /**
+     * Returns the snapshot to be taken at {@code takenAt} for {@code reason} in {@code directory}.
+     * {@code reason} must be a lower case word.
+     */
+    public static Snapshot of(Path directory, LocalDateTime takenAt, String reason) {
+        requireNonNull(directory);
+        requireNonNull(takenAt);
+        requireNonNull(reason);
+        String fileName = "snapshot-" + FILE_NAME_TIME_FORMAT.format(takenAt) + "-" + reason + ".json.gz";
+        return new Snapshot(directory.resolve(fileName), takenAt, reason);
+    }
+
+    /**
+     * Returns the snapshot kept in {@code file}, or an empty {@code Optional} if {@code file} is not named like a
+     * snapshot.
+     */
+    public static Optional<Snapshot> fromFile(Path file) {
+        requireNonNull(file);
+        Matcher matcher = FILE_NAME_FORMAT.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            LocalDateTime takenAt = LocalDateTime.parse(matcher.group("time"), FILE_NAME_TIME_FORMAT);
+            return Optional.of(new Snapshot(file, takenAt, matcher.group("reason")));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns when and why the snapshot was taken, for display to the user.
+     */
+    public String getDescription() {
+        return DISPLAY_TIME_FORMAT.format(takenAt) + " (" + reason + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Snapshot)) {
+            return false;
+        }
+
+        Snapshot otherSnapshot = (Snapshot) other;
+        return file.equals(otherSnapshot.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return file.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("takenAt", takenAt)
+                .add("reason", reason)
+                .toString();
+    }
+}
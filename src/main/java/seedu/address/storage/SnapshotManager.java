@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps a number of rotating {@link Snapshot}s of the address book and the event book in a directory, so that the
+ * data can be restored after a mistake such as a {@code clear} command.
+ * Only the lists of persons and events are copied on the calling thread. As persons and events are immutable, the
+ * copies can be converted, compressed and written on a background thread, where the comments are read too, so that
+ * the caller is not blocked. Snapshots are read on the background thread as well.
+ * Once more than the maximum number of snapshots have been taken, the oldest are deleted.
+ */
+public class SnapshotManager implements AutoCloseable {
+
+    public static final String DEFAULT_DIRECTORY_NAME = "snapshots";
+    public static final int DEFAULT_MAX_SNAPSHOTS = 10;
+    public static final Duration DEFAULT_SNAPSHOT_INTERVAL = Duration.ofMinutes(10);
+
+    public static final String REASON_TIMED = "timed";
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotManager.class);
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final Path snapshotDirectory;
+    private final int maxSnapshots;
+    private final Duration snapshotInterval;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Instant lastSnapshotTime = Instant.now();
+    private LocalDateTime lastTakenAt = LocalDateTime.MIN;
+
+    /**
+     * Creates a manager of the snapshots in {@code snapshotDirectory} that keeps at most {@code maxSnapshots} of them
+     * and takes a timed snapshot when {@code snapshotInterval} has passed since the last one.
+     */
+    public SnapshotManager(Path snapshotDirectory, int maxSnapshots, Duration snapshotInterval) {
+        requireNonNull(snapshotDirectory);
+        requireNonNull(snapshotInterval);
+        checkArgument(maxSnapshots > 0, "At least one snapshot must be kept.");
+        this.snapshotDirectory = snapshotDirectory;
+        this.maxSnapshots = maxSnapshots;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public Path getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and {@code eventBook} for {@code reason}, which must be a lower case
+     * word such as the word of the command about to be executed.
+     *
+     * @return a future that completes with the snapshot once it has been written.
+     */
+    public synchronized CompletableFuture<Snapshot> takeSnapshot(ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook, String reason) {
+        requireNonNull(addressBook);
+        requireNonNull(eventBook);
+        requireNonNull(reason);
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        List<Event> events = List.copyOf(eventBook.getEventList());
+        Snapshot snapshot = Snapshot.of(snapshotDirectory, nextSnapshotTime(), reason);
+        lastSnapshotTime = Instant.now();
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                JsonSerializableSnapshot contents = new JsonSerializableSnapshot(
+                        new JsonSerializableAddressBook(persons.stream().map(JsonAdaptedPerson::new)
+                                .collect(Collectors.toList())),
+                        new JsonSerializableEventBook(events.stream().map(JsonAdaptedEvent::new)
+                                .collect(Collectors.toList())));
+                FileUtil.createParentDirsOfFile(snapshot.getFile());
+                FileUtil.writeToFile(snapshot.getFile(),
+                        output -> JsonUtil.saveJsonFile(contents, output, DataFileFormat.COMPRESSED));
+                deleteOldSnapshots();
+                logger.fine("Took snapshot " + snapshot.getFile());
+                return snapshot;
+            } catch (IOException e) {
+                logger.warning("Failed to take snapshot " + snapshot.getFile() + ": " + StringUtil.getDetails(e));
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Takes a timed snapshot of {@code addressBook} and {@code eventBook} if the snapshot interval has passed since
+     * the last snapshot was taken.
+     *
+     * @return a future that completes with the snapshot once it has been written, or an empty {@code Optional} if no
+     *     snapshot is due.
+     */
+    public synchronized Optional<CompletableFuture<Snapshot>> takeSnapshotIfDue(ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) {
+        if (Instant.now().isBefore(lastSnapshotTime.plus(snapshotInterval))) {
+            return Optional.empty();
+        }
+        return Optional.of(takeSnapshot(addressBook, eventBook, REASON_TIMED));
+    }
+
+    /**
+     * Lists the snapshots in the snapshot directory, newest first, on the background thread once the snapshots being
+     * taken have been written. Only the names of the files are read.
+     *
+     * @return a future that completes with the snapshots, or completes exceptionally with an {@code IOException} if
+     *     the snapshot directory cannot be read.
+     */
+    public CompletableFuture<List<Snapshot>> listSnapshots() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return listSnapshotFiles();
+            } catch (IOException e) {
+                logger.warning("Failed to list snapshots in " + snapshotDirectory + ": " + StringUtil.getDetails(e));
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private List<Snapshot> listSnapshotFiles() throws IOException {
+        if (!Files.isDirectory(snapshotDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(snapshotDirectory)) {
+            return files.map(Snapshot::fromFile)
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.comparing(Snapshot::getTakenAt).reversed())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Reads the books kept in {@code snapshot} on the background thread.
+     *
+     * @return a future that completes with the books once they have been read, or completes exceptionally with an
+     *     {@code IOException} or an {@code IllegalValueException} if the snapshot cannot be read.
+     */
+    public CompletableFuture<Contents> readSnapshot(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream input = Files.newInputStream(snapshot.getFile())) {
+                JsonSerializableSnapshot contents = JsonUtil.readJsonFile(input, JsonSerializableSnapshot.class);
+                return new Contents(contents.getAddressBook().toModelType(true),
+                        contents.getEventBook().toModelType());
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Failed to read snapshot " + snapshot.getFile() + ": " + StringUtil.getDetails(e));
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Waits for the snapshots being taken to be written, and stops the background thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Snapshots were still being written after " + CLOSE_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the current time, moved past the time of the last snapshot if needed so that every snapshot has its
+     * own file.
+     */
+    private LocalDateTime nextSnapshotTime() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime earliest = lastTakenAt.plusNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        lastTakenAt = now.isBefore(earliest) ? earliest : now;
+        return lastTakenAt;
+    }
+
+    private void deleteOldSnapshots() throws IOException {
+        List<Snapshot> snapshots = listSnapshotFiles();
+        for (Snapshot snapshot : snapshots.subList(Math.min(maxSnapshots, snapshots.size()), snapshots.size())) {
+            Files.deleteIfExists(snapshot.getFile());
+        }
+    }
+
+    /**
+     * The books read from a snapshot.
+     */
+    public static class Contents {
+        private final ReadOnlyAddressBook addressBook;
+        private final ReadOnlyEventBook eventBook;
+
+        private Contents(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook) {
+            this.addressBook = addressBook;
+            this.eventBook = eventBook;
+        }
+
+        public ReadOnlyAddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        public ReadOnlyEventBook getEventBook() {
+            return eventBook;
+        }
+    }
+}
@@ -2,18 +2,22 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyParticipationBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.participation.CheckIn;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, EventBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, EventBookStorage, ParticipationBookStorage, CheckInLogStorage,
+        UserPrefsStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -39,4 +43,24 @@ public interface Storage extends AddressBookStorage, EventBookStorage, UserPrefs
     @Override
     void saveEventBook(ReadOnlyEventBook eventBook) throws IOException;
 
+    @Override
+    Path getParticipationBookFilePath();
+
+    @Override
+    Optional<ReadOnlyParticipationBook> readParticipationBook(ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) throws DataLoadingException;
+
+    @Override
+    void saveParticipationBook(ReadOnlyParticipationBook participationBook) throws IOException;
+
+    @Override
+    Path getCheckInLogFilePath();
+
+    @Override
+    Optional<List<CheckIn>> readCheckInLog(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook)
+            throws DataLoadingException;
+
+    @Override
+    void appendCheckIns(List<CheckIn> checkIns) throws IOException;
+
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,8 +10,10 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyParticipationBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.participation.CheckIn;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -20,16 +23,22 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private EventBookStorage eventBookStorage;
+    private ParticipationBookStorage participationBookStorage;
+    private CheckInLogStorage checkInLogStorage;
     private UserPrefsStorage userPrefsStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code EventBookStorage},
+     * {@code ParticipationBookStorage}, {@code CheckInLogStorage} and {@code UserPrefStorage}.
      */
-    public StorageManager(AddressBookStorage addressBookStorage,
-                          EventBookStorage eventBookStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(AddressBookStorage addressBookStorage, EventBookStorage eventBookStorage,
+                          ParticipationBookStorage participationBookStorage, CheckInLogStorage checkInLogStorage,
+                          UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.eventBookStorage = eventBookStorage;
+        this.participationBookStorage = participationBookStorage;
+        this.checkInLogStorage = checkInLogStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -78,6 +87,12 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
+
+    @Override
+    public Path moveAddressBookFileAside(String label) throws IOException {
+        logger.fine("Moving aside data file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.moveAddressBookFileAside(label);
+    }
     // ================ EventBook methods ==============================
     @Override
     public Path getEventBookFilePath() {
@@ -105,5 +120,55 @@ public class StorageManager implements Storage {
         eventBookStorage.saveEventBook(eventBook, filePath);
     }
 
+    // ================ ParticipationBook methods ==============================
+
+    @Override
+    public Path getParticipationBookFilePath() {
+        return participationBookStorage.getParticipationBookFilePath();
+    }
 
+    @Override
+    public Optional<ReadOnlyParticipationBook> readParticipationBook(ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) throws DataLoadingException {
+        return readParticipationBook(participationBookStorage.getParticipationBookFilePath(), addressBook, eventBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyParticipationBook> readParticipationBook(Path filePath, ReadOnlyAddressBook addressBook,
+            ReadOnlyEventBook eventBook) throws DataLoadingException {
+        logger.fine("Attempting to read data from file: " + filePath);
+        return participationBookStorage.readParticipationBook(filePath, addressBook, eventBook);
+    }
+
+    @Override
+    public void saveParticipationBook(ReadOnlyParticipationBook participationBook) throws IOException {
+        saveParticipationBook(participationBook, participationBookStorage.getParticipationBookFilePath());
+    }
+
+    @Override
+    public void saveParticipationBook(ReadOnlyParticipationBook participationBook, Path filePath)
+            throws IOException {
+        logger.fine("Attempting to write to data file: " + filePath);
+        participationBookStorage.saveParticipationBook(participationBook, filePath);
+    }
+
+    // ================ CheckInLog methods ==============================
+
+    @Override
+    public Path getCheckInLogFilePath() {
+        return checkInLogStorage.getCheckInLogFilePath();
+    }
+
+    @Override
+    public Optional<List<CheckIn>> readCheckInLog(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook)
+            throws DataLoadingException {
+        logger.fine("Attempting to read data from file: " + checkInLogStorage.getCheckInLogFilePath());
+        return checkInLogStorage.readCheckInLog(addressBook, eventBook);
+    }
+
+    @Override
+    public void appendCheckIns(List<CheckIn> checkIns) throws IOException {
+        logger.fine("Attempting to append to data file: " + checkInLogStorage.getCheckInLogFilePath());
+        checkInLogStorage.appendCheckIns(checkIns);
+    }
 }
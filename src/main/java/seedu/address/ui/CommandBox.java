@@ -1,13 +1,18 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,10 +24,17 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
     private Consumer<String> commandToHistorySaver = (commandText) -> {
     };
+    private Consumer<String> commandPreviewer = (commandText) -> {
+    };
+    private Function<String, List<String>> commandCompleter = (commandText) -> List.of();
+    private List<String> completions = List.of();
+    private int completionIndex;
 
     @FXML
     private TextField commandTextField;
@@ -36,6 +48,15 @@ public class CommandBox extends UiPart<Region> {
         // calls #setStyleToDefault() whenever there is a change to the text of the
         // command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // previews the command once the user pauses typing, so that bursts of keystrokes cause a single update.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> previewDelay.playFromStart());
+        previewDelay.setOnFinished(event -> commandPreviewer.accept(commandTextField.getText()));
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                complete();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -76,6 +97,45 @@ public class CommandBox extends UiPart<Region> {
         });
     }
 
+    /**
+     * Sets the consumer that previews the command text while it is being typed.
+     *
+     * @param commandPreviewer The consumer for previewing the command text.
+     */
+    public void setCommandPreviewer(Consumer<String> commandPreviewer) {
+        this.commandPreviewer = commandPreviewer;
+    }
+
+    /**
+     * Sets the function that completes a partially typed command when Tab is pressed.
+     *
+     * @param commandCompleter The function returning the completions of the command text, most likely first.
+     */
+    public void setCommandCompleter(Function<String, List<String>> commandCompleter) {
+        this.commandCompleter = commandCompleter;
+    }
+
+    /**
+     * Replaces the command text with its most likely completion. If the text is a completion offered by the previous
+     * Tab press, it is replaced with the next completion offered instead, so that repeated presses cycle through
+     * them.
+     */
+    private void complete() {
+        String commandText = commandTextField.getText();
+        if (!completions.isEmpty() && commandText.equals(completions.get(completionIndex))) {
+            completionIndex = (completionIndex + 1) % completions.size();
+        } else {
+            completions = commandCompleter.apply(commandText);
+            completionIndex = 0;
+        }
+        if (completions.isEmpty()) {
+            return;
+        }
+        String completion = completions.get(completionIndex);
+        commandTextField.setText(completion);
+        commandTextField.positionCaret(completion.length());
+    }
+
     /**
      * Focuses on the command box.
      */
@@ -116,6 +176,7 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
         saveCommandToHistory(commandText);
+        previewDelay.stop();
 
         try {
             commandExecutor.execute(commandText);
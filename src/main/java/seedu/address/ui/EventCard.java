@@ -12,6 +12,7 @@ import seedu.address.model.event.EventCategory;
  */
 public class EventCard extends UiPart<Region> {
     private static final String FXML = "EventListCard.fxml";
+    private static final String CATEGORY_STYLE_CLASS_PREFIX = "category-label-";
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved
      * keywords in JavaFX.
@@ -22,7 +23,7 @@ public class EventCard extends UiPart<Region> {
      * issue on AddressBook level 4</a>
      */
 
-    public final Event event;
+    private Event event;
 
     @javafx.fxml.FXML
     private HBox cardPane;
@@ -34,25 +35,45 @@ public class EventCard extends UiPart<Region> {
     private Label eventcategory;
     @FXML
     private Label id;
+
+    /**
+     * Creates an empty {@code EventCard} that can be bound to an {@code Event} with
+     * {@link #setEvent(Event, int)}.
+     */
+    public EventCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code EventCode} with the given {@code event} and index to
      * display.
      */
     public EventCard(Event event, int displayedIndex) {
-        super(FXML);
+        this();
+        setEvent(event, displayedIndex);
+    }
+
+    /**
+     * Rebinds this card to display {@code event} at {@code displayedIndex}, reusing the loaded components.
+     */
+    public void setEvent(Event event, int displayedIndex) {
         this.event = event;
         id.setText(displayedIndex + "");
         eventname.setText(event.getEventName().eventName);
-        eventdate.setText(event.getEventDate().eventDate);
+        String times = event.getStartTime().isPresent()
+                ? " " + event.getStartTime().get() + "-" + event.getEndTime().get()
+                : "";
+        eventdate.setText(event.getEventDate().eventDate + times);
         eventcategory.setText(event.getEventCategory().value);
+        eventcategory.getStyleClass().removeIf(styleClass -> styleClass.startsWith(CATEGORY_STYLE_CLASS_PREFIX));
         eventcategory.getStyleClass().add(getCategoryStyleClass(event.getEventCategory()));
     }
 
-    private String getCategoryStyleClass(EventCategory category) {
-        return "category-label-" + category.value.toLowerCase();
+    public Event getEvent() {
+        return event;
     }
 
-
-
-
+    private String getCategoryStyleClass(EventCategory category) {
+        return CATEGORY_STYLE_CLASS_PREFIX + category.value.toLowerCase();
+    }
 }
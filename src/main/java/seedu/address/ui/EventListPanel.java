@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
@@ -14,6 +15,7 @@ import seedu.address.model.event.Event;
  */
 public class EventListPanel extends UiPart<Region> {
     private static final String FXML = "EventListPanel.fxml";
+    private static final String LOADING_PLACEHOLDER = "Loading events...";
     private final Logger logger = LogsCenter.getLogger(EventListPanel.class);
 
     @javafx.fxml.FXML
@@ -28,6 +30,13 @@ public class EventListPanel extends UiPart<Region> {
         eventListView.setCellFactory(listView -> new EventListPanel.EventListViewCell());
     }
 
+    /**
+     * Shows a loading placeholder while the list is empty if {@code isLoadingData} is true.
+     */
+    public void setLoadingData(boolean isLoadingData) {
+        eventListView.setPlaceholder(isLoadingData ? new Label(LOADING_PLACEHOLDER) : null);
+    }
+
     /**
      * Focuses on the event list.
      */
@@ -35,7 +44,13 @@ public class EventListPanel extends UiPart<Region> {
         eventListView.requestFocus();
     }
 
+    /**
+     * Custom {@code ListCell} that displays the graphics of an {@code Event} using
+     * an {@code EventCard}. The card is created once per cell and rebound on every update.
+     */
     class EventListViewCell extends ListCell<Event> {
+        private EventCard eventCard;
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
@@ -44,7 +59,11 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                if (eventCard == null) {
+                    eventCard = new EventCard();
+                }
+                eventCard.setEvent(event, getIndex() + 1);
+                setGraphic(eventCard.getRoot());
             }
         }
     }
@@ -1,13 +1,10 @@
 package seedu.address.ui;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -17,6 +14,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.EventCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.inputhistory.UserInputHistory;
@@ -30,7 +28,9 @@ public class EventWindow extends UiPart<Stage> {
     private static final String FXML = "EventWindow.fxml";
     private final Logger logger = LogsCenter.getLogger(getClass());
     private Stage primaryStage;
+    private Scene scene;
     private HelpWindow helpWindow;
+    private ViewManager viewManager;
 
     @FXML
     private MenuItem backMenuItem;
@@ -51,7 +51,8 @@ public class EventWindow extends UiPart<Stage> {
 
     private Logic logic;
 
-    private List<EventHandler<KeyEvent>> keyPressHandlers;
+    /** Whether lines entered in the command box are arrivals to check in rather than commands. */
+    private boolean isCheckingIn;
 
     /**
      * Constructs an EventWindow with the specified primaryStage and logic.
@@ -59,14 +60,15 @@ public class EventWindow extends UiPart<Stage> {
      * @param primaryStage The primary stage for the EventWindow.
      * @param logic        The logic component responsible for handling application
      *                     logic.
+     * @param viewManager  The view manager used to switch back to the MainWindow.
      * @throws IllegalArgumentException if logic is null.
      */
-    public EventWindow(Stage primaryStage, Logic logic) {
+    public EventWindow(Stage primaryStage, Logic logic, ViewManager viewManager) {
         super(FXML, primaryStage);
 
         this.primaryStage = primaryStage;
-
-        this.keyPressHandlers = new ArrayList<>();
+        this.scene = primaryStage.getScene();
+        this.viewManager = viewManager;
 
         if (logic == null) {
             throw new IllegalArgumentException("Logic cannot be null");
@@ -75,8 +77,6 @@ public class EventWindow extends UiPart<Stage> {
         this.helpWindow = HelpWindow.get();
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
-
         setAccelerators();
     }
 
@@ -105,23 +105,13 @@ public class EventWindow extends UiPart<Stage> {
 
     @FXML
     private void handleBack() {
-        try {
-            primaryStage.close();
-            showMainWindow();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        viewManager.showMainWindow();
     }
 
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
     }
 
-    private void clearAccelerators() {
-        helpMenuItem.setAccelerator(null);
-        backMenuItem.setAccelerator(null);
-    }
-
     private void setAccelerator(MenuItem menuItem, KeyCombination keyCombination) {
         menuItem.setAccelerator(keyCombination);
 
@@ -140,7 +130,7 @@ public class EventWindow extends UiPart<Stage> {
          * help window purposely so to support accelerators even when focus is in
          * CommandBox or ResultDisplay.
          */
-        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             if (event.getTarget() instanceof TextInputControl && keyCombination.match(event)) {
                 menuItem.getOnAction().handle(new ActionEvent());
                 event.consume();
@@ -168,7 +158,7 @@ public class EventWindow extends UiPart<Stage> {
      * @param keyComb the key combination
      */
     private void setKeyPressHandler(Runnable func, KeyCombination keyComb) {
-        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             if (keyComb.match(event)) {
                 if (event.getTarget() instanceof TextInputControl) {
                     event.consume();
@@ -178,13 +168,8 @@ public class EventWindow extends UiPart<Stage> {
         });
     }
 
-    private void clearKeyPressHandlers() {
-        keyPressHandlers.forEach(handler -> getRoot().removeEventFilter(KeyEvent.KEY_PRESSED, handler));
-        keyPressHandlers.clear();
-    }
-
     void fillInnerParts() {
-        EventListPanel eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(logic.getFilteredEventList());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
         // set focus trigger on the event list panel to F4
         setKeyPressHandler(eventListPanel::focus, KeyCombination.keyCombination("F4"));
@@ -207,42 +192,22 @@ public class EventWindow extends UiPart<Stage> {
         setKeyPressHandler(commandBox::focus, KeyCombination.keyCombination("F2"));
     }
 
-    private void clearInnerParts() {
-        eventListPanelPlaceholder.getChildren().clear();
-        eventResultDisplayPlaceholder.getChildren().clear();
-        statusbarPlaceholder.getChildren().clear();
-        commandBoxPlaceholder.getChildren().clear();
-    }
-
-    private void setWindowDefaultSize(GuiSettings guiSettings) {
-        primaryStage.setHeight(guiSettings.getWindowHeight());
-        primaryStage.setWidth(guiSettings.getWindowWidth());
-        if (guiSettings.getWindowCoordinates() != null) {
-            primaryStage.setX(guiSettings.getWindowCoordinates().getX());
-            primaryStage.setY(guiSettings.getWindowCoordinates().getY());
-        }
-
-    }
-
     void show() {
         primaryStage.show();
     }
 
-    private void showMainWindow() throws IOException {
-        // Clean up the current window
-        clearAccelerators();
-        clearKeyPressHandlers();
-        clearInnerParts();
-
-        // Close the current window
-        primaryStage.close();
-
-        // Create a new MainWindow
-        MainWindow mainWindow = new MainWindow(primaryStage, logic);
+    /**
+     * Returns the scene of this window. It is only attached to the primary stage while this window is shown.
+     */
+    public Scene getScene() {
+        return scene;
+    }
 
-        // Show the MainWindow
-        mainWindow.show();
-        mainWindow.fillInnerParts();
+    /**
+     * Shows a loading placeholder in the event list if {@code isLoadingData} is true.
+     */
+    void setLoadingData(boolean isLoadingData) {
+        eventListPanel.setLoadingData(isLoadingData);
     }
 
     public EventListPanel getEventListPanel() {
@@ -250,6 +215,9 @@ public class EventWindow extends UiPart<Stage> {
     }
 
     private EventCommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (isCheckingIn) {
+            return executeCheckIn(commandText);
+        }
         try {
             if (logic == null) {
                 throw new IllegalStateException("Logic is not properly initialized");
@@ -273,6 +241,10 @@ public class EventWindow extends UiPart<Stage> {
                 handleBack();
             }
 
+            if (eventCommandResult.isCheckIn()) {
+                isCheckingIn = true;
+            }
+
             return eventCommandResult;
         } catch (CommandException | ParseException e) {
             logger.info("An error occurred while executing command: " + commandText);
@@ -283,4 +255,27 @@ public class EventWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Checks in the arrival with the email or phone number in {@code commandText}, or ends the check-in if
+     * {@code commandText} is the word that ends it. The counts in the feedback are kept by the model, so the event
+     * list is not refiltered for each arrival.
+     */
+    private EventCommandResult executeCheckIn(String commandText) throws CommandException {
+        try {
+            EventCommandResult eventCommandResult;
+            if (commandText.trim().equalsIgnoreCase(CheckInCommand.END_CHECK_IN_WORD)) {
+                eventCommandResult = logic.endCheckIn();
+                isCheckingIn = false;
+            } else {
+                eventCommandResult = logic.checkIn(commandText);
+            }
+            eventResultDisplay.setFeedbackToUser(eventCommandResult.getFeedbackToUser());
+            return eventCommandResult;
+        } catch (CommandException e) {
+            logger.info("An error occurred while checking in: " + commandText);
+            eventResultDisplay.setFeedbackToUser(e.getMessage());
+            throw e;
+        }
+    }
 }
@@ -1,13 +1,10 @@
 package seedu.address.ui;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -16,7 +13,6 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -34,9 +30,9 @@ public class MainWindow extends UiPart<Stage> {
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
+    private Scene scene;
     private Logic logic;
-
-    private List<EventHandler<KeyEvent>> keyPressHandlers;
+    private ViewManager viewManager;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -63,17 +59,17 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Loading the window sets its scene on {@code primaryStage}; {@code viewManager} switches to other views.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, ViewManager viewManager) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
+        this.scene = primaryStage.getScene();
         this.logic = logic;
-        this.keyPressHandlers = new ArrayList<>();
+        this.viewManager = viewManager;
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
-
         setAccelerators();
 
         helpWindow = HelpWindow.get();
@@ -83,13 +79,15 @@ public class MainWindow extends UiPart<Stage> {
         return primaryStage;
     }
 
-    private void setAccelerators() {
-        setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
+    /**
+     * Returns the scene of this window. It is only attached to the primary stage while this window is shown.
+     */
+    public Scene getScene() {
+        return scene;
     }
 
-    private void clearAccelerators() {
-        helpMenuItem.setAccelerator(null);
-        eventListMenuItem.setAccelerator(null);
+    private void setAccelerators() {
+        setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
     }
 
     /**
@@ -115,7 +113,7 @@ public class MainWindow extends UiPart<Stage> {
          * help window purposely so to support accelerators even when focus is in
          * CommandBox or ResultDisplay.
          */
-        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             if (event.getTarget() instanceof TextInputControl && keyCombination.match(event)) {
                 menuItem.getOnAction().handle(new ActionEvent());
                 event.consume();
@@ -141,24 +139,16 @@ public class MainWindow extends UiPart<Stage> {
      * @param func    the function to be executed when the key combination is
      *                pressed
      * @param keyComb the key combination
-     * @return the event handler
      */
     private void setKeyPressHandler(Runnable func, KeyCombination keyComb) {
-        EventHandler<KeyEvent> handler = event -> {
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             if (keyComb.match(event)) {
                 if (event.getTarget() instanceof TextInputControl) {
                     event.consume();
                 }
                 func.run();
             }
-        };
-        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, handler);
-        keyPressHandlers.add(handler);
-    }
-
-    private void clearKeyPressHandler() {
-        keyPressHandlers.forEach(handler -> getRoot().removeEventFilter(KeyEvent.KEY_PRESSED, handler));
-        keyPressHandlers.clear();
+        });
     }
 
     /**
@@ -175,40 +165,22 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
         // set focus trigger for result display to F3
         setKeyPressHandler(resultDisplay::focus, KeyCombination.valueOf("F3"));
+        logic.setDeferredFeedbackHandler(resultDisplay::setFeedbackToUser);
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.getAddressBook().getPersonList(), logic.getPersonStatistics());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         UserInputHistory<String> history = logic.getUserInputHistory();
         CommandBox commandBox = new CommandBox(this::executeCommand, history::getPreviousChat, history::getNextChat,
                 history::addChatToHistory);
+        commandBox.setCommandPreviewer(logic::previewCommand);
+        commandBox.setCommandCompleter(logic::completeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
         // set focus trigger for command box to F2
         setKeyPressHandler(commandBox::focus, KeyCombination.valueOf("F2"));
     }
 
-    /**
-     * Clear all the placeholders of this window.
-     */
-    private void removeInnerParts() {
-        personListPanelPlaceholder.getChildren().clear();
-        resultDisplayPlaceholder.getChildren().clear();
-        statusbarPlaceholder.getChildren().clear();
-        commandBoxPlaceholder.getChildren().clear();
-    }
-
-    /**
-     * Sets the default size based on {@code guiSettings}.
-     */
-    private void setWindowDefaultSize(GuiSettings guiSettings) {
-        primaryStage.setHeight(guiSettings.getWindowHeight());
-        primaryStage.setWidth(guiSettings.getWindowWidth());
-        if (guiSettings.getWindowCoordinates() != null) {
-            primaryStage.setX(guiSettings.getWindowCoordinates().getX());
-            primaryStage.setY(guiSettings.getWindowCoordinates().getY());
-        }
-    }
-
     /**
      * Opens the help window or focuses on it if it's already opened.
      */
@@ -225,24 +197,6 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
-    /** Navigates to the Event Window */
-    private void showEventWindow() throws IOException {
-        // Clean up
-        clearAccelerators();
-        clearKeyPressHandler();
-        removeInnerParts();
-
-        // Close the current window
-        primaryStage.close();
-
-        // Create a new MainWindow
-        EventWindow eventWindow = new EventWindow(primaryStage, logic);
-
-        // Show the MainWindow
-        eventWindow.show();
-        eventWindow.fillInnerParts();
-    }
-
     /**
      * Closes the application.
      */
@@ -255,14 +209,19 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Navigates to the Event Window.
+     */
     @FXML
     void handleEvents() {
-        primaryStage.getIcons();
-        try {
-            showEventWindow();
-        } catch (Throwable e) {
-            logger.severe(StringUtil.getDetails(e));
-        }
+        viewManager.showEventWindow();
+    }
+
+    /**
+     * Shows a loading placeholder in the person list if {@code isLoadingData} is true.
+     */
+    void setLoadingData(boolean isLoadingData) {
+        personListPanel.setLoadingData(isLoadingData);
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -17,6 +17,12 @@ import seedu.address.model.person.Staff;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final String COMMENT_ICON = "/images/comment_icon.png";
+    private static final String CATEGORY_STYLE_CLASS_PREFIX = "category-label-";
+    private static final double COMMENT_ICON_SIZE = 20;
+
+    /** Comment icon shared by every card, loaded on first use. */
+    private static Image commentImage;
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved
@@ -27,7 +33,7 @@ public class PersonCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -46,30 +52,58 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label group;
 
+    private final ImageView commentImageView;
+
+    /**
+     * Creates an empty {@code PersonCard} that can be bound to a {@code Person} with
+     * {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+        commentImageView = new ImageView(getCommentImage());
+        commentImageView.setFitHeight(COMMENT_ICON_SIZE);
+        commentImageView.setFitWidth(COMMENT_ICON_SIZE);
+        comment.setText(null);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to
      * display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Rebinds this card to display {@code person} at {@code displayedIndex}, reusing the loaded components.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + "");
         name.setText(person.getName().fullName);
-        Image commentImage = new Image(getClass().getResourceAsStream("/images/comment_icon.png"));
-        ImageView commentImageView = new ImageView(commentImage);
-        commentImageView.setFitHeight(20);
-        commentImageView.setFitWidth(20);
         comment.setGraphic(person.getComment().hasComment() ? commentImageView : null);
-        comment.setText(null);
         phone.setText(person.getPhone().value);
         email.setText(person.getEmail().value);
         group.setText(getGroupNumber(person));
         category.setText(person.getCategory().value);
+        category.getStyleClass().removeIf(styleClass -> styleClass.startsWith(CATEGORY_STYLE_CLASS_PREFIX));
         category.getStyleClass().add(getCategoryStyleClass(person.getCategory()));
     }
 
+    public Person getPerson() {
+        return person;
+    }
+
+    private static Image getCommentImage() {
+        if (commentImage == null) {
+            commentImage = new Image(PersonCard.class.getResourceAsStream(COMMENT_ICON));
+        }
+        return commentImage;
+    }
+
     private String getCategoryStyleClass(Category category) {
-        return "category-label-" + category.value.toLowerCase();
+        return CATEGORY_STYLE_CLASS_PREFIX + category.value.toLowerCase();
     }
 
     private String getGroupNumber(Person person) {
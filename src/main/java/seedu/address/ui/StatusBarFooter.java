@@ -3,9 +3,15 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.person.CategoryType;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,10 +19,14 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String STATISTICS_FORMAT = "%1$d participants | %2$d staff | %3$d sponsors | %4$d groups";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label statisticsStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +35,20 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Creates a {@code StatusBarFooter} with the given {@code Path} that also shows the number of persons in each
+     * category and the number of groups, updated whenever {@code persons} changes.
+     */
+    public StatusBarFooter(Path saveLocation, ObservableList<Person> persons, PersonStatistics statistics) {
+        this(saveLocation);
+        showStatistics(statistics);
+        // the address book updates its statistics after changing the list, so they are read once it is done
+        persons.addListener((ListChangeListener<Person>) change -> Platform.runLater(() -> showStatistics(statistics)));
+    }
+
+    private void showStatistics(PersonStatistics statistics) {
+        statisticsStatus.setText(String.format(STATISTICS_FORMAT, statistics.countByCategory(CategoryType.PARTICIPANT),
+                statistics.countByCategory(CategoryType.STAFF), statistics.countByCategory(CategoryType.SPONSOR),
+                statistics.getGroupNumbers().size()));
+    }
 }
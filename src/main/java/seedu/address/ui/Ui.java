@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Replaces the loading placeholders with the data, which has been added to the model. */
+    void showDataLoaded();
+
 }
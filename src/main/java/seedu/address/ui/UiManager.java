@@ -23,7 +23,7 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
-    private MainWindow mainWindow;
+    private ViewManager viewManager;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
@@ -40,9 +40,8 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
-            mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            viewManager = new ViewManager(primaryStage, logic);
+            viewManager.showMainWindow();
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,15 +49,23 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showDataLoaded() {
+        // the data may be loaded before the UI has started, in which case the windows are built without placeholders
+        if (viewManager != null) {
+            viewManager.showDataLoaded();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
 
     void showAlertDialogAndWait(Alert.AlertType type, String title, String headerText, String contentText) {
-        if (mainWindow != null) {
-            showAlertDialogAndWait(mainWindow.getPrimaryStage(), type, title, headerText, contentText);
+        if (viewManager != null) {
+            showAlertDialogAndWait(viewManager.getPrimaryStage(), type, title, headerText, contentText);
         } else {
-            logger.severe("MainWindow is not initialized");
+            logger.severe("ViewManager is not initialized");
         }
     }
 
@@ -0,0 +1,92 @@
+package seedu.address.ui;
+
+import java.util.logging.Logger;
+
+import javafx.stage.Stage;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+
+/**
+ * Switches the primary stage between the contact view ({@code MainWindow}) and the event view
+ * ({@code EventWindow}).
+ * Each view is built the first time it is shown and kept afterwards, so switching only swaps the scene shown on
+ * the stage and the lists keep their scroll positions.
+ */
+public class ViewManager {
+
+    private final Logger logger = LogsCenter.getLogger(getClass());
+
+    private final Stage primaryStage;
+    private final Logic logic;
+
+    private MainWindow mainWindow;
+    private EventWindow eventWindow;
+
+    /**
+     * Creates a {@code ViewManager} that shows its views on {@code primaryStage}.
+     */
+    public ViewManager(Stage primaryStage, Logic logic) {
+        this.primaryStage = primaryStage;
+        this.logic = logic;
+        setWindowDefaultSize(logic.getGuiSettings());
+    }
+
+    public Stage getPrimaryStage() {
+        return primaryStage;
+    }
+
+    /**
+     * Shows the contact view, building it if it has not been shown before.
+     */
+    void showMainWindow() {
+        if (mainWindow == null) {
+            logger.info("Building contact view");
+            mainWindow = new MainWindow(primaryStage, logic, this);
+            mainWindow.show(); //This should be called before creating other UI parts
+            mainWindow.fillInnerParts();
+            mainWindow.setLoadingData(logic.isLoadingData());
+            return;
+        }
+        primaryStage.setScene(mainWindow.getScene());
+    }
+
+    /**
+     * Shows the event view, building it if it has not been shown before.
+     */
+    void showEventWindow() {
+        if (eventWindow == null) {
+            logger.info("Building event view");
+            eventWindow = new EventWindow(primaryStage, logic, this);
+            eventWindow.show();
+            eventWindow.fillInnerParts();
+            eventWindow.setLoadingData(logic.isLoadingData());
+            return;
+        }
+        primaryStage.setScene(eventWindow.getScene());
+    }
+
+    /**
+     * Replaces the loading placeholders of the views built so far with the data.
+     */
+    void showDataLoaded() {
+        if (mainWindow != null) {
+            mainWindow.setLoadingData(false);
+        }
+        if (eventWindow != null) {
+            eventWindow.setLoadingData(false);
+        }
+    }
+
+    /**
+     * Sets the default size based on {@code guiSettings}.
+     */
+    private void setWindowDefaultSize(GuiSettings guiSettings) {
+        primaryStage.setHeight(guiSettings.getWindowHeight());
+        primaryStage.setWidth(guiSettings.getWindowWidth());
+        if (guiSettings.getWindowCoordinates() != null) {
+            primaryStage.setX(guiSettings.getWindowCoordinates().getX());
+            primaryStage.setY(guiSettings.getWindowCoordinates().getY());
+        }
+    }
+}
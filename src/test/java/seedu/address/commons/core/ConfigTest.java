@@ -1,6 +1,7 @@
 package seedu.address.commons.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,7 +13,9 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", fsyncPolicy=" + config.getFsyncPolicy()
+                + ", fsyncIntervalSeconds=" + config.getFsyncInterval().getSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -21,6 +24,10 @@ public class ConfigTest {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertTrue(defaultConfig.equals(defaultConfig));
+
+        Config periodicConfig = new Config();
+        periodicConfig.setFsyncPolicy(FsyncPolicy.PERIODIC);
+        assertFalse(defaultConfig.equals(periodicConfig));
     }
 
 
@@ -0,0 +1,119 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BlobStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCacheSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BlobStore(testFolder.resolve("store"), 0));
+    }
+
+    @Test
+    public void constructor_missingFile_doesNotCreateFile() throws IOException {
+        Path file = testFolder.resolve("missing").resolve("store");
+        try (BlobStore store = new BlobStore(file, 2)) {
+            assertFalse(store.contains(0));
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void get_afterReopening_returnsAddedTexts() throws IOException {
+        Path file = testFolder.resolve("data").resolve("store");
+        int firstId;
+        int secondId;
+        try (BlobStore store = new BlobStore(file, 2)) {
+            firstId = store.add("First text");
+            secondId = store.add("Sécond text with ünicode");
+            store.force();
+        }
+
+        // a cache of one text makes every other read go to the file
+        try (BlobStore store = new BlobStore(file, 1)) {
+            assertEquals("First text", store.get(firstId));
+            assertEquals("Sécond text with ünicode", store.get(secondId));
+            assertEquals("First text", store.get(firstId));
+
+            // texts added after the file was mapped can be read too
+            int thirdId = store.add("Third text");
+            store.add("Fourth text");
+            assertEquals("Third text", store.get(thirdId));
+            assertEquals("Sécond text with ünicode", store.get(secondId));
+        }
+    }
+
+    @Test
+    public void get_missingId_throwsIllegalArgumentException() throws IOException {
+        try (BlobStore store = new BlobStore(testFolder.resolve("store"), 2)) {
+            int id = store.add("Text");
+            assertThrows(IllegalArgumentException.class, () -> store.get(id + 1));
+            assertThrows(IllegalArgumentException.class, () -> store.get(-1));
+        }
+    }
+
+    @Test
+    public void constructor_incompleteLastRecord_dropsRecord() throws IOException {
+        Path file = testFolder.resolve("store");
+        try (BlobStore store = new BlobStore(file, 2)) {
+            store.add("Complete text");
+            store.add("Text cut short");
+        }
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        try (BlobStore store = new BlobStore(file, 2)) {
+            assertEquals("Complete text", store.get(0));
+            assertFalse(store.contains(1));
+            assertEquals(1, store.add("New text"));
+            assertEquals("New text", store.get(1));
+        }
+    }
+
+    @Test
+    public void compact_mostTextsRemoved_keepsIdsOfRemainingTexts() throws IOException {
+        Path file = testFolder.resolve("store");
+        try (BlobStore store = new BlobStore(file, 2)) {
+            for (int i = 0; i < 10; i++) {
+                store.add("Text number " + i);
+            }
+        }
+        long size = Files.size(file);
+
+        try (BlobStore store = new BlobStore(file, 2)) {
+            // keeping most of the texts does not rewrite the file
+            assertFalse(store.compact(Set.of(0, 1, 2, 3, 4, 5, 6, 7)));
+            assertEquals(size, Files.size(file));
+
+            assertTrue(store.compact(Set.of(2, 7)));
+            assertTrue(Files.size(file) < size);
+            assertFalse(store.contains(0));
+            assertEquals("Text number 2", store.get(2));
+            assertEquals("Text number 7", store.get(7));
+            assertThrows(IllegalStateException.class, () -> store.compact(Set.of(2)));
+        }
+
+        try (BlobStore store = new BlobStore(file, 2)) {
+            assertEquals("Text number 7", store.get(7));
+            assertEquals(8, store.add("New text"));
+        }
+    }
+}
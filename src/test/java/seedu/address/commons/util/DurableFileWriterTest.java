@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+
+public class DurableFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_periodicWithoutInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DurableFileWriter(FsyncPolicy.PERIODIC, Duration.ZERO));
+    }
+
+    @Test
+    public void write_newFile_createsFile() throws IOException {
+        Path file = testFolder.resolve("new.json");
+        new DurableFileWriter(FsyncPolicy.ALWAYS, Duration.ZERO).write(file, bytes("content"));
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void write_streamedContent_writesContent() throws IOException {
+        Path file = testFolder.resolve("streamed.json");
+        try (DurableFileWriter writer = new DurableFileWriter(FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            writer.write(file, output -> {
+                for (int i = 0; i < 3; i++) {
+                    output.write(bytes("line " + i + "\n"));
+                }
+            });
+        }
+        assertEquals("line 0\nline 1\nline 2\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void write_existingFile_replacesContentAndRemovesTemporaryFile() throws IOException {
+        Path file = testFolder.resolve("existing.json");
+        Files.write(file, bytes("a much longer old content"));
+        // a temporary file left behind by a crash is overwritten
+        Path temporaryFile = testFolder.resolve("existing.json" + DurableFileWriter.TEMPORARY_FILE_SUFFIX);
+        Files.write(temporaryFile, bytes("partial"));
+
+        for (FsyncPolicy fsyncPolicy : FsyncPolicy.values()) {
+            try (DurableFileWriter writer = new DurableFileWriter(fsyncPolicy, Duration.ofSeconds(1))) {
+                writer.write(file, bytes("new " + fsyncPolicy));
+            }
+            assertEquals("new " + fsyncPolicy, FileUtil.readFromFile(file));
+            assertFalse(Files.exists(temporaryFile));
+        }
+    }
+
+    @Test
+    public void sync_deletedFile_success() throws IOException {
+        Path file = testFolder.resolve("deleted.json");
+        DurableFileWriter writer = new DurableFileWriter(FsyncPolicy.ON_EXIT, Duration.ZERO);
+        writer.write(file, bytes("content"));
+        Files.delete(file);
+        writer.sync();
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
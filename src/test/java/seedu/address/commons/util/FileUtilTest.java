@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,32 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContent() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void moveAside_existingFile_keepsContent() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "unreadable");
+
+        Path movedFile = FileUtil.moveAside(file, "unreadable");
+        assertFalse(Files.exists(file));
+        assertEquals(testFolder, movedFile.getParent());
+        assertTrue(movedFile.getFileName().toString().startsWith("data.json.unreadable-"));
+        assertEquals("unreadable", FileUtil.readFromFile(movedFile));
+    }
+
+    @Test
+    public void withExtension() {
+        assertEquals(Paths.get("data", "addressbook.db"), FileUtil.withExtension(Paths.get("data", "addressbook.json"),
+                ".db"));
+        assertEquals(Paths.get("data", "addressbook.db"), FileUtil.withExtension(Paths.get("data", "addressbook"),
+                ".db"));
+        assertEquals(Paths.get(".hidden.db"), FileUtil.withExtension(Paths.get(".hidden"), ".db"));
+    }
 }
@@ -1,12 +1,19 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +46,74 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void toJsonBytes_compressed_compactJsonInGzip() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        byte[] json = JsonUtil.toJsonBytes(serializableTestClass, DataFileFormat.JSON);
+        byte[] compressed = JsonUtil.toJsonBytes(serializableTestClass, DataFileFormat.COMPRESSED);
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, new String(json, StandardCharsets.UTF_8));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String compactJson = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(compactJson.startsWith("{\"name\":\"This is a test class\","));
+            assertFalse(compactJson.contains("\n"));
+        }
+    }
+
+    @Test
+    public void toCompactJsonBytes_serializableClass_uncompressedJsonOnOneLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        String compactJson = new String(JsonUtil.toCompactJsonBytes(serializableTestClass), StandardCharsets.UTF_8);
+        assertTrue(compactJson.startsWith("{\"name\":\"This is a test class\","));
+        assertFalse(compactJson.contains("\n"));
+        assertEquals(SerializableTestClass.getNameTestValue(), JsonUtil.fromJsonBytes(
+                compactJson.getBytes(StandardCharsets.UTF_8), SerializableTestClass.class).getName());
+    }
+
+    @Test
+    public void fromJsonBytes_eitherFormat_sameObject() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        for (DataFileFormat format : DataFileFormat.values()) {
+            SerializableTestClass readBack = JsonUtil.fromJsonBytes(
+                    JsonUtil.toJsonBytes(serializableTestClass, format), SerializableTestClass.class);
+            assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+            assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+        }
+    }
+
+    @Test
+    public void saveJsonFileToStream_thenReadJsonFileFromStream_streamsLeftOpen() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                throw new AssertionError("The stream should not be closed.");
+            }
+        };
+
+        JsonUtil.saveJsonFile(serializableTestClass, output, DataFileFormat.COMPRESSED);
+        int compressedSize = output.size();
+        JsonUtil.saveJsonFile(serializableTestClass, output, DataFileFormat.JSON);
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION,
+                new String(output.toByteArray(), compressedSize, output.size() - compressedSize,
+                        StandardCharsets.UTF_8));
+
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray(), 0, compressedSize) {
+            @Override
+            public void close() {
+                throw new AssertionError("The stream should not be closed.");
+            }
+        };
+        SerializableTestClass readBack = JsonUtil.readJsonFile(input, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
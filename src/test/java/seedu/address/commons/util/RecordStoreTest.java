@@ -0,0 +1,159 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RecordStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_missingFile_doesNotCreateFile() throws IOException {
+        Path file = testFolder.resolve("missing").resolve("store");
+        try (RecordStore store = new RecordStore(file)) {
+            assertFalse(store.contains("key"));
+            store.beginTransaction().commit();
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void get_afterReopening_returnsCommittedValues() throws IOException {
+        Path file = testFolder.resolve("data").resolve("store");
+        try (RecordStore store = new RecordStore(file)) {
+            store.beginTransaction().put("a/1", bytes("First")).put("a/2", bytes("Second")).put("b/1", bytes("Other"))
+                    .commit();
+            store.beginTransaction().put("a/1", bytes("Fïrst again")).delete("a/2").commit();
+
+            // changes of a transaction that is not committed are not made
+            store.beginTransaction().put("a/3", bytes("Third")).delete("b/1");
+        }
+
+        try (RecordStore store = new RecordStore(file)) {
+            assertEquals(List.of("a/1"), store.getKeys("a/"));
+            assertEquals(List.of("a/1", "b/1"), store.getKeys(""));
+            assertEquals("Fïrst again", text(store.get("a/1").get()));
+            assertEquals("Other", text(store.get("b/1").get()));
+            assertEquals(Optional.empty(), store.get("a/2"));
+        }
+    }
+
+    @Test
+    public void commit_committedTransaction_throwsIllegalStateException() throws IOException {
+        try (RecordStore store = new RecordStore(testFolder.resolve("store"))) {
+            AtomicBoolean isCommitted = new AtomicBoolean();
+            RecordStore.Transaction transaction = store.beginTransaction().put("key", bytes("Value"))
+                    .onCommit(() -> isCommitted.set(true));
+            transaction.commit();
+            assertTrue(isCommitted.get());
+            assertThrows(IllegalStateException.class, transaction::commit);
+            assertThrows(IllegalStateException.class, () -> transaction.delete("key"));
+        }
+    }
+
+    @Test
+    public void constructor_incompleteLastTransaction_dropsTransaction() throws IOException {
+        Path file = testFolder.resolve("store");
+        try (RecordStore store = new RecordStore(file)) {
+            store.beginTransaction().put("kept", bytes("Complete")).commit();
+            store.beginTransaction().put("dropped", bytes("Cut short")).put("kept", bytes("Changed")).commit();
+        }
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        try (RecordStore store = new RecordStore(file)) {
+            assertEquals("Complete", text(store.get("kept").get()));
+            assertFalse(store.contains("dropped"));
+            store.beginTransaction().put("new", bytes("New")).commit();
+        }
+        try (RecordStore store = new RecordStore(file)) {
+            assertEquals("New", text(store.get("new").get()));
+        }
+    }
+
+    @Test
+    public void constructor_damagedLastTransaction_dropsTransaction() throws IOException {
+        Path file = testFolder.resolve("store");
+        try (RecordStore store = new RecordStore(file)) {
+            store.beginTransaction().put("kept", bytes("Complete")).commit();
+            store.beginTransaction().put("dropped", bytes("Damaged")).commit();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes("X")), Files.size(file) - 1);
+        }
+
+        try (RecordStore store = new RecordStore(file)) {
+            assertTrue(store.contains("kept"));
+            assertFalse(store.contains("dropped"));
+        }
+    }
+
+    @Test
+    public void commit_mostValuesReplaced_compactsFile() throws IOException {
+        Path file = testFolder.resolve("store");
+        byte[] value = new byte[4096];
+        try (RecordStore store = new RecordStore(file)) {
+            store.beginTransaction().put("other", bytes("Other")).commit();
+            for (int i = 0; i < 100; i++) {
+                value[0] = (byte) i;
+                store.beginTransaction().put("replaced", value).commit();
+            }
+            assertTrue(Files.size(file) < 100 * value.length);
+            assertTrue(Arrays.equals(value, store.get("replaced").get()));
+            assertFalse(Files.exists(testFolder.resolve("store" + DurableFileWriter.TEMPORARY_FILE_SUFFIX)));
+        }
+
+        try (RecordStore store = new RecordStore(file)) {
+            assertTrue(Arrays.equals(value, store.get("replaced").get()));
+            assertEquals("Other", text(store.get("other").get()));
+        }
+    }
+
+    @Test
+    public void commit_compactionFails_transactionCommitted() throws IOException {
+        Path file = testFolder.resolve("store");
+        // the compacted file cannot be written where a directory is in the way
+        Path blockingDirectory = testFolder.resolve("store" + DurableFileWriter.TEMPORARY_FILE_SUFFIX);
+        Files.createDirectories(blockingDirectory.resolve("blocking"));
+        byte[] value = new byte[4096];
+        try (RecordStore store = new RecordStore(file)) {
+            for (int i = 0; i < 100; i++) {
+                value[0] = (byte) i;
+                store.beginTransaction().put("replaced", value).commit();
+            }
+            assertTrue(Files.size(file) > 100 * value.length);
+        }
+
+        try (RecordStore store = new RecordStore(file)) {
+            assertTrue(Arrays.equals(value, store.get("replaced").get()));
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
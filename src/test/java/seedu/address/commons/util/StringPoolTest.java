@@ -0,0 +1,25 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class StringPoolTest {
+
+    @Test
+    public void intern() {
+        StringPool pool = new StringPool();
+        String first = new String("Vegetarian");
+        String second = new String("Vegetarian");
+        assertNotSame(first, second);
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertEquals("Halal", pool.intern("Halal"));
+        assertEquals(2, pool.size());
+        assertNull(pool.intern(null));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,65 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for isWithinEditDistance --------------------------------------
+
+    @Test
+    public void isWithinEditDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isWithinEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.isWithinEditDistance("abc", null, 1));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        // identical strings
+        assertTrue(StringUtil.isWithinEditDistance("", "", 0));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alice", 0));
+
+        // one substitution, insertion or deletion
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alica", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "allice", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alce", 1));
+        assertFalse(StringUtil.isWithinEditDistance("alice", "alica", 0));
+
+        // transposition counts as two edits
+        assertFalse(StringUtil.isWithinEditDistance("alice", "alcie", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alcie", 2));
+
+        // lengths too different
+        assertFalse(StringUtil.isWithinEditDistance("al", "alice", 2));
+        assertTrue(StringUtil.isWithinEditDistance("", "abc", 3));
+
+        // different strings
+        assertFalse(StringUtil.isWithinEditDistance("kitten", "sitting", 2));
+        assertTrue(StringUtil.isWithinEditDistance("kitten", "sitting", 3));
+        assertFalse(StringUtil.isWithinEditDistance("abcdef", "ghijkl", 2));
+
+        // case sensitive
+        assertFalse(StringUtil.isWithinEditDistance("Alice", "alice", 0));
+
+        // negative distance
+        assertFalse(StringUtil.isWithinEditDistance("alice", "alice", -1));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(1, StringUtil.editDistance("delete", "delet"));
+        assertEquals(2, StringUtil.editDistance("alice", "alcie"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.editDistance("Alice", "alice"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.CATEGORY_DESC_PARTICIPANT;
@@ -8,19 +9,29 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -29,8 +40,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.CsvCheckInLogStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonEventBookStorage;
+import seedu.address.storage.JsonParticipationBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
@@ -51,8 +64,12 @@ public class LogicManagerTest {
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonEventBookStorage eventBookStorage =
                 new JsonEventBookStorage(temporaryFolder.resolve("eventBook.json"));
+        JsonParticipationBookStorage participationBookStorage =
+                new JsonParticipationBookStorage(temporaryFolder.resolve("participationBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, eventBookStorage, userPrefsStorage);
+        CsvCheckInLogStorage checkInLogStorage = new CsvCheckInLogStorage(temporaryFolder.resolve("checkins.csv"));
+        StorageManager storage = new StorageManager(addressBookStorage, eventBookStorage, participationBookStorage,
+                checkInLogStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -86,6 +103,154 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_loadingData_throwsCommandException() throws Exception {
+        logic.setLoadingData(true);
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_LOADING_DATA);
+        assertThrows(CommandException.class, LogicManager.MESSAGE_LOADING_DATA, () -> logic.executeEvent("listevent"));
+        assertThrows(CommandException.class, LogicManager.MESSAGE_LOADING_DATA, () -> logic.checkIn("94351253"));
+
+        logic.setLoadingData(false);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_restoreAfterClear_restoresClearedPersons() throws Exception {
+        model.addPerson(AMY);
+        assertCommandSuccess(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_SUCCESS, new ModelManager());
+
+        String list = executeWithDeferredFeedback(RestoreCommand.COMMAND_WORD, RestoreCommand.MESSAGE_LISTING);
+        assertTrue(list.contains("1. "));
+        assertTrue(list.contains("(clear)"));
+
+        assertTrue(executeWithDeferredFeedback(RestoreCommand.COMMAND_WORD + " 1",
+                String.format(RestoreCommand.MESSAGE_RESTORING, 1)).startsWith("Restored the snapshot taken"));
+        assertEquals(Collections.singletonList(AMY), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_restoreWithRegisteredPerson_keepsRegistration() throws Exception {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        model.addEvent(EVENT1);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addEvent(EVENT1);
+        assertCommandSuccess(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_SUCCESS, expectedModel);
+        model.addPerson(AMY);
+        model.registerForEvent(AMY, EVENT1);
+
+        executeWithDeferredFeedback(RestoreCommand.COMMAND_WORD + " 1",
+                String.format(RestoreCommand.MESSAGE_RESTORING, 1));
+
+        // the restored address book has its own objects for the persons, which keep their registrations
+        Person restoredAmy = model.getAddressBook().getPersonList().stream()
+                .filter(AMY::equals).findFirst().get();
+        assertTrue(model.isRegisteredForEvent(restoredAmy, EVENT1));
+        assertEquals(Collections.singletonList(restoredAmy), model.getAttendees(EVENT1));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_groupRestoreUndo_nothingToUndo() throws Exception {
+        model.addPerson(AMY);
+        assertCommandSuccess(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_SUCCESS, new ModelManager());
+        model.addPerson(AMY);
+        logic.execute(GroupCommand.COMMAND_WORD + " 1 2");
+        assertTrue(model.canUndoAddressBook());
+
+        executeWithDeferredFeedback(RestoreCommand.COMMAND_WORD + " 1",
+                String.format(RestoreCommand.MESSAGE_RESTORING, 1));
+
+        // the grouped person was replaced by the restored one, so undoing the group command cannot work
+        assertEquals(0, model.getAddressBook().getPersonList().get(0).getGroupNumber());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE_NO_COMMAND_TO_UNDO);
+        assertEquals(0, model.getAddressBook().getPersonList().get(0).getGroupNumber());
+    }
+
+    @Test
+    public void execute_restoreWithoutSnapshots_noSnapshotsFeedback() throws Exception {
+        assertEquals(RestoreCommand.MESSAGE_NO_SNAPSHOTS,
+                executeWithDeferredFeedback(RestoreCommand.COMMAND_WORD, RestoreCommand.MESSAGE_LISTING));
+    }
+
+    @Test
+    public void previewCommand_findCommand_previewsFilteredList() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        logic.previewCommand("find am");
+        assertEquals(Collections.singletonList(AMY), logic.getFilteredPersonList());
+
+        logic.previewCommand("f bo");
+        assertEquals(Collections.singletonList(BOB), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void previewCommand_otherCommand_clearsPreview() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        logic.previewCommand("find am");
+        logic.previewCommand("delete 1");
+        assertEquals(Arrays.asList(AMY, BOB), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void completeCommand_personIndexCommand_completesDisplayedIndex() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        assertEquals(Collections.singletonList("edit 2 "), logic.completeCommand("edit bo"));
+        assertEquals(Collections.singletonList("link 2 1 "), logic.completeCommand("link 2 amy@"));
+
+        // persons hidden by the filter are shown again
+        model.updateFilteredPersonList(person -> person.equals(BOB));
+        assertEquals(Collections.singletonList("delete 1 "), logic.completeCommand("delete amy"));
+        assertEquals(Arrays.asList(AMY, BOB), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void completeCommand_notIndexPosition_noCompletions() {
+        model.addPerson(AMY);
+        assertEquals(Collections.emptyList(), logic.completeCommand("amy"));
+        assertEquals(Collections.emptyList(), logic.completeCommand("find amy"));
+        assertEquals(Collections.emptyList(), logic.completeCommand("edit 1 amy"));
+        assertEquals(Collections.emptyList(), logic.completeCommand("edit "));
+    }
+
+    @Test
+    public void execute_completedCommand_recordsPersonUse() throws Exception {
+        Person amelia = new PersonBuilder().withName("Amelia Tan").withEmail("amelia@example.com")
+                .withPhone("81112222").build();
+        model.addPerson(AMY);
+        model.addPerson(amelia);
+        assertEquals(Arrays.asList("view 2 ", "view 1 "), logic.completeCommand("view am"));
+
+        logic.execute("view 1");
+        assertEquals(Arrays.asList("view 1 ", "view 2 "), logic.completeCommand("view am"));
+    }
+
+    @Test
+    public void execute_failedCompletedCommand_noPersonUse() {
+        Person amelia = new PersonBuilder().withName("Amelia Tan").withEmail("amelia@example.com")
+                .withPhone("81112222").build();
+        model.addPerson(AMY);
+        model.addPerson(amelia);
+        assertEquals(Arrays.asList("edit 2 ", "edit 1 "), logic.completeCommand("edit am"));
+
+        assertThrows(ParseException.class, () -> logic.execute("edit 1 p/invalid"));
+        assertEquals(Arrays.asList("edit 2 ", "edit 1 "), logic.completeCommand("edit am"));
+    }
+
+    @Test
+    public void execute_completedCommandReplacingPerson_recordsUseOfReplacement() throws Exception {
+        Person amelia = new PersonBuilder().withName("Amelia Tan").withEmail("amelia@example.com")
+                .withPhone("81112222").build();
+        model.addPerson(AMY);
+        model.addPerson(amelia);
+        assertEquals(Arrays.asList("edit 2 ", "edit 1 "), logic.completeCommand("edit am"));
+
+        logic.execute("edit 1 p/81113333");
+        assertEquals(Arrays.asList("edit 1 ", "edit 2 "), logic.completeCommand("edit am"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -98,6 +263,17 @@ public class LogicManagerTest {
      * - the internal model manager state is the same as that in {@code expectedModel} <br>
      * @see #assertCommandFailure(String, Class, String, Model)
      */
+    /**
+     * Executes {@code inputCommand}, confirming that it returns {@code expectedMessage} straight away, and returns the
+     * feedback it gives once it finishes.
+     */
+    private String executeWithDeferredFeedback(String inputCommand, String expectedMessage) throws Exception {
+        CompletableFuture<String> deferredFeedback = new CompletableFuture<>();
+        logic.setDeferredFeedbackHandler(deferredFeedback::complete);
+        assertEquals(expectedMessage, logic.execute(inputCommand).getFeedbackToUser());
+        return deferredFeedback.get(10, TimeUnit.SECONDS);
+    }
+
     private void assertCommandSuccess(String inputCommand, String expectedMessage,
             Model expectedModel) throws CommandException, ParseException {
         CommandResult result = logic.execute(inputCommand);
@@ -171,7 +347,11 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, eventBookStorage, userPrefsStorage);
+        JsonParticipationBookStorage participationBookStorage =
+                new JsonParticipationBookStorage(temporaryFolder.resolve("participationBook.json"));
+        CsvCheckInLogStorage checkInLogStorage = new CsvCheckInLogStorage(temporaryFolder.resolve("checkins.csv"));
+        StorageManager storage = new StorageManager(addressBookStorage, eventBookStorage, participationBookStorage,
+                checkInLogStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
 
@@ -8,8 +8,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,9 +28,14 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyParticipationBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.participation.CheckIn;
+import seedu.address.model.person.Category;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -202,7 +212,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public void groupPerson(Person target, int groupNumber) {
+        public Person groupPerson(Person target, int groupNumber) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -240,6 +250,11 @@ public class AddCommandTest {
         public void addCommand(ReversibleCommand command) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void clearCommandHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public boolean hasEvent(Event event) {
             throw new AssertionError("This method should not be called.");
@@ -290,6 +305,161 @@ public class AddCommandTest {
         public void setEventBook(ReadOnlyEventBook eventBook) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void previewFilteredPersonList(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearFilteredPersonListPreview() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getUpcomingEvents(LocalDate from, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyParticipationBook getParticipationBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setParticipationBook(ReadOnlyParticipationBook participationBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isRegisteredForEvent(Person person, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void registerForEvent(Person person, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unregisterFromEvent(Person person, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getAttendees(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getAttendees(Event event, Category category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByEmailOrPhone(String emailOrPhone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getAttendeeCount(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startCheckIn(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Event> getCheckInEvent() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endCheckIn() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<CheckIn> getCheckIn(Person person, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addCheckIn(CheckIn checkIn) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getCheckInCount(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<CheckIn> getCheckIns() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCheckIns(List<CheckIn> checkIns) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getRegisteredEvents(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void searchFilteredPersonList(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByFuzzyName(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordPersonUse(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersons(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonStatistics getPersonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getGroupMembers(int groupNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 
@@ -339,6 +509,11 @@ public class AddCommandTest {
             personsAdded.remove(target);
         }
 
+        @Override
+        public List<Event> getRegisteredEvents(Person person) {
+            return Collections.emptyList();
+        }
+
         @Override
         public void addCommand(ReversibleCommand c) {
         }
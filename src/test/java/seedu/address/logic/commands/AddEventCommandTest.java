@@ -8,7 +8,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.EVENT1;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,9 +24,14 @@ import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyParticipationBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.participation.CheckIn;
+import seedu.address.model.person.Category;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.testutil.EventBuilder;
 
 public class AddEventCommandTest {
@@ -241,7 +250,7 @@ public class AddEventCommandTest {
         }
 
         @Override
-        public void groupPerson(Person target, int groupNumber) {
+        public Person groupPerson(Person target, int groupNumber) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -280,6 +289,10 @@ public class AddEventCommandTest {
             return;
         }
         @Override
+        public void clearCommandHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
         public boolean hasEvent(Event event) {
             throw new AssertionError("This method should not be called.");
         }
@@ -329,5 +342,160 @@ public class AddEventCommandTest {
         public void setEventBook(ReadOnlyEventBook eventBook) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void previewFilteredPersonList(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearFilteredPersonListPreview() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getUpcomingEvents(LocalDate from, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyParticipationBook getParticipationBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setParticipationBook(ReadOnlyParticipationBook participationBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isRegisteredForEvent(Person person, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void registerForEvent(Person person, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unregisterFromEvent(Person person, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getAttendees(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getAttendees(Event event, Category category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByEmailOrPhone(String emailOrPhone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getAttendeeCount(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startCheckIn(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Event> getCheckInEvent() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endCheckIn() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<CheckIn> getCheckIn(Person person, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addCheckIn(CheckIn checkIn) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getCheckInCount(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<CheckIn> getCheckIns() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCheckIns(List<CheckIn> checkIns) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getRegisteredEvents(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void searchFilteredPersonList(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByFuzzyName(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordPersonUse(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersons(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonStatistics getPersonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getGroupMembers(int groupNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
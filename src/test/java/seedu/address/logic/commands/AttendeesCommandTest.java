@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Category;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for AttendeesCommand.
+ */
+public class AttendeesCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+        model.registerForEvent(ALICE, EVENT1);
+        model.registerForEvent(DANIEL, EVENT1);
+    }
+
+    @Test
+    public void execute_noCategory_listsAllAttendees() throws Exception {
+        AttendeesCommand command = new AttendeesCommand(INDEX_FIRST_PERSON, null);
+        String expectedMessage = String.format(AttendeesCommand.MESSAGE_SUCCESS, 2, EVENT1.getEventName(),
+                ALICE.getName() + ", " + DANIEL.getName());
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_withCategory_listsAttendeesOfCategory() throws Exception {
+        AttendeesCommand command = new AttendeesCommand(INDEX_FIRST_PERSON, new Category("SPONSOR"));
+        String expectedMessage = String.format(AttendeesCommand.MESSAGE_SUCCESS, 1, EVENT1.getEventName(),
+                DANIEL.getName());
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noAttendees_reportsNone() throws Exception {
+        AttendeesCommand command = new AttendeesCommand(INDEX_FIRST_PERSON, new Category("STAFF"));
+        assertEquals(String.format(AttendeesCommand.MESSAGE_NO_ATTENDEES, EVENT1.getEventName()),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidEventIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEventList().size() + 1);
+        AttendeesCommand command = new AttendeesCommand(outOfBoundIndex, null);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, ()
+                -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        AttendeesCommand attendeesFirstCommand = new AttendeesCommand(INDEX_FIRST_PERSON, null);
+
+        // same object -> returns true
+        assertTrue(attendeesFirstCommand.equals(attendeesFirstCommand));
+
+        // same values -> returns true
+        assertTrue(attendeesFirstCommand.equals(new AttendeesCommand(INDEX_FIRST_PERSON, null)));
+
+        // null -> returns false
+        assertFalse(attendeesFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(attendeesFirstCommand.equals(new AttendeesCommand(INDEX_SECOND_PERSON, null)));
+
+        // different category -> returns false
+        assertFalse(attendeesFirstCommand.equals(new AttendeesCommand(INDEX_FIRST_PERSON, new Category("STAFF"))));
+    }
+}
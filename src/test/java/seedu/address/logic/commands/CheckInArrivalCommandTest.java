@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.participation.CheckIn;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for CheckInArrivalCommand.
+ */
+public class CheckInArrivalCommandTest {
+
+    private static final LocalDateTime NINE_AM = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final Clock CLOCK = Clock.fixed(NINE_AM.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+        model.registerForEvent(ALICE, EVENT1);
+        model.startCheckIn(EVENT1);
+    }
+
+    @Test
+    public void execute_registeredPersonByEmail_checkedIn() throws Exception {
+        EventCommandResult result = new CheckInArrivalCommand(ALICE.getEmail().value, CLOCK).execute(model);
+
+        assertEquals(String.format(CheckInArrivalCommand.MESSAGE_SUCCESS, ALICE.getName(), 1, 1),
+                result.getFeedbackToUser());
+        assertTrue(result.isCheckIn());
+        assertEquals(new CheckIn(ALICE, EVENT1, NINE_AM), model.getCheckIn(ALICE, EVENT1).get());
+    }
+
+    @Test
+    public void execute_unregisteredPersonByPhone_checkedInAsWalkIn() throws Exception {
+        EventCommandResult result = new CheckInArrivalCommand(BENSON.getPhone().value, CLOCK).execute(model);
+
+        assertEquals(String.format(CheckInArrivalCommand.MESSAGE_SUCCESS_NOT_REGISTERED, BENSON.getName(), 1, 1,
+                EVENT1.getEventName()), result.getFeedbackToUser());
+        assertEquals(1, model.getCheckInCount(EVENT1));
+    }
+
+    @Test
+    public void execute_alreadyCheckedIn_throwsCommandException() throws Exception {
+        new CheckInArrivalCommand(ALICE.getEmail().value, CLOCK).execute(model);
+        CheckInArrivalCommand command = new CheckInArrivalCommand(ALICE.getPhone().value, CLOCK);
+        assertThrows(CommandException.class, String.format(CheckInArrivalCommand.MESSAGE_ALREADY_CHECKED_IN,
+                ALICE.getName(), "09:00"), () -> command.execute(model));
+        assertEquals(1, model.getCheckIns().size());
+    }
+
+    @Test
+    public void execute_unknownContact_throwsCommandException() {
+        CheckInArrivalCommand command = new CheckInArrivalCommand("nobody@example.com", CLOCK);
+        assertThrows(CommandException.class, String.format(CheckInArrivalCommand.MESSAGE_PERSON_NOT_FOUND,
+                "nobody@example.com"), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_sharedPhone_throwsCommandException() {
+        model.addPerson(new PersonBuilder(BENSON).withName("Benson Other").withEmail("other@example.com").build());
+        CheckInArrivalCommand command = new CheckInArrivalCommand(BENSON.getPhone().value, CLOCK);
+        assertThrows(CommandException.class, String.format(CheckInArrivalCommand.MESSAGE_AMBIGUOUS_CONTACT,
+                BENSON.getPhone().value), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_noCheckInInProgress_throwsCommandException() {
+        model.endCheckIn();
+        CheckInArrivalCommand command = new CheckInArrivalCommand(ALICE.getEmail().value, CLOCK);
+        assertThrows(CommandException.class, CheckInArrivalCommand.MESSAGE_NO_CHECK_IN, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        CheckInArrivalCommand command = new CheckInArrivalCommand(ALICE.getEmail().value);
+
+        // same values, surrounding spaces ignored -> returns true
+        assertTrue(command.equals(new CheckInArrivalCommand(" " + ALICE.getEmail().value + " ")));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different contact -> returns false
+        assertFalse(command.equals(new CheckInArrivalCommand(BENSON.getEmail().value)));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for CheckInCommand and
+ * EndCheckInCommand.
+ */
+public class CheckInCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validIndex_startsCheckIn() throws Exception {
+        model.registerForEvent(ALICE, EVENT1);
+        EventCommandResult result = new CheckInCommand(INDEX_FIRST_PERSON).execute(model);
+
+        EventCommandResult expectedResult = new EventCommandResult(
+                String.format(CheckInCommand.MESSAGE_SUCCESS, EVENT1.getEventName(), 0, 1), false, false, false, true);
+        assertEquals(expectedResult, result);
+        assertEquals(Optional.of(EVENT1), model.getCheckInEvent());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEventList().size() + 1);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, ()
+                -> new CheckInCommand(outOfBoundIndex).execute(model));
+        assertEquals(Optional.empty(), model.getCheckInEvent());
+    }
+
+    @Test
+    public void execute_endCheckIn_endsCheckIn() throws Exception {
+        new CheckInCommand(INDEX_FIRST_PERSON).execute(model);
+        assertEquals(String.format(EndCheckInCommand.MESSAGE_SUCCESS, EVENT1.getEventName(), 0, 0),
+                new EndCheckInCommand().execute(model).getFeedbackToUser());
+        assertEquals(Optional.empty(), model.getCheckInEvent());
+
+        assertEquals(EndCheckInCommand.MESSAGE_NO_CHECK_IN, new EndCheckInCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_checkInEventDeleted_endsCheckIn() throws Exception {
+        new CheckInCommand(INDEX_FIRST_PERSON).execute(model);
+        model.deleteEvent(EVENT1);
+        assertEquals(Optional.empty(), model.getCheckInEvent());
+    }
+
+    @Test
+    public void equals() {
+        CheckInCommand checkInFirstCommand = new CheckInCommand(INDEX_FIRST_PERSON);
+
+        // same object -> returns true
+        assertTrue(checkInFirstCommand.equals(checkInFirstCommand));
+
+        // same values -> returns true
+        assertTrue(checkInFirstCommand.equals(new CheckInCommand(INDEX_FIRST_PERSON)));
+
+        // null -> returns false
+        assertFalse(checkInFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(checkInFirstCommand.equals(new CheckInCommand(INDEX_SECOND_PERSON)));
+    }
+}
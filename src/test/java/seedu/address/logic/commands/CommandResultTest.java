@@ -50,6 +50,9 @@ public class CommandResultTest {
 
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
+
+        // different snapshot request -> returns different hashcode
+        assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", new RestoreCommand()).hashCode());
     }
 
     @Test
@@ -57,7 +60,7 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", snapshotRequest=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
+import seedu.address.testutil.EventBookBuilder;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ConflictsCommand.
+ */
+public class ConflictsCommandTest {
+
+    private static final Event BRIEFING = new EventBuilder().withEventName("Briefing")
+            .withEventDate("01-01-2025").withTimes("09:00", "10:00").build();
+    private static final Event WORKSHOP = new EventBuilder().withEventName("Workshop")
+            .withEventDate("01-01-2025").withTimes("09:30", "12:00").build();
+    private static final Event LUNCH = new EventBuilder().withEventName("Lunch")
+            .withEventDate("01-01-2025").withTimes("11:00", "13:00").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new EventBookBuilder().withEvent(BRIEFING)
+                .withEvent(WORKSHOP).withEvent(LUNCH).build(), new UserPrefs());
+        model.registerForEvent(ALICE, BRIEFING);
+        model.registerForEvent(ALICE, LUNCH);
+        model.registerForEvent(BENSON, WORKSHOP);
+        model.registerForEvent(BENSON, LUNCH);
+    }
+
+    @Test
+    public void execute_noFilter_checksAllEvents() throws Exception {
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_SUCCESS, 2,
+                "Briefing (01-01-2025 09:00-10:00) overlaps Workshop (01-01-2025 09:30-12:00)\n"
+                + "Workshop (01-01-2025 09:30-12:00) overlaps Lunch (01-01-2025 11:00-13:00)");
+        assertEquals(expectedMessage, new ConflictsCommand(null, null).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_email_checksEventsOfPerson() throws Exception {
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_SUCCESS, 1, BENSON.getName()
+                + ": Workshop (01-01-2025 09:30-12:00) overlaps Lunch (01-01-2025 11:00-13:00)");
+        assertEquals(expectedMessage, new ConflictsCommand(BENSON.getEmail(), null).execute(model)
+                .getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_category_checksEventsOfEachPerson() throws Exception {
+        model.registerForEvent(ALICE, WORKSHOP);
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_SUCCESS, 3, ALICE.getName()
+                + ": Briefing (01-01-2025 09:00-10:00) overlaps Workshop (01-01-2025 09:30-12:00)\n"
+                + ALICE.getName() + ": Workshop (01-01-2025 09:30-12:00) overlaps Lunch (01-01-2025 11:00-13:00)\n"
+                + BENSON.getName() + ": Workshop (01-01-2025 09:30-12:00) overlaps Lunch (01-01-2025 11:00-13:00)");
+        assertEquals(expectedMessage, new ConflictsCommand(null, new Category("PARTICIPANT")).execute(model)
+                .getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noConflicts_reportsNone() throws Exception {
+        assertEquals(ConflictsCommand.MESSAGE_NO_CONFLICTS,
+                new ConflictsCommand(ALICE.getEmail(), null).execute(model).getFeedbackToUser());
+        assertEquals(ConflictsCommand.MESSAGE_NO_CONFLICTS,
+                new ConflictsCommand(null, new Category("STAFF")).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_unknownEmail_throwsCommandException() {
+        Email email = new Email("nobody@example.com");
+        assertThrows(CommandException.class, String.format(RegisterCommand.MESSAGE_PERSON_NOT_FOUND, email), ()
+                -> new ConflictsCommand(email, null).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ConflictsCommand allCommand = new ConflictsCommand(null, null);
+        ConflictsCommand emailCommand = new ConflictsCommand(ALICE.getEmail(), null);
+
+        // same object -> returns true
+        assertTrue(allCommand.equals(allCommand));
+
+        // same values -> returns true
+        assertTrue(emailCommand.equals(new ConflictsCommand(ALICE.getEmail(), null)));
+
+        // different types -> returns false
+        assertFalse(allCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(allCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(allCommand.equals(emailCommand));
+        assertFalse(allCommand.equals(new ConflictsCommand(null, new Category("STAFF"))));
+    }
+}
@@ -6,11 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
 import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -136,6 +142,26 @@ public class DeleteCommandTest {
                 expectedModel);
     }
 
+    @Test
+    public void executeUndoRedo_registeredPerson_registrationsRestored() throws Exception {
+        Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.registerForEvent(personToDelete, EVENT1);
+        model.registerForEvent(personToDelete, EVENT2);
+        DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
+
+        deleteCommand.execute(model);
+        assertTrue(model.getAttendees(EVENT1).isEmpty());
+
+        new UndoCommand().execute(model);
+        assertEquals(Set.of(EVENT1, EVENT2), new HashSet<>(model.getRegisteredEvents(personToDelete)));
+
+        // an event deleted before undoing again is not registered for again
+        new RedoCommand().execute(model);
+        model.deleteEvent(EVENT2);
+        new UndoCommand().execute(model);
+        assertEquals(Collections.singletonList(EVENT1), model.getRegisteredEvents(personToDelete));
+    }
+
     /**
      * Updates {@code model}'s filtered list to show no one.
      */
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -19,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Category;
 import seedu.address.model.person.ContactContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -53,6 +56,11 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // keywords and query -> returns false
+        PersonQuery query = new PersonQuery(null, 1, Collections.emptyList(), null);
+        assertFalse(findFirstCommand.equals(new FindCommand(query)));
+        assertTrue(new FindCommand(query).equals(new FindCommand(query)));
     }
 
     @Test
@@ -75,11 +83,31 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_query_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonQuery query = new PersonQuery(new Category("STAFF"), null, Collections.emptyList(), "@example.com");
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_misspelledNamesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(preparePredicate("Elle"), Arrays.asList("Krz"));
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL) || person.equals(ELLE));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         ContactContainsKeywordsPredicate predicate = new ContactContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + ", fuzzyKeywords=[]"
+                + ", query=null}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -45,20 +45,33 @@ public class GroupCommandTest {
 
     @Test
     public void execute_noTargetGroup_success() {
+        Model modelWithOneGroup = new ModelManager();
         Person personToGroup = new PersonBuilder().build();
-        model.setPerson(model.getFilteredPersonList().get(0), personToGroup);
-
-        GroupCommand groupCommandToSetTotalGroupNumber = new GroupCommand(INDEX_FIRST_PERSON, 3);
+        Person groupMember = new PersonBuilder().withName("Group Member").withEmail("member@example.com").build();
+        modelWithOneGroup.addPerson(personToGroup);
+        modelWithOneGroup.addPerson(groupMember);
+        modelWithOneGroup.groupPerson(groupMember, 3);
         GroupCommand groupCommand = new GroupCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(GroupCommand.MESSAGE_GROUP_PERSON_SUCCESS,
                 Messages.format(personToGroup));
 
-        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()),
-                new EventBook(model.getEventBook()), new UserPrefs());
-        expectedModel.setPerson(model.getFilteredPersonList().get(0), personToGroup);
+        Model expectedModel = new ModelManager(new AddressBook(modelWithOneGroup.getAddressBook()),
+                new EventBook(), new UserPrefs());
 
-        assertCommandSuccess(groupCommand, model, expectedMessage, expectedModel);
+        assertCommandSuccess(groupCommand, modelWithOneGroup, expectedMessage, expectedModel);
+        // group 3 is the only existing group, so it is the one picked
+        assertEquals(3, modelWithOneGroup.getFilteredPersonList().get(0).getGroupNumber());
+        assertEquals(2, modelWithOneGroup.getGroupMembers(3).size());
+    }
+
+    @Test
+    public void execute_noTargetGroupNoExistingGroup_failure() {
+        Model modelWithoutGroups = new ModelManager();
+        modelWithoutGroups.addPerson(new PersonBuilder().build());
+        GroupCommand groupCommand = new GroupCommand(INDEX_FIRST_PERSON);
+
+        assertCommandFailure(groupCommand, modelWithoutGroups, GroupCommand.MESSAGE_NO_EXISTING_GROUP);
     }
 
     @Test
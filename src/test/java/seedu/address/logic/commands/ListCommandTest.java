@@ -1,5 +1,8 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
@@ -9,9 +12,13 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -37,4 +44,45 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_group_showsGroupMembers() {
+        Model groupModel = new ModelManager(new AddressBook(), new EventBook(), new UserPrefs());
+        Person firstMember = new PersonBuilder().withName("First Member").withEmail("first@example.com").build();
+        Person secondMember = new PersonBuilder().withName("Second Member").withEmail("second@example.com").build();
+        Person otherPerson = new PersonBuilder().withName("Other Person").withEmail("other@example.com").build();
+        groupModel.addPerson(firstMember);
+        groupModel.addPerson(secondMember);
+        groupModel.addPerson(otherPerson);
+        groupModel.groupPerson(firstMember, 2);
+        groupModel.groupPerson(secondMember, 2);
+        groupModel.groupPerson(otherPerson, 3);
+
+        CommandResult result = new ListCommand(2).execute(groupModel);
+
+        assertEquals(String.format(ListCommand.MESSAGE_GROUP_SUCCESS, 2, 2), result.getFeedbackToUser());
+        assertEquals(2, groupModel.getFilteredPersonList().size());
+        assertTrue(groupModel.getFilteredPersonList().contains(firstMember));
+        assertTrue(groupModel.getFilteredPersonList().contains(secondMember));
+    }
+
+    @Test
+    public void execute_emptyGroup_showsNoPersons() {
+        CommandResult result = new ListCommand(99).execute(model);
+
+        assertEquals(String.format(ListCommand.MESSAGE_GROUP_SUCCESS, 0, 99), result.getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listAllCommand = new ListCommand();
+        ListCommand listGroupCommand = new ListCommand(1);
+
+        assertTrue(listAllCommand.equals(new ListCommand()));
+        assertTrue(listGroupCommand.equals(new ListCommand(1)));
+        assertFalse(listAllCommand.equals(listGroupCommand));
+        assertFalse(listGroupCommand.equals(new ListCommand(2)));
+        assertFalse(listAllCommand.equals(null));
+    }
 }
@@ -1,16 +1,25 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.ListEventCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.EVENT3;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
 import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.EventDate;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListEventCommand.
@@ -38,8 +47,24 @@ public class ListEventCommandTest {
         ListEventCommand listEventCommand = new ListEventCommand();
         assertEquals(listEventCommand.execute(model).getFeedbackToUser(), MESSAGE_SUCCESS);
     }
-}
-
 
+    @Test
+    public void execute_dateRange_showsEventsInRange() {
+        ListEventCommand listEventCommand = new ListEventCommand(new EventDate("02-02-2025"),
+                new EventDate("04-04-2025"));
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 3),
+                listEventCommand.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(EVENT2, EVENT3, EVENT4), model.getFilteredEventList());
+    }
 
+    @Test
+    public void equals() {
+        ListEventCommand listAll = new ListEventCommand();
+        ListEventCommand listRange = new ListEventCommand(new EventDate("02-02-2025"), null);
 
+        assertTrue(listAll.equals(new ListEventCommand()));
+        assertTrue(listRange.equals(new ListEventCommand(new EventDate("02-02-2025"), null)));
+        assertFalse(listAll.equals(listRange));
+        assertFalse(listRange.equals(null));
+    }
+}
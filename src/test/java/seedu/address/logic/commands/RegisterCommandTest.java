@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for RegisterCommand.
+ */
+public class RegisterCommandTest {
+
+    private static final Email ALICE_EMAIL = ALICE.getEmail();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_unregisteredPerson_success() throws Exception {
+        RegisterCommand command = new RegisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL);
+        assertEquals(String.format(RegisterCommand.MESSAGE_SUCCESS, ALICE.getName(), EVENT1.getEventName()),
+                command.execute(model).getFeedbackToUser());
+        assertTrue(model.isRegisteredForEvent(ALICE, EVENT1));
+    }
+
+    @Test
+    public void execute_alreadyRegistered_throwsCommandException() {
+        model.registerForEvent(ALICE, EVENT1);
+        RegisterCommand command = new RegisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL);
+        assertThrows(CommandException.class,
+                String.format(RegisterCommand.MESSAGE_ALREADY_REGISTERED, ALICE.getName(), EVENT1.getEventName()), ()
+                -> command.execute(model));
+    }
+
+    @Test
+    public void execute_unknownEmail_throwsCommandException() {
+        Email unknownEmail = new Email("nobody@example.com");
+        RegisterCommand command = new RegisterCommand(INDEX_FIRST_PERSON, unknownEmail);
+        assertThrows(CommandException.class, String.format(RegisterCommand.MESSAGE_PERSON_NOT_FOUND, unknownEmail), ()
+                -> command.execute(model));
+    }
+
+    @Test
+    public void execute_sharedEmail_throwsCommandException() {
+        Person aliceNamesake = new PersonBuilder(ALICE).withName("Alice Other").build();
+        model.addPerson(aliceNamesake);
+        RegisterCommand command = new RegisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL);
+        assertThrows(CommandException.class, String.format(RegisterCommand.MESSAGE_AMBIGUOUS_EMAIL, ALICE_EMAIL), ()
+                -> command.execute(model));
+        assertFalse(model.isRegisteredForEvent(ALICE, EVENT1));
+    }
+
+    @Test
+    public void execute_invalidEventIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEventList().size() + 1);
+        RegisterCommand command = new RegisterCommand(outOfBoundIndex, ALICE_EMAIL);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, ()
+                -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RegisterCommand registerFirstCommand = new RegisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL);
+        RegisterCommand registerSecondCommand = new RegisterCommand(INDEX_SECOND_PERSON, ALICE_EMAIL);
+
+        // same object -> returns true
+        assertTrue(registerFirstCommand.equals(registerFirstCommand));
+
+        // same values -> returns true
+        assertTrue(registerFirstCommand.equals(new RegisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL)));
+
+        // different types -> returns false
+        assertFalse(registerFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(registerFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(registerFirstCommand.equals(registerSecondCommand));
+
+        // different email -> returns false
+        assertFalse(registerFirstCommand.equals(
+                new RegisterCommand(INDEX_FIRST_PERSON, new Email("nobody@example.com"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RegisterCommand registerCommand = new RegisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL);
+        String expected = RegisterCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST_PERSON
+                + ", email=" + ALICE_EMAIL + "}";
+        assertEquals(expected, registerCommand.toString());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.Snapshot;
+
+public class RestoreCommandTest {
+
+    private static final Path SNAPSHOT_DIRECTORY = Paths.get("snapshots");
+    private static final Snapshot NEWER_SNAPSHOT =
+            Snapshot.of(SNAPSHOT_DIRECTORY, LocalDateTime.of(2026, 10, 19, 14, 30, 5), "clear");
+    private static final Snapshot OLDER_SNAPSHOT =
+            Snapshot.of(SNAPSHOT_DIRECTORY, LocalDateTime.of(2026, 10, 19, 14, 0, 0), "timed");
+
+    @Test
+    public void execute_requestsSnapshots() {
+        RestoreCommand listCommand = new RestoreCommand();
+        assertEquals(new CommandResult(RestoreCommand.MESSAGE_LISTING, listCommand),
+                listCommand.execute(new ModelManager()));
+
+        RestoreCommand restoreCommand = new RestoreCommand(INDEX_SECOND_PERSON);
+        assertEquals(Optional.of(restoreCommand), restoreCommand.execute(new ModelManager()).getSnapshotRequest());
+        assertEquals(String.format(RestoreCommand.MESSAGE_RESTORING, 2),
+                restoreCommand.execute(new ModelManager()).getFeedbackToUser());
+    }
+
+    @Test
+    public void selectSnapshot_noSnapshots_throwsCommandException() {
+        assertThrows(CommandException.class, RestoreCommand.MESSAGE_NO_SNAPSHOTS, () ->
+                new RestoreCommand().selectSnapshot(List.of()));
+    }
+
+    @Test
+    public void selectSnapshot_noIndex_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(), new RestoreCommand().selectSnapshot(List.of(NEWER_SNAPSHOT)));
+    }
+
+    @Test
+    public void selectSnapshot_validIndex_returnsSnapshot() throws Exception {
+        assertEquals(Optional.of(OLDER_SNAPSHOT),
+                new RestoreCommand(INDEX_SECOND_PERSON).selectSnapshot(List.of(NEWER_SNAPSHOT, OLDER_SNAPSHOT)));
+    }
+
+    @Test
+    public void selectSnapshot_invalidIndex_throwsCommandException() {
+        assertThrows(CommandException.class, RestoreCommand.MESSAGE_INVALID_SNAPSHOT_INDEX, () ->
+                new RestoreCommand(INDEX_SECOND_PERSON).selectSnapshot(List.of(NEWER_SNAPSHOT)));
+    }
+
+    @Test
+    public void listSnapshots() {
+        String expectedList = "1. 2026-10-19 14:30:05 (clear)\n2. 2026-10-19 14:00:00 (timed)";
+        assertEquals(String.format(RestoreCommand.MESSAGE_LIST_SNAPSHOTS, expectedList),
+                RestoreCommand.listSnapshots(List.of(NEWER_SNAPSHOT, OLDER_SNAPSHOT)));
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand restoreFirstCommand = new RestoreCommand(INDEX_FIRST_PERSON);
+
+        assertTrue(restoreFirstCommand.equals(restoreFirstCommand));
+        assertTrue(restoreFirstCommand.equals(new RestoreCommand(INDEX_FIRST_PERSON)));
+        assertTrue(new RestoreCommand().equals(new RestoreCommand()));
+        assertFalse(restoreFirstCommand.equals(new RestoreCommand()));
+        assertFalse(restoreFirstCommand.equals(new RestoreCommand(INDEX_SECOND_PERSON)));
+        assertFalse(restoreFirstCommand.equals(null));
+    }
+}
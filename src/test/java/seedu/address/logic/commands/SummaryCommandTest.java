@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SummaryCommand}.
+ */
+public class SummaryCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build());
+        model.addPerson(new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com").build());
+        model.addPerson(new PersonBuilder().withName("Carl Kurz").withEmail("carl@example.com")
+                .withCategory("STAFF").build());
+        model.addPerson(new PersonBuilder().withName("Daniel Meier").withEmail("daniel@example.com")
+                .withCategory("SPONSOR").build());
+        expectedModel = new ModelManager(model.getAddressBook(), model.getEventBook(), model.getUserPrefs());
+    }
+
+    @Test
+    public void execute_noGroups_showsCategoryCounts() {
+        String expectedMessage = String.format(SummaryCommand.MESSAGE_CATEGORIES, 2, 1, 1) + "\n"
+                + String.format(SummaryCommand.MESSAGE_UNGROUPED, 3);
+        assertCommandSuccess(new SummaryCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_groupedPersons_showsGroupCounts() {
+        for (Person person : model.getFilteredPersonList().subList(1, 3)) {
+            model.groupPerson(person, 2);
+        }
+        model.groupPerson(model.getFilteredPersonList().get(0), 5);
+
+        String expectedMessage = String.format(SummaryCommand.MESSAGE_CATEGORIES, 2, 1, 1) + "\n"
+                + String.format(SummaryCommand.MESSAGE_UNGROUPED, 0) + "\n"
+                + String.format(SummaryCommand.MESSAGE_GROUP, 2, 2, 1, 1) + "\n"
+                + String.format(SummaryCommand.MESSAGE_GROUP, 5, 1, 1, 0);
+        assertCommandSuccess(new SummaryCommand(), model, expectedMessage, model);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for UnregisterCommand.
+ */
+public class UnregisterCommandTest {
+
+    private static final Email ALICE_EMAIL = ALICE.getEmail();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_registeredPerson_success() throws Exception {
+        model.registerForEvent(ALICE, EVENT1);
+        UnregisterCommand command = new UnregisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL);
+        assertEquals(String.format(UnregisterCommand.MESSAGE_SUCCESS, ALICE.getName(), EVENT1.getEventName()),
+                command.execute(model).getFeedbackToUser());
+        assertFalse(model.isRegisteredForEvent(ALICE, EVENT1));
+    }
+
+    @Test
+    public void execute_notRegistered_throwsCommandException() {
+        UnregisterCommand command = new UnregisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL);
+        assertThrows(CommandException.class,
+                String.format(UnregisterCommand.MESSAGE_NOT_REGISTERED, ALICE.getName(), EVENT1.getEventName()), ()
+                -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        UnregisterCommand unregisterFirstCommand = new UnregisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL);
+
+        // same object -> returns true
+        assertTrue(unregisterFirstCommand.equals(unregisterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(unregisterFirstCommand.equals(new UnregisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL)));
+
+        // different types -> returns false
+        assertFalse(unregisterFirstCommand.equals(new RegisterCommand(INDEX_FIRST_PERSON, ALICE_EMAIL)));
+
+        // null -> returns false
+        assertFalse(unregisterFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(unregisterFirstCommand.equals(new UnregisterCommand(INDEX_SECOND_PERSON, ALICE_EMAIL)));
+    }
+}
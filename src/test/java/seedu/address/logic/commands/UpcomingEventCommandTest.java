@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.UpcomingEventCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.TypicalEvents.EVENT3;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for UpcomingEventCommand.
+ */
+public class UpcomingEventCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_eventsAfterToday_showsEarliestEvents() {
+        UpcomingEventCommand command = new UpcomingEventCommand(2, clockAt(LocalDate.of(2025, 3, 3)));
+        assertEquals(String.format(MESSAGE_SUCCESS, 2), command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(EVENT3, EVENT4), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_noEventsAfterToday_showsNoEvents() {
+        UpcomingEventCommand command = new UpcomingEventCommand(2, clockAt(LocalDate.of(2100, 1, 1)));
+        assertEquals(String.format(MESSAGE_SUCCESS, 0), command.execute(model).getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredEventList());
+    }
+
+    @Test
+    public void equals() {
+        UpcomingEventCommand upcomingTwo = new UpcomingEventCommand(2);
+
+        assertTrue(upcomingTwo.equals(upcomingTwo));
+        assertTrue(upcomingTwo.equals(new UpcomingEventCommand(2)));
+        assertFalse(upcomingTwo.equals(new UpcomingEventCommand(3)));
+        assertFalse(upcomingTwo.equals(null));
+
+        // commands counting from different dates are different
+        UpcomingEventCommand upcomingTwoFromDate = new UpcomingEventCommand(2, clockAt(LocalDate.of(2025, 1, 1)));
+        assertTrue(upcomingTwoFromDate.equals(new UpcomingEventCommand(2, clockAt(LocalDate.of(2025, 1, 1)))));
+        assertFalse(upcomingTwoFromDate.equals(new UpcomingEventCommand(2, clockAt(LocalDate.of(2025, 1, 2)))));
+        assertFalse(upcomingTwoFromDate.equals(upcomingTwo));
+    }
+
+    private static Clock clockAt(LocalDate date) {
+        ZoneId zone = ZoneId.systemDefault();
+        return Clock.fixed(date.atStartOfDay(zone).toInstant(), zone);
+    }
+}
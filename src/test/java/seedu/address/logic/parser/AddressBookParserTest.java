@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -24,6 +25,9 @@ import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.GroupRandomCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SummaryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.ContactContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -78,16 +82,37 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new ContactContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_summary() throws Exception {
+        assertTrue(parser.parseCommand(SummaryCommand.COMMAND_WORD) instanceof SummaryCommand);
+        assertTrue(parser.parseCommand(SummaryCommand.COMMAND_WORD + " 3") instanceof SummaryCommand);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new SearchCommand(keywords), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_restore() throws Exception {
+        assertEquals(new RestoreCommand(), parser.parseCommand(RestoreCommand.COMMAND_WORD));
+        assertEquals(new RestoreCommand(INDEX_FIRST_PERSON), parser.parseCommand(RestoreCommand.COMMAND_WORD + " 1"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertEquals(new ListCommand(3), parser.parseCommand(ListCommand.COMMAND_WORD + " g/3"));
     }
 
     @Test
@@ -115,4 +140,23 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_misspelledCommand_throwsParseExceptionWithSuggestions() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "delete"), ()
+            -> parser.parseCommand("delet 1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "edit, exit"), ()
+            -> parser.parseCommand("eit"));
+    }
+
+    @Test
+    public void parseCommand_misspelledCommandWithAutoCorrection_parsesClosestCommand() throws Exception {
+        AddressBookParser autoCorrectingParser = new AddressBookParser(true);
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), autoCorrectingParser.parseCommand("delet 1"));
+        assertTrue(autoCorrectingParser.parseCommand("lisst") instanceof ListCommand);
+
+        // equally close commands are not guessed
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "edit, exit"), ()
+            -> autoCorrectingParser.parseCommand("eit"));
+    }
 }
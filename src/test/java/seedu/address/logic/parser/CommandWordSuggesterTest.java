@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandWordSuggesterTest {
+
+    private final CommandWordSuggester suggester = new CommandWordSuggester(Arrays.asList("add", "delete", "edit",
+            "exit", "list", "find", "d", "ed"));
+
+    @Test
+    public void getMaxDistance_wordLength_allowsMoreEditsForLongerWords() {
+        assertEquals(0, CommandWordSuggester.getMaxDistance("de"));
+        assertEquals(1, CommandWordSuggester.getMaxDistance("dele"));
+        assertEquals(2, CommandWordSuggester.getMaxDistance("delet"));
+    }
+
+    @Test
+    public void suggest_misspelledWord_returnsClosestFirst() {
+        assertEquals(Collections.singletonList("delete"), suggester.suggest("delet"));
+        assertEquals(Arrays.asList("edit", "exit"), suggester.suggest("eit"));
+        // "exit" needs one edit and "edit" needs two
+        assertEquals(Arrays.asList("exit", "edit"), suggester.suggest("exiit"));
+    }
+
+    @Test
+    public void suggest_noCloseWord_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), suggester.suggest("unknownCommand"));
+        assertEquals(Collections.emptyList(), suggester.suggest("dd"));
+        assertEquals(Collections.emptyList(), suggester.suggest("edit"));
+    }
+
+    @Test
+    public void correct_singleClosestWord_returnsWord() {
+        assertEquals(Optional.of("delete"), suggester.correct("dleete"));
+        assertEquals(Optional.of("exit"), suggester.correct("exiit"));
+    }
+
+    @Test
+    public void correct_tiedOrNoWord_returnsEmpty() {
+        assertEquals(Optional.empty(), suggester.correct("eit"));
+        assertEquals(Optional.empty(), suggester.correct("xyz"));
+    }
+}
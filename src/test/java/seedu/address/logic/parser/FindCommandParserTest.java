@@ -1,15 +1,20 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Category;
 import seedu.address.model.person.ContactContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
 
 public class FindCommandParserTest {
 
@@ -31,4 +36,30 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyKeywords_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new ContactContainsKeywordsPredicate(Arrays.asList("Bob", "~")), Arrays.asList("Alcie"));
+        assertParseSuccess(parser, "Alcie~ Bob ~", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_query_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(new Category("STAFF"), 3,
+                Arrays.asList("ali", "tan", "bo"), "@nus.edu"));
+        assertParseSuccess(parser, "c/staff g/3 n/ali tan e/@nus.edu n/bo", expectedFindCommand);
+
+        assertParseSuccess(parser, " g/3 ", new FindCommand(new PersonQuery(null, 3, Collections.emptyList(), null)));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "alice c/staff", invalidFormat);
+        assertParseFailure(parser, "n/ ", invalidFormat);
+        assertParseFailure(parser, "e/", invalidFormat);
+        assertParseFailure(parser, "c/judge", Category.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "c/staff c/sponsor", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_CATEGORY));
+    }
+
 }
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ListCommand;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noGroup_returnsListAllCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+        assertParseSuccess(parser, " 3", new ListCommand());
+    }
+
+    @Test
+    public void parse_validGroup_returnsListGroupCommand() {
+        assertParseSuccess(parser, " g/3", new ListCommand(3));
+        assertParseSuccess(parser, " g/0", new ListCommand(0));
+    }
+
+    @Test
+    public void parse_invalidGroup_throwsParseException() {
+        assertParseFailure(parser, " g/abc", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " g/-1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_duplicateGroup_throwsParseException() {
+        assertParseFailure(parser, " g/1 g/2", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_GROUP));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.EventDate;
+
+public class ListEventCommandParserTest {
+
+    private final ListEventCommandParser parser = new ListEventCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListEventCommandOfAllEvents() throws Exception {
+        assertEquals(new ListEventCommand(), parser.parse("  "));
+    }
+
+    @Test
+    public void parse_validDateRange_returnsListEventCommand() throws Exception {
+        EventDate from = new EventDate("01-01-2025");
+        EventDate to = new EventDate("31-01-2025");
+        assertEquals(new ListEventCommand(from, to), parser.parse(" from/01-01-2025 to/31-01-2025"));
+        // a range of a single day
+        assertEquals(new ListEventCommand(from, from), parser.parse(" from/01-01-2025 to/01-01-2025"));
+        // either end may be left open
+        assertEquals(new ListEventCommand(from, null), parser.parse(" from/01-01-2025"));
+        assertEquals(new ListEventCommand(null, to), parser.parse(" to/31-01-2025"));
+    }
+
+    @Test
+    public void parse_reversedDateRange_throwsParseException() {
+        assertThrows(ParseException.class, ListEventCommandParser.MESSAGE_INVALID_DATE_RANGE, () ->
+                parser.parse(" from/31-01-2025 to/01-01-2025"));
+    }
+
+    @Test
+    public void parse_malformedDateRange_throwsParseException() {
+        assertThrows(ParseException.class, EventDate.MESSAGE_CONSTRAINTS, () ->
+                parser.parse(" from/2025-01-01 to/31-01-2025"));
+        assertThrows(ParseException.class, EventDate.MESSAGE_CONSTRAINTS, () ->
+                parser.parse(" from/01-01-2025 to/32-01-2025"));
+        assertThrows(ParseException.class, EventDate.MESSAGE_CONSTRAINTS, () -> parser.parse(" from/"));
+        assertThrows(ParseException.class, Messages.getErrorMessageForDuplicatePrefixes(PREFIX_FROM), () ->
+                parser.parse(" from/01-01-2025 from/02-01-2025"));
+        assertThrows(ParseException.class,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventCommand.MESSAGE_USAGE), () ->
+                parser.parse(" 01-01-2025 to/31-01-2025"));
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.UpcomingEventCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class UpcomingEventCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingEventCommand.MESSAGE_USAGE);
+
+    private final UpcomingEventCommandParser parser = new UpcomingEventCommandParser();
+
+    @Test
+    public void parse_validCount_returnsUpcomingEventCommand() throws Exception {
+        assertEquals(new UpcomingEventCommand(5), parser.parse(" 5 "));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse(""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse("-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse("five"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse("5 6"));
+    }
+}
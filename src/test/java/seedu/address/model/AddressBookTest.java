@@ -16,7 +16,9 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Category;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -41,6 +43,18 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void findPersonsByEmailOrPhone_personEdited_findsEditedPerson() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@other.com").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertEquals(Collections.singletonList(editedAlice), addressBook.findPersonsByEmailOrPhone("alice@other.com"));
+        assertEquals(Collections.emptyList(), addressBook.findPersonsByEmailOrPhone(ALICE.getEmail().value));
+        assertEquals(Collections.singletonList(editedAlice),
+                addressBook.findPersonsByEmailOrPhone(ALICE.getPhone().value));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -79,6 +93,55 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void findPersons_query_returnsMatchingPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person grouped = new PersonBuilder().withName("Alan Tan").withEmail("alan@nus.edu.sg").build();
+        addressBook.addPerson(grouped);
+        addressBook.setPerson(grouped, grouped.withGroupNumber(2));
+
+        assertEquals(Collections.singletonList(ALICE), addressBook.findPersons(
+                new PersonQuery(new Category("PARTICIPANT"), null, Collections.singletonList("al"), "@example")));
+        assertEquals(Collections.singletonList(grouped), addressBook.findPersons(
+                new PersonQuery(null, 2, Collections.emptyList(), null)));
+        assertEquals(Collections.singletonList(grouped), addressBook.findPersons(
+                new PersonQuery(null, null, Collections.emptyList(), "@nus.edu")));
+        // no index applies to an email fragment without a domain
+        assertEquals(Collections.singletonList(grouped), addressBook.findPersons(
+                new PersonQuery(null, null, Collections.emptyList(), "alan")));
+        assertEquals(Collections.emptyList(), addressBook.findPersons(
+                new PersonQuery(new Category("SPONSOR"), 2, Collections.emptyList(), null)));
+    }
+
+    @Test
+    public void findPersons_openBatch_sameResultsWithOrWithoutIndex() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person added = new PersonBuilder().withName("Alan Tan").withEmail("alan@nus.edu.sg").build();
+        addressBook.beginBatch();
+        addressBook.addPerson(added);
+
+        // the domain index already has the person added in the batch, and so do the persons tested without an index
+        assertEquals(Collections.singletonList(added), addressBook.findPersons(
+                new PersonQuery(null, null, Collections.emptyList(), "@nus.edu")));
+        assertEquals(Collections.singletonList(added), addressBook.findPersons(
+                new PersonQuery(null, null, Collections.emptyList(), "alan")));
+        addressBook.commitBatch();
+    }
+
+    @Test
+    public void getGroupMembers_regroupedPerson_movesBetweenGroups() {
+        Person member = new PersonBuilder().withName("Group Member").withEmail("member@example.com").build();
+        addressBook.addPerson(member);
+        assertEquals(Collections.singleton(member), addressBook.getGroupMembers(0));
+
+        addressBook.setPerson(member, member.withGroupNumber(4));
+        assertEquals(Collections.singleton(member), addressBook.getGroupMembers(4));
+        assertTrue(addressBook.getGroupMembers(0).isEmpty());
+
+        addressBook.removePerson(member);
+        assertTrue(addressBook.getGroupMembers(4).isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
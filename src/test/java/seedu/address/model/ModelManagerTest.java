@@ -5,18 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +98,136 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void previewFilteredPersonList_keywordPrefix_filtersList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.previewFilteredPersonList(Collections.singletonList("ben"));
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void clearFilteredPersonListPreview_previewInProgress_restoresPreviousFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(person -> !person.equals(CARL));
+
+        modelManager.previewFilteredPersonList(Collections.singletonList("a"));
+        modelManager.previewFilteredPersonList(Collections.singletonList("al"));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.clearFilteredPersonListPreview();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void clearFilteredPersonListPreview_filterUpdatedAfterPreview_keepsUpdatedFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.previewFilteredPersonList(Collections.singletonList("ali"));
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+
+        modelManager.clearFilteredPersonListPreview();
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void searchFilteredPersonList_matchingPersons_orderedByRelevance() {
+        Person pythonExpert = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+                .withComment("Python python").build();
+        Person pythonBeginner = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+                .withComment("Learning python and java this year").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(pythonBeginner);
+        modelManager.addPerson(pythonExpert);
+
+        modelManager.searchFilteredPersonList(Collections.singletonList("python"), 10);
+        assertEquals(Arrays.asList(pythonExpert, pythonBeginner), modelManager.getFilteredPersonList());
+
+        modelManager.searchFilteredPersonList(Collections.singletonList("python"), 1);
+        assertEquals(Collections.singletonList(pythonExpert), modelManager.getFilteredPersonList());
+
+        // a new filter restores the address book order
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, pythonBeginner, pythonExpert), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersonsByPrefix_usedPersons_orderedByUse() {
+        Person alex = new PersonBuilder().withName("Alex Yeoh").withEmail("alexyeoh@example.com").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(alex);
+        assertEquals(Arrays.asList(alex, ALICE), modelManager.findPersonsByPrefix("al", 5));
+
+        modelManager.recordPersonUse(ALICE);
+        assertEquals(Arrays.asList(ALICE, alex), modelManager.findPersonsByPrefix("al", 5));
+        assertEquals(Collections.singletonList(ALICE), modelManager.findPersonsByPrefix("al", 1));
+
+        // the uses are kept when the person is edited
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, alex), modelManager.findPersonsByPrefix("al", 5));
+    }
+
+    @Test
+    public void commitTransaction_filterUpdatedInTransaction_appliedOnCommit() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(person -> !person.equals(ALICE));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.hasPerson(CARL));
+
+        modelManager.commitTransaction();
+        assertEquals(Arrays.asList(BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void commitTransaction_nestedTransaction_appliedOnOutermostCommit() {
+        modelManager.beginTransaction();
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.commitTransaction();
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+
+        modelManager.commitTransaction();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void deletePerson_registeredPerson_registrationsRemoved() {
+        modelManager.addPerson(ALICE);
+        modelManager.addEvent(EVENT1);
+        modelManager.registerForEvent(ALICE, EVENT1);
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(Collections.emptyList(), modelManager.getAttendees(EVENT1));
+    }
+
+    @Test
+    public void setPerson_registeredPerson_registrationsMoved() {
+        modelManager.addPerson(ALICE);
+        modelManager.addEvent(EVENT1);
+        modelManager.registerForEvent(ALICE, EVENT1);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getAttendees(EVENT1));
+    }
+
+    @Test
+    public void deleteEvent_registeredEvent_registrationsRemoved() {
+        modelManager.addPerson(ALICE);
+        modelManager.addEvent(EVENT1);
+        modelManager.registerForEvent(ALICE, EVENT1);
+
+        modelManager.deleteEvent(EVENT1);
+        assertFalse(modelManager.isRegisteredForEvent(ALICE, EVENT1));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,198 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParticipationBookTest {
+
+    private final ParticipationBook participationBook = new ParticipationBook();
+
+    @Test
+    public void constructor() {
+        assertEquals(Collections.emptyList(), participationBook.getRegistrations());
+    }
+
+    @Test
+    public void register_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> participationBook.register(null, EVENT1));
+    }
+
+    @Test
+    public void register_newRegistration_isRegistered() {
+        participationBook.register(ALICE, EVENT1);
+        assertTrue(participationBook.isRegistered(ALICE, EVENT1));
+        assertFalse(participationBook.isRegistered(ALICE, EVENT2));
+        assertFalse(participationBook.isRegistered(BENSON, EVENT1));
+        assertEquals(Collections.singletonList(ALICE), participationBook.getAttendees(EVENT1));
+        assertEquals(Collections.singletonList(EVENT1), participationBook.getEvents(ALICE));
+    }
+
+    @Test
+    public void register_twice_registeredOnce() {
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(ALICE, EVENT1);
+        assertEquals(1, participationBook.getRegistrations().size());
+    }
+
+    @Test
+    public void register_personEqualButNotSameInstance_trackedSeparately() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        participationBook.register(ALICE, EVENT1);
+        assertFalse(participationBook.isRegistered(aliceCopy, EVENT1));
+    }
+
+    @Test
+    public void unregister_registeredPerson_notRegistered() {
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(BENSON, EVENT1);
+        participationBook.unregister(ALICE, EVENT1);
+        assertFalse(participationBook.isRegistered(ALICE, EVENT1));
+        assertEquals(Collections.singletonList(BENSON), participationBook.getAttendees(EVENT1));
+        assertEquals(Collections.emptyList(), participationBook.getEvents(ALICE));
+    }
+
+    @Test
+    public void unregister_releasedIdReused_noStaleRegistrations() {
+        participationBook.register(ALICE, EVENT1);
+        participationBook.unregister(ALICE, EVENT1);
+        participationBook.register(BENSON, EVENT2);
+        assertEquals(Collections.emptyList(), participationBook.getAttendees(EVENT1));
+        assertEquals(Collections.singletonList(BENSON), participationBook.getAttendees(EVENT2));
+        assertFalse(participationBook.isRegistered(ALICE, EVENT2));
+    }
+
+    @Test
+    public void getAttendees_withCategory_returnsAttendeesOfCategory() {
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(DANIEL, EVENT1);
+        participationBook.register(ELLE, EVENT1);
+        participationBook.register(BENSON, EVENT2);
+
+        assertEquals(Collections.singletonList(ALICE),
+                participationBook.getAttendees(EVENT1, new Category("PARTICIPANT")));
+        assertEquals(Collections.singletonList(DANIEL),
+                participationBook.getAttendees(EVENT1, new Category("SPONSOR")));
+        assertEquals(Collections.emptyList(), participationBook.getAttendees(EVENT2, new Category("STAFF")));
+    }
+
+    @Test
+    public void setPerson_categoryChanged_registrationsAndCategoryMoved() {
+        participationBook.register(ALICE, EVENT1);
+        Person editedAlice = new PersonBuilder(ALICE).withCategory("STAFF").build();
+        participationBook.setPerson(ALICE, editedAlice);
+
+        assertTrue(participationBook.isRegistered(editedAlice, EVENT1));
+        assertFalse(participationBook.isRegistered(ALICE, EVENT1));
+        assertEquals(Collections.singletonList(editedAlice),
+                participationBook.getAttendees(EVENT1, new Category("STAFF")));
+        assertEquals(Collections.emptyList(), participationBook.getAttendees(EVENT1, new Category("PARTICIPANT")));
+    }
+
+    @Test
+    public void removePerson_registeredPerson_registrationsRemoved() {
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(ALICE, EVENT2);
+        participationBook.register(BENSON, EVENT2);
+        participationBook.removePerson(ALICE);
+
+        assertEquals(Collections.emptyList(), participationBook.getAttendees(EVENT1));
+        assertEquals(Collections.singletonList(BENSON), participationBook.getAttendees(EVENT2));
+    }
+
+    @Test
+    public void setEvent_registeredEvent_registrationsMoved() {
+        participationBook.register(ALICE, EVENT1);
+        Event editedEvent = new EventBuilder(EVENT1).withEventName("renamed").build();
+        participationBook.setEvent(EVENT1, editedEvent);
+
+        assertTrue(participationBook.isRegistered(ALICE, editedEvent));
+        assertFalse(participationBook.isRegistered(ALICE, EVENT1));
+    }
+
+    @Test
+    public void removeEvent_registeredEvent_registrationsRemoved() {
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(ALICE, EVENT2);
+        participationBook.removeEvent(EVENT1);
+
+        assertEquals(Collections.singletonList(EVENT2), participationBook.getEvents(ALICE));
+    }
+
+    @Test
+    public void retainPersonsAndEvents_someMissing_otherRegistrationsRemoved() {
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(BENSON, EVENT1);
+        participationBook.register(BENSON, EVENT2);
+
+        participationBook.replacePersons(person -> person == BENSON ? Optional.of(person) : Optional.empty());
+        assertEquals(Collections.singletonList(BENSON), participationBook.getAttendees(EVENT1));
+
+        participationBook.retainEvents(Collections.singletonList(EVENT2));
+        assertEquals(Collections.singletonList(EVENT2), participationBook.getEvents(BENSON));
+    }
+
+    @Test
+    public void replacePersons_equalPersons_registrationsMoved() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        Person bensonCopy = new PersonBuilder(BENSON).build();
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(BENSON, EVENT1);
+        participationBook.register(BENSON, EVENT2);
+        participationBook.register(bensonCopy, EVENT2);
+
+        participationBook.replacePersons(person -> Optional.of(person == ALICE ? aliceCopy : bensonCopy));
+        assertTrue(participationBook.isRegistered(aliceCopy, EVENT1));
+        assertFalse(participationBook.isRegistered(ALICE, EVENT1));
+        assertEquals(new HashSet<>(Arrays.asList(EVENT1, EVENT2)),
+                new HashSet<>(participationBook.getEvents(bensonCopy)));
+        assertEquals(Collections.emptyList(), participationBook.getEvents(BENSON));
+    }
+
+    @Test
+    public void resetData_withValidReadOnlyParticipationBook_replacesData() {
+        participationBook.register(ALICE, EVENT1);
+        ParticipationBook newData = new ParticipationBook();
+        newData.register(BENSON, EVENT2);
+        participationBook.resetData(newData);
+        assertEquals(newData, participationBook);
+    }
+
+    @Test
+    public void equals() {
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(BENSON, EVENT2);
+
+        ParticipationBook sameRegistrationsInOtherOrder = new ParticipationBook();
+        sameRegistrationsInOtherOrder.register(BENSON, EVENT2);
+        sameRegistrationsInOtherOrder.register(ALICE, EVENT1);
+        assertEquals(participationBook, sameRegistrationsInOtherOrder);
+        assertEquals(participationBook.hashCode(), sameRegistrationsInOtherOrder.hashCode());
+
+        ParticipationBook otherRegistrations = new ParticipationBook();
+        otherRegistrations.register(ALICE, EVENT1);
+        assertNotEquals(participationBook, otherRegistrations);
+        assertNotEquals(participationBook, Arrays.asList(ALICE, BENSON));
+    }
+}
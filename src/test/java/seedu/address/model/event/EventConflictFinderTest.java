@@ -0,0 +1,74 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class EventConflictFinderTest {
+
+    private static final Event BRIEFING = new EventBuilder().withEventName("Briefing")
+            .withEventDate("01-01-2025").withTimes("09:00", "10:00").build();
+    private static final Event WORKSHOP = new EventBuilder().withEventName("Workshop")
+            .withEventDate("01-01-2025").withTimes("09:30", "12:00").build();
+    private static final Event LUNCH = new EventBuilder().withEventName("Lunch")
+            .withEventDate("01-01-2025").withTimes("12:00", "13:00").build();
+    private static final Event HACKATHON = new EventBuilder().withEventName("Hackathon")
+            .withEventDate("01-01-2025").build();
+    private static final Event DEMO = new EventBuilder().withEventName("Demo")
+            .withEventDate("02-01-2025").withTimes("09:00", "10:00").build();
+
+    @Test
+    public void findConflicts_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> EventConflictFinder.findConflicts(null));
+    }
+
+    @Test
+    public void findConflicts_noEvents_noConflicts() {
+        assertEquals(Collections.emptyList(), EventConflictFinder.findConflicts(Collections.emptyList()));
+    }
+
+    @Test
+    public void findConflicts_adjacentEvents_noConflicts() {
+        assertEquals(Collections.emptyList(), EventConflictFinder.findConflicts(Arrays.asList(LUNCH, WORKSHOP)));
+    }
+
+    @Test
+    public void findConflicts_differentDates_noConflicts() {
+        assertEquals(Collections.emptyList(), EventConflictFinder.findConflicts(Arrays.asList(DEMO, BRIEFING)));
+    }
+
+    @Test
+    public void findConflicts_overlappingEvents_returnsPairsInStartOrder() {
+        List<EventConflict> expected = Arrays.asList(new EventConflict(BRIEFING, WORKSHOP));
+        assertEquals(expected, EventConflictFinder.findConflicts(Arrays.asList(WORKSHOP, BRIEFING)));
+    }
+
+    @Test
+    public void findConflicts_eventsEndingTogether_allConflictsFound() {
+        Event otherBriefing = new EventBuilder().withEventName("Other Briefing")
+                .withEventDate("01-01-2025").withTimes("09:00", "10:00").build();
+        List<EventConflict> expected = Arrays.asList(
+                new EventConflict(BRIEFING, otherBriefing),
+                new EventConflict(BRIEFING, WORKSHOP),
+                new EventConflict(otherBriefing, WORKSHOP));
+        assertEquals(expected, EventConflictFinder.findConflicts(Arrays.asList(WORKSHOP, BRIEFING, otherBriefing)));
+    }
+
+    @Test
+    public void findConflicts_eventWithoutTimes_overlapsWholeDay() {
+        List<EventConflict> expected = Arrays.asList(
+                new EventConflict(HACKATHON, BRIEFING),
+                new EventConflict(BRIEFING, WORKSHOP),
+                new EventConflict(HACKATHON, WORKSHOP),
+                new EventConflict(HACKATHON, LUNCH));
+        assertEquals(expected, EventConflictFinder.findConflicts(Arrays.asList(LUNCH, DEMO, WORKSHOP, HACKATHON,
+                BRIEFING)));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.EVENT3;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class EventDateIndexTest {
+
+    private final EventDateIndex dateIndex = new EventDateIndex();
+
+    @Test
+    public void getEventsBetween_eventsAddedOutOfOrder_returnsEventsInRangeInDateOrder() {
+        dateIndex.add(EVENT3);
+        dateIndex.add(EVENT1);
+        dateIndex.add(EVENT2);
+
+        assertEquals(Arrays.asList(EVENT1, EVENT2),
+                dateIndex.getEventsBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 2)));
+        assertEquals(Collections.singletonList(EVENT3),
+                dateIndex.getEventsBetween(LocalDate.of(2025, 2, 3), LocalDate.MAX));
+    }
+
+    @Test
+    public void getEventsBetween_startAfterEnd_returnsEmptyList() {
+        dateIndex.add(EVENT1);
+        assertEquals(Collections.emptyList(),
+                dateIndex.getEventsBetween(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    public void getEventsFrom_moreEventsThanCount_returnsEarliestEvents() {
+        Event sameDayAsEvent2 = new EventBuilder(EVENT2).withEventName("event 2b").build();
+        dateIndex.setEvents(Arrays.asList(EVENT3, EVENT2, sameDayAsEvent2, EVENT1));
+
+        assertEquals(Arrays.asList(EVENT2, sameDayAsEvent2),
+                dateIndex.getEventsFrom(LocalDate.of(2025, 1, 2), 2));
+        assertEquals(Arrays.asList(EVENT1, EVENT2, sameDayAsEvent2, EVENT3),
+                dateIndex.getEventsFrom(LocalDate.MIN, 10));
+    }
+
+    @Test
+    public void remove_eventInIndex_eventNoLongerReturned() {
+        dateIndex.add(EVENT1);
+        dateIndex.add(EVENT2);
+        dateIndex.remove(EVENT1);
+        assertEquals(Collections.singletonList(EVENT2), dateIndex.getEventsFrom(LocalDate.MIN, 10));
+    }
+}
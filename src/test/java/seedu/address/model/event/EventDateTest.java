@@ -1,8 +1,11 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class EventDateTest {
@@ -22,4 +25,19 @@ public class EventDateTest {
         assertFalse(EventDate.isValidDate("abc")); // Non-numeric characters
     }
 
+    @Test
+    public void getDate_validDate_returnsParsedDate() {
+        EventDate eventDate = new EventDate("05-03-2025");
+        assertEquals(LocalDate.of(2025, 3, 5), eventDate.getDate());
+        assertEquals(LocalDate.of(2025, 3, 5).toEpochDay(), eventDate.toEpochDay());
+    }
+
+    @Test
+    public void compareTo_chronologicalOrder() {
+        EventDate earlier = new EventDate("31-12-2024");
+        EventDate later = new EventDate("01-01-2025");
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, earlier.compareTo(new EventDate("31-12-2024")));
+    }
 }
@@ -3,9 +3,12 @@ package seedu.address.model.event;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.EventBuilder;
+
 public class EventTest {
 
     @Test
@@ -62,5 +65,62 @@ public class EventTest {
 
         assertEquals(expectedString, event.toString());
     }
-}
 
+    @Test
+    public void constructor_invalidTimeRange_throwsIllegalArgumentException() {
+        EventName eventName = new EventName("Meeting");
+        EventDate eventDate = new EventDate("01-01-2025");
+        EventCategory eventCategory = new EventCategory("STAFF");
+
+        // only a start time
+        assertThrows(IllegalArgumentException.class, () -> new Event(eventName, eventDate, eventCategory,
+                new EventTime("09:00"), null));
+
+        // end time before start time
+        assertThrows(IllegalArgumentException.class, () -> new Event(eventName, eventDate, eventCategory,
+                new EventTime("10:00"), new EventTime("09:00")));
+
+        // end time same as start time
+        assertThrows(IllegalArgumentException.class, () -> new Event(eventName, eventDate, eventCategory,
+                new EventTime("09:00"), new EventTime("09:00")));
+    }
+
+    @Test
+    public void overlaps() {
+        Event morning = new EventBuilder().withEventDate("01-01-2025").withTimes("09:00", "12:00").build();
+        Event noon = new EventBuilder().withEventDate("01-01-2025").withTimes("11:00", "13:00").build();
+        Event afternoon = new EventBuilder().withEventDate("01-01-2025").withTimes("12:00", "15:00").build();
+        Event wholeDay = new EventBuilder().withEventDate("01-01-2025").build();
+        Event nextDay = new EventBuilder().withEventDate("02-01-2025").withTimes("00:00", "01:00").build();
+
+        assertTrue(morning.overlaps(noon));
+        assertTrue(noon.overlaps(morning));
+        assertTrue(wholeDay.overlaps(afternoon));
+
+        // ends when the other starts -> does not overlap
+        assertFalse(morning.overlaps(afternoon));
+        assertFalse(wholeDay.overlaps(nextDay));
+    }
+
+    @Test
+    public void equals_differentTimes_false() {
+        Event event = new EventBuilder().withTimes("09:00", "10:00").build();
+
+        assertTrue(event.equals(new EventBuilder(event).build()));
+        assertFalse(event.equals(new EventBuilder().build()));
+        assertFalse(event.equals(new EventBuilder().withTimes("09:00", "11:00").build()));
+
+        // different times -> still the same event
+        assertTrue(event.isSameEvent(new EventBuilder().build()));
+    }
+
+    @Test
+    public void toString_eventWithTimes_includesTimes() {
+        Event event = new EventBuilder().withEventName("Meeting").withEventDate("01-01-2025")
+                .withEventCategory("STAFF").withTimes("09:00", "10:00").build();
+        String expectedString = "eventName=Meeting, eventDate=01-01-2025, eventCategory=STAFF, startTime=09:00, "
+                + "endTime=10:00";
+
+        assertEquals(expectedString, event.toString());
+    }
+}
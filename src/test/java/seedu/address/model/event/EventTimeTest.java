@@ -0,0 +1,53 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class EventTimeTest {
+
+    @Test
+    public void constructor_invalidTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new EventTime("25:00"));
+    }
+
+    @Test
+    public void isValidTime() {
+        assertTrue(EventTime.isValidTime("00:00"));
+        assertTrue(EventTime.isValidTime("23:59"));
+        assertFalse(EventTime.isValidTime("24:00")); // Invalid hour
+        assertFalse(EventTime.isValidTime("12:60")); // Invalid minute
+        assertFalse(EventTime.isValidTime("9:00")); // Missing leading zero
+        assertFalse(EventTime.isValidTime("")); // Empty string
+        assertFalse(EventTime.isValidTime("noon")); // Non-numeric characters
+    }
+
+    @Test
+    public void getTime_validTime_returnsParsedTime() {
+        assertEquals(LocalTime.of(9, 30), new EventTime("09:30").getTime());
+    }
+
+    @Test
+    public void compareTo_chronologicalOrder() {
+        EventTime earlier = new EventTime("09:00");
+        EventTime later = new EventTime("13:00");
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, earlier.compareTo(new EventTime("09:00")));
+    }
+
+    @Test
+    public void equals() {
+        EventTime time = new EventTime("09:00");
+
+        assertTrue(time.equals(time));
+        assertTrue(time.equals(new EventTime("09:00")));
+        assertFalse(time.equals(null));
+        assertFalse(time.equals(new EventTime("10:00")));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.participation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class CheckInLogTest {
+
+    private static final LocalDateTime NINE_AM = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final LocalDateTime TEN_AM = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private final CheckInLog checkInLog = new CheckInLog();
+
+    @Test
+    public void append_newCheckIns_countedPerEvent() {
+        CheckIn aliceAtEvent1 = new CheckIn(ALICE, EVENT1, NINE_AM);
+        checkInLog.append(aliceAtEvent1);
+        checkInLog.append(new CheckIn(BENSON, EVENT1, TEN_AM));
+        checkInLog.append(new CheckIn(ALICE, EVENT2, TEN_AM));
+
+        assertEquals(2, checkInLog.getCheckInCount(EVENT1));
+        assertEquals(1, checkInLog.getCheckInCount(EVENT2));
+        assertEquals(Optional.of(aliceAtEvent1), checkInLog.getCheckIn(ALICE, EVENT1));
+        assertEquals(3, checkInLog.getCheckIns().size());
+    }
+
+    @Test
+    public void append_alreadyCheckedIn_throwsIllegalArgumentException() {
+        checkInLog.append(new CheckIn(ALICE, EVENT1, NINE_AM));
+        assertThrows(IllegalArgumentException.class, () -> checkInLog.append(new CheckIn(ALICE, EVENT1, TEN_AM)));
+    }
+
+    @Test
+    public void getCheckIns_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> checkInLog.getCheckIns()
+                .add(new CheckIn(ALICE, EVENT1, NINE_AM)));
+    }
+
+    @Test
+    public void resetData_repeatedCheckIn_keepsFirst() {
+        CheckIn first = new CheckIn(ALICE, EVENT1, NINE_AM);
+        checkInLog.resetData(Arrays.asList(first, new CheckIn(ALICE, EVENT1, TEN_AM)));
+        assertEquals(Arrays.asList(first), checkInLog.getCheckIns());
+        assertEquals(1, checkInLog.getCheckInCount(EVENT1));
+    }
+
+    @Test
+    public void setPerson_checkedInPerson_editedPersonCheckedIn() {
+        checkInLog.append(new CheckIn(ALICE, EVENT1, NINE_AM));
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        checkInLog.setPerson(ALICE, editedAlice);
+
+        assertTrue(checkInLog.getCheckIn(editedAlice, EVENT1).isPresent());
+        assertFalse(checkInLog.getCheckIn(ALICE, EVENT1).isPresent());
+        assertEquals(1, checkInLog.getCheckInCount(EVENT1));
+    }
+
+    @Test
+    public void setEvent_eventWithCheckIns_countsMoved() {
+        checkInLog.append(new CheckIn(ALICE, EVENT1, NINE_AM));
+        Event editedEvent = new EventBuilder(EVENT1).withEventName("renamed").build();
+        checkInLog.setEvent(EVENT1, editedEvent);
+
+        assertEquals(1, checkInLog.getCheckInCount(editedEvent));
+        assertEquals(0, checkInLog.getCheckInCount(EVENT1));
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CategoryTest {
+
+    @Test
+    public void isValidCategory() {
+        assertFalse(Category.isValidCategory(null));
+        assertFalse(Category.isValidCategory("participant"));
+        assertFalse(Category.isValidCategory("judge"));
+        assertTrue(Category.isValidCategory("PARTICIPANT"));
+        assertTrue(Category.isValidCategory("SPONSOR"));
+    }
+
+    @Test
+    public void of() {
+        assertSame(Category.of(CategoryType.STAFF), Category.of("STAFF"));
+        assertSame(Category.of("SPONSOR"), Category.of("SPONSOR"));
+        assertEquals(new Category("PARTICIPANT"), Category.of(CategoryType.PARTICIPANT));
+        assertEquals("STAFF", Category.of(CategoryType.STAFF).value);
+        assertThrows(IllegalArgumentException.class, () -> Category.of("staff"));
+    }
+}
@@ -3,11 +3,23 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.BlobStore;
 
 public class CommentTest {
+
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void equals() {
         // same object -> returns true
@@ -49,4 +61,29 @@ public class CommentTest {
         Comment noComment = new Comment("No comment provided.");
         assertFalse(noComment.hasComment());
     }
+
+    @Test
+    public void of() {
+        assertSame(Comment.getDefault(), Comment.of(Comment.DEFAULT_COMMENT));
+        assertFalse(Comment.getDefault().hasComment());
+        assertEquals(new Comment("Test comment"), Comment.of("Test comment"));
+    }
+
+    @Test
+    public void stored() throws IOException {
+        try (BlobStore store = new BlobStore(testFolder.resolve("comments"), 1)) {
+            int id = store.add("Stored comment");
+            store.add("Other comment");
+
+            Comment comment = Comment.stored(store, id);
+            assertTrue(comment.isStoredIn(store));
+            assertFalse(new Comment("Stored comment").isStored());
+            assertTrue(comment.hasComment());
+            assertEquals("Stored comment", comment.getValue());
+            assertEquals(new Comment("Stored comment"), comment);
+            assertEquals(Comment.stored(store, id), comment);
+            assertEquals(new Comment("Stored comment").hashCode(), comment.hashCode());
+            assertThrows(IllegalArgumentException.class, () -> Comment.stored(store, id + 2));
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ContactIndexTest {
+
+    private final ContactIndex contactIndex = new ContactIndex();
+
+    @Test
+    public void find_byEmailOrPhone_returnsPerson() {
+        contactIndex.setPersons(Arrays.asList(ALICE, BENSON));
+        assertEquals(Collections.singletonList(ALICE), contactIndex.find(ALICE.getEmail().value));
+        assertEquals(Collections.singletonList(BENSON), contactIndex.find(BENSON.getPhone().value));
+    }
+
+    @Test
+    public void find_unknownValue_returnsEmptyList() {
+        contactIndex.add(ALICE);
+        assertEquals(Collections.emptyList(), contactIndex.find("nobody@example.com"));
+        assertEquals(Collections.emptyList(), contactIndex.find(ALICE.getName().fullName));
+    }
+
+    @Test
+    public void find_sharedEmail_returnsAllPersons() {
+        Person aliceNamesake = new PersonBuilder(ALICE).withName("Alice Other").withPhone("81234567").build();
+        contactIndex.add(ALICE);
+        contactIndex.add(aliceNamesake);
+        assertEquals(Arrays.asList(ALICE, aliceNamesake), contactIndex.find(ALICE.getEmail().value));
+        assertEquals(Collections.singletonList(aliceNamesake), contactIndex.find("81234567"));
+    }
+
+    @Test
+    public void remove_indexedPerson_notFound() {
+        contactIndex.add(ALICE);
+        contactIndex.remove(ALICE);
+        assertEquals(Collections.emptyList(), contactIndex.find(ALICE.getEmail().value));
+        assertEquals(Collections.emptyList(), contactIndex.find(ALICE.getPhone().value));
+    }
+}
@@ -3,7 +3,9 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,8 +45,11 @@ public class GroupTest {
     }
 
     @Test
-    public void setTotalGroupNumber() {
-        Group.setTotalGroupNumber(5);
-        assertEquals(Group.getTotalGroupNumber(), 5);
+    public void of() {
+        assertSame(Group.of(3), Group.of(3));
+        assertEquals(new Group(3), Group.of(3));
+        assertEquals(new Group(), Group.of(0));
+        assertNotEquals(Group.of(3), Group.of(4));
+        assertThrows(IllegalArgumentException.class, () -> Group.of(-1));
     }
 }
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class IncrementalContactMatcherTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, DANIEL);
+    private final IncrementalContactMatcher matcher = new IncrementalContactMatcher(persons);
+
+    @Test
+    public void match_keywordPrefix_matchesPersons() {
+        Predicate<Person> predicate = matcher.match(Collections.singletonList("mei"));
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(DANIEL));
+    }
+
+    @Test
+    public void match_extendedKeyword_refinesPreviousMatches() {
+        matcher.match(Collections.singletonList("m"));
+        Predicate<Person> predicate = matcher.match(Collections.singletonList("meier"));
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+
+        predicate = matcher.match(Collections.singletonList("meiers"));
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(DANIEL));
+    }
+
+    @Test
+    public void match_shortenedKeyword_widensMatches() {
+        matcher.match(Collections.singletonList("benson"));
+        Predicate<Person> predicate = matcher.match(Collections.singletonList("b"));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(DANIEL));
+    }
+
+    @Test
+    public void match_multipleKeywords_matchesAnyKeyword() {
+        Predicate<Person> predicate = matcher.match(Arrays.asList("ali", "dan"));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+        assertTrue(predicate.test(DANIEL));
+    }
+
+    @Test
+    public void match_mixedCaseKeyword_matchesPersons() {
+        assertTrue(matcher.match(Collections.singletonList("aLI")).test(ALICE));
+    }
+
+    @Test
+    public void match_listChanged_matchesNewPersons() {
+        matcher.match(Collections.singletonList("e"));
+        persons.add(ELLE);
+        assertTrue(matcher.match(Collections.singletonList("el")).test(ELLE));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+    }
+
+    @Test
+    public void getMaxDistance_keywordLength_allowsMoreEditsForLongerKeywords() {
+        assertEquals(0, NameTrigramIndex.getMaxDistance("al"));
+        assertEquals(1, NameTrigramIndex.getMaxDistance("ali"));
+        assertEquals(1, NameTrigramIndex.getMaxDistance("alice"));
+        assertEquals(2, NameTrigramIndex.getMaxDistance("pauline"));
+    }
+
+    @Test
+    public void find_exactWord_returnsPersons() {
+        assertEquals(Collections.singletonList(ALICE), nameIndex.find("Pauline"));
+        assertEquals(Collections.singletonList(BENSON), nameIndex.find("BENSON"));
+    }
+
+    @Test
+    public void find_misspelledWord_returnsPersons() {
+        assertEquals(Collections.singletonList(ALICE), nameIndex.find("alise"));
+        assertEquals(Collections.singletonList(ALICE), nameIndex.find("Paulien"));
+        assertEquals(Collections.singletonList(CARL), nameIndex.find("krz"));
+        // "meyer" is one edit from "meier"
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL, ELLE)), new HashSet<>(nameIndex.find("meier")));
+    }
+
+    @Test
+    public void find_tooManyEdits_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), nameIndex.find("alxyz"));
+        assertEquals(Collections.emptyList(), nameIndex.find("al"));
+        assertEquals(Collections.emptyList(), nameIndex.find(" "));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        nameIndex.remove(ALICE);
+        nameIndex.add(renamedAlice);
+
+        assertEquals(Collections.singletonList(renamedAlice), nameIndex.find("alicia"));
+        assertEquals(Collections.singletonList(renamedAlice), nameIndex.find("pauline"));
+        nameIndex.remove(renamedAlice);
+        assertEquals(Collections.emptyList(), nameIndex.find("pauline"));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonAttributeIndexTest {
+
+    private final PersonAttributeIndex attributeIndex = new PersonAttributeIndex();
+
+    @BeforeEach
+    public void setUp() {
+        attributeIndex.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, ELLE));
+    }
+
+    @Test
+    public void findByCategory_returnsPersonsOfCategory() {
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)),
+                attributeIndex.findByCategory(new Category("PARTICIPANT")));
+        assertEquals(Collections.singleton(DANIEL), attributeIndex.findByCategory(new Category("SPONSOR")));
+    }
+
+    @Test
+    public void findByEmailDomainPrefix_returnsPersonsWithDomain() {
+        Person nusStudent = new PersonBuilder().withName("Nus Student").withEmail("student@nus.edu.sg").build();
+        attributeIndex.add(nusStudent);
+        assertEquals(Collections.singletonList(nusStudent), attributeIndex.findByEmailDomainPrefix("NUS.edu"));
+        assertEquals(4, attributeIndex.findByEmailDomainPrefix("example").size());
+        assertEquals(Collections.emptyList(), attributeIndex.findByEmailDomainPrefix("gmail"));
+    }
+
+    @Test
+    public void findByGroup_regroupedPerson_movesPerson() {
+        Person participant = new PersonBuilder().withName("Group Member").withEmail("member@example.com").build()
+                .withGroupNumber(7);
+        attributeIndex.add(participant);
+        assertEquals(Collections.singleton(participant), attributeIndex.findByGroup(7));
+
+        Person regroupedParticipant = participant.withGroupNumber(8);
+        attributeIndex.remove(participant);
+        attributeIndex.add(regroupedParticipant);
+        assertEquals(Collections.singleton(regroupedParticipant), attributeIndex.findByGroup(8));
+        assertEquals(Collections.emptySet(), attributeIndex.findByGroup(7));
+    }
+
+    @Test
+    public void countByCategoryAndGroup_personsChanged_countsUpdated() {
+        assertEquals(2, attributeIndex.countByCategory(CategoryType.PARTICIPANT));
+        assertEquals(1, attributeIndex.countByCategory(CategoryType.SPONSOR));
+
+        Person staff = new PersonBuilder().withName("Group Staff").withEmail("staff@example.com")
+                .withCategory("STAFF").build().withGroupNumber(4);
+        attributeIndex.add(staff);
+        assertEquals(2, attributeIndex.countByCategory(CategoryType.STAFF));
+        assertEquals(1, attributeIndex.countByGroup(4));
+        assertEquals(1, attributeIndex.countByGroup(4, CategoryType.STAFF));
+        assertEquals(0, attributeIndex.countByGroup(4, CategoryType.PARTICIPANT));
+        Set<Integer> groupNumbers = attributeIndex.getGroupNumbers();
+        assertTrue(groupNumbers.contains(4));
+        assertThrows(UnsupportedOperationException.class, () -> groupNumbers.remove(4));
+
+        attributeIndex.remove(staff);
+        // the group numbers are a view of the index
+        assertFalse(groupNumbers.contains(4));
+        assertEquals(0, attributeIndex.countByGroup(4));
+        assertEquals(0, attributeIndex.countByGroup(4, CategoryType.STAFF));
+        assertEquals(1, attributeIndex.countByCategory(CategoryType.STAFF));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        attributeIndex.remove(ALICE);
+        assertEquals(Collections.singleton(BENSON), attributeIndex.findByCategory(new Category("PARTICIPANT")));
+        // removing a person that is not indexed does nothing
+        attributeIndex.remove(ALICE);
+        assertEquals(Collections.singleton(BENSON), attributeIndex.findByCategory(new Category("PARTICIPANT")));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonPrefixIndexTest {
+
+    private final PersonPrefixIndex prefixIndex = new PersonPrefixIndex();
+
+    @BeforeEach
+    public void setUp() {
+        prefixIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void find_prefixOfName_returnsPersons() {
+        assertEquals(Collections.singletonList(ALICE), prefixIndex.find("ali"));
+        assertEquals(Collections.singletonList(ALICE), prefixIndex.find("Alice Pa"));
+        assertEquals(Collections.singletonList(CARL), prefixIndex.find("KURZ"));
+    }
+
+    @Test
+    public void find_prefixOfNameWord_returnsEveryPersonOnce() {
+        assertEquals(Arrays.asList(BENSON, DANIEL), prefixIndex.find("mei"));
+        // "alice" is the name, a word of the name and the start of the email of Alice
+        assertEquals(Collections.singletonList(ALICE), prefixIndex.find("alice"));
+    }
+
+    @Test
+    public void find_prefixOfEmail_returnsPersons() {
+        assertEquals(Collections.singletonList(CARL), prefixIndex.find("heinz@"));
+        assertEquals(Collections.singletonList(DANIEL), prefixIndex.find("cornelia@example.com"));
+    }
+
+    @Test
+    public void find_noMatch_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), prefixIndex.find("zz"));
+        assertEquals(Collections.emptyList(), prefixIndex.find("pauline alice"));
+        assertEquals(Collections.emptyList(), prefixIndex.find(" "));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        prefixIndex.remove(ALICE);
+        prefixIndex.add(renamedAlice);
+
+        assertEquals(Collections.singletonList(renamedAlice), prefixIndex.find("alicia"));
+        prefixIndex.remove(renamedAlice);
+        assertEquals(Collections.emptyList(), prefixIndex.find("pau"));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private static final List<String> NO_NAMES = Collections.emptyList();
+
+    @Test
+    public void test_category() {
+        PersonQuery query = new PersonQuery(new Category("STAFF"), null, NO_NAMES, null);
+        assertTrue(query.test(ELLE));
+        assertFalse(query.test(ALICE));
+    }
+
+    @Test
+    public void test_group() {
+        Person groupedAlice = new PersonBuilder(ALICE).build().withGroupNumber(2);
+        PersonQuery query = new PersonQuery(null, 2, NO_NAMES, null);
+        assertTrue(query.test(groupedAlice));
+        // sponsors are not in any group
+        assertFalse(query.test(DANIEL));
+    }
+
+    @Test
+    public void test_nameKeywords_mustAllStartNameWords() {
+        assertTrue(new PersonQuery(null, null, Arrays.asList("ali", "PAUL"), null).test(ALICE));
+        assertFalse(new PersonQuery(null, null, Arrays.asList("ali", "meier"), null).test(ALICE));
+        assertFalse(new PersonQuery(null, null, Collections.singletonList("line"), null).test(ALICE));
+    }
+
+    @Test
+    public void test_emailFragment() {
+        assertTrue(new PersonQuery(null, null, NO_NAMES, "@EXAMPLE.com").test(ALICE));
+        assertTrue(new PersonQuery(null, null, NO_NAMES, "alice").test(ALICE));
+        assertFalse(new PersonQuery(null, null, NO_NAMES, "@nus.edu").test(ALICE));
+    }
+
+    @Test
+    public void test_allConditions() {
+        Person groupedAlice = new PersonBuilder(ALICE).build().withGroupNumber(2);
+        PersonQuery query = new PersonQuery(new Category("PARTICIPANT"), 2, Collections.singletonList("al"),
+                "@example");
+        assertTrue(query.test(groupedAlice));
+        assertFalse(query.test(ELLE));
+        assertTrue(new PersonQuery(null, null, NO_NAMES, null).test(DANIEL));
+    }
+
+    @Test
+    public void getEmailDomainPrefix() {
+        assertEquals(Optional.of("nus.edu"), new PersonQuery(null, null, NO_NAMES, "@NUS.edu").getEmailDomainPrefix());
+        assertEquals(Optional.of("nus"), new PersonQuery(null, null, NO_NAMES, "alice@nus").getEmailDomainPrefix());
+        assertEquals(Optional.empty(), new PersonQuery(null, null, NO_NAMES, "alice").getEmailDomainPrefix());
+        assertEquals(Optional.empty(), new PersonQuery(null, null, NO_NAMES, null).getEmailDomainPrefix());
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(new Category("STAFF"), 3, Collections.singletonList("al"), "@nus");
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(new PersonQuery(new Category("STAFF"), 3, Collections.singletonList("al"), "@nus")));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(1));
+        assertNotEquals(query, new PersonQuery(new Category("STAFF"), 2, Collections.singletonList("al"), "@nus"));
+        assertNotEquals(query, new PersonQuery(new Category("STAFF"), 3, NO_NAMES, "@nus"));
+        assertNotEquals(query, new PersonQuery(null, 3, Collections.singletonList("al"), "@nus"));
+    }
+}
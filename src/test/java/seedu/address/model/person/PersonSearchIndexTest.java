@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private static final Person VEGETARIAN = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+            .withComment("Vegetarian. Allergies: peanuts").build();
+    private static final Person DESIGNER = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+            .withComment("Designing the vegetarian menu, likes design").build();
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, VEGETARIAN, DESIGNER));
+    }
+
+    @Test
+    public void tokenize_text_lowerCaseStemmedWords() {
+        assertEquals(Arrays.asList("allergy", "peanut", "class", "design", "design", "design", "c", "2024"),
+                PersonSearchIndex.tokenize("Allergies: peanuts, class! Designing designed designs C++ 2024"));
+        assertEquals(Collections.emptyList(), PersonSearchIndex.tokenize(" ... "));
+    }
+
+    @Test
+    public void search_differentWordEndings_matches() {
+        assertEquals(Collections.singletonList(VEGETARIAN), searchIndex.search(Arrays.asList("allergy"), 10));
+        assertEquals(Collections.singletonList(VEGETARIAN), searchIndex.search(Arrays.asList("PEANUT"), 10));
+    }
+
+    @Test
+    public void search_moreOccurrences_rankedFirst() {
+        assertEquals(Arrays.asList(DESIGNER), searchIndex.search(Arrays.asList("designs"), 10));
+        // the shorter text with the word ranks above the longer one
+        assertEquals(Arrays.asList(VEGETARIAN, DESIGNER), searchIndex.search(Arrays.asList("vegetarian"), 10));
+        // matching more of the keywords ranks higher
+        assertEquals(Arrays.asList(DESIGNER, VEGETARIAN),
+                searchIndex.search(Arrays.asList("vegetarian", "design"), 10));
+    }
+
+    @Test
+    public void search_names_equallyRelevantOrderedByName() {
+        assertEquals(Arrays.asList(BENSON, DANIEL), searchIndex.search(Arrays.asList("meier"), 10));
+        assertEquals(Collections.singletonList(BENSON), searchIndex.search(Arrays.asList("meier"), 1));
+    }
+
+    @Test
+    public void search_defaultComment_notIndexed() {
+        assertEquals(Collections.emptyList(), searchIndex.search(Arrays.asList("provided"), 10));
+    }
+
+    @Test
+    public void search_noMatch_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), searchIndex.search(Arrays.asList("kotlin"), 10));
+        assertEquals(Collections.emptyList(), searchIndex.search(Collections.emptyList(), 10));
+        assertEquals(Collections.emptyList(), searchIndex.search(Arrays.asList("meier"), 0));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        Person editedVegetarian = new PersonBuilder(VEGETARIAN).withComment("Vegan").build();
+        searchIndex.remove(VEGETARIAN);
+        searchIndex.add(editedVegetarian);
+
+        assertEquals(Collections.singletonList(DESIGNER), searchIndex.search(Arrays.asList("vegetarian"), 10));
+        assertEquals(Collections.singletonList(editedVegetarian), searchIndex.search(Arrays.asList("vegan"), 10));
+    }
+}
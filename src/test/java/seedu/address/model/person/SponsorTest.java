@@ -1,7 +1,10 @@
 package seedu.address.model.person;
 
+import static seedu.address.testutil.Assert.assertThrows;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.exceptions.GroupSponsorException;
 import seedu.address.testutil.PersonBuilder;
 
 public class SponsorTest {
@@ -22,4 +25,10 @@ public class SponsorTest {
         assert (!sponsor.isSameIdentity(differentSponsor));
     }
 
+    @Test
+    public void withGroup_throwsGroupSponsorException() {
+        Sponsor sponsor = (Sponsor) new PersonBuilder().withCategory("SPONSOR").build();
+        assertThrows(GroupSponsorException.class, () -> sponsor.withGroup(Group.of(1)));
+        assertThrows(GroupSponsorException.class, () -> sponsor.withGroupNumber(1));
+    }
 }
@@ -24,10 +24,11 @@ public class StaffTest {
 
     @Test
     public void getGroupNumber() {
-        Staff test = (Staff) new PersonBuilder().withCategory("STAFF").withName("John").build();
-        test.setGroupNumber(1);
+        Staff ungrouped = (Staff) new PersonBuilder().withCategory("STAFF").withName("John").build();
+        Staff test = ungrouped.withGroup(Group.of(1));
         assertNotEquals(5, test.getGroupNumber());
         assertEquals(1, test.getGroupNumber());
+        assertEquals(0, ungrouped.getGroupNumber());
     }
 }
 
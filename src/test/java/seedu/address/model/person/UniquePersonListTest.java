@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -13,6 +14,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -124,8 +126,12 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void groupPerson_targetPersonNotInList_throwsPersonNotFoundException() {
-        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.groupPerson(ALICE, 2));
+    public void setPerson_equalTarget_returnsStoredPerson() {
+        Person storedAlice = new PersonBuilder(ALICE).build();
+        uniquePersonList.add(storedAlice);
+        Person groupedAlice = storedAlice.withGroupNumber(2);
+        assertSame(storedAlice, uniquePersonList.setPerson(new PersonBuilder(ALICE).build(), groupedAlice));
+        assertSame(groupedAlice, uniquePersonList.remove(new PersonBuilder(ALICE).build()));
     }
 
     @Test
@@ -169,6 +175,38 @@ public class UniquePersonListTest {
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void commitBatch_changesInBatch_publishedOnceOnCommit() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, changeCount[0]);
+
+        uniquePersonList.commitBatch();
+        assertFalse(uniquePersonList.isBatching());
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void commitBatch_noChangesInBatch_noChangePublished() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.commitBatch();
+        assertEquals(0, changeCount[0]);
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Comment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFactory;
+import seedu.address.model.person.Phone;
+
+/**
+ * Measures the heap retained per contact by the persons read from the data file, with and without the sharing of
+ * value objects and strings between persons.
+ * The numbers depend on the JVM, so the measurement only runs when asked for, with
+ * {@code HEAP_MEASUREMENT=true ./gradlew test --tests '*AddressBookHeapMeasurementTest'}, and the bytes per contact
+ * are logged.
+ */
+@EnabledIfEnvironmentVariable(named = "HEAP_MEASUREMENT", matches = "true")
+public class AddressBookHeapMeasurementTest {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookHeapMeasurementTest.class);
+    private static final int PERSON_COUNT = 20_000;
+    private static final int GROUP_COUNT = 300;
+    private static final int COMMENT_COUNT = 20;
+
+    @Test
+    public void toModelType_sharedValues_lessHeapPerContact() throws Exception {
+        long unsharedBytes = measureRetainedBytes(() -> copyUnshared(readPersons(false)));
+        long sharedBytes = measureRetainedBytes(() -> readPersons(false));
+        long deduplicatedBytes = measureRetainedBytes(() -> readPersons(true));
+
+        logger.info(String.format("Retained heap per contact: unshared %d bytes, shared value objects %d bytes,"
+                + " with string deduplication %d bytes", unsharedBytes / PERSON_COUNT, sharedBytes / PERSON_COUNT,
+                deduplicatedBytes / PERSON_COUNT));
+        assertTrue(sharedBytes < unsharedBytes);
+        assertTrue(deduplicatedBytes < sharedBytes);
+    }
+
+    /**
+     * Returns the persons of an address book read from freshly created JSON persons, which are garbage afterwards as
+     * they are after reading the data file.
+     */
+    private static List<Person> readPersons(boolean isDeduplicatingStrings) throws IllegalValueException {
+        AddressBook addressBook = new JsonSerializableAddressBook(createJsonPersons())
+                .toModelType(isDeduplicatingStrings);
+        return new ArrayList<>(addressBook.getPersonList());
+    }
+
+    /**
+     * Returns persons spread over {@code GROUP_COUNT} groups, two thirds of them having one of {@code COMMENT_COUNT}
+     * comments.
+     */
+    private static List<JsonAdaptedPerson> createJsonPersons() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            String category = i % 10 == 0 ? "STAFF" : "PARTICIPANT";
+            String comment = i % 3 == 0 ? Comment.DEFAULT_COMMENT : "Frequent comment " + (i % COMMENT_COUNT);
+            persons.add(new JsonAdaptedPerson("Person " + i, String.valueOf(80000000 + i),
+                    "person" + i + "@example.com", category, comment, String.valueOf(1 + i % GROUP_COUNT)));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a copy of {@code persons} in which no person shares a value object or a string with another, as
+     * every person was read before the values were shared.
+     */
+    private static List<Person> copyUnshared(List<Person> persons) {
+        List<Person> copy = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Comment comment = person.getComment().hasComment()
+                    ? new Comment(new String(person.getComment().getValue()))
+                    : new Comment();
+            copy.add(PersonFactory.createPerson(new Name(new String(person.getName().fullName)),
+                    new Phone(new String(person.getPhone().value)), new Email(new String(person.getEmail().value)),
+                    new Category(new String(person.getCategory().value)), comment,
+                    new Group(person.getGroup().getGroupNumber())));
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the number of bytes of heap retained by the persons {@code reader} returns.
+     */
+    private static long measureRetainedBytes(PersonsReader reader) throws Exception {
+        long usedBefore = getUsedHeap();
+        List<Person> persons = reader.read();
+        long usedAfter = getUsedHeap();
+        Reference.reachabilityFence(persons);
+        return usedAfter - usedBefore;
+    }
+
+    private static long getUsedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @FunctionalInterface
+    private interface PersonsReader {
+        List<Person> read() throws Exception;
+    }
+}
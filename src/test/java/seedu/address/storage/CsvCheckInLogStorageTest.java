@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.participation.CheckIn;
+
+public class CsvCheckInLogStorageTest {
+
+    private static final LocalDateTime NINE_AM = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final EventBook eventBook = getTypicalEventBook();
+
+    @Test
+    public void readCheckInLog_missingFile_emptyResult() throws Exception {
+        CsvCheckInLogStorage storage = new CsvCheckInLogStorage(testFolder.resolve("missing.csv"));
+        assertFalse(storage.readCheckInLog(addressBook, eventBook).isPresent());
+    }
+
+    @Test
+    public void appendAndRead_allInOrder_success() throws Exception {
+        CsvCheckInLogStorage storage = new CsvCheckInLogStorage(testFolder.resolve("checkins.csv"));
+        CheckIn first = new CheckIn(ALICE, EVENT1, NINE_AM);
+        CheckIn second = new CheckIn(BENSON, EVENT1, NINE_AM.plusSeconds(30));
+        CheckIn third = new CheckIn(ALICE, EVENT2, NINE_AM.plusMinutes(5));
+
+        storage.appendCheckIns(Arrays.asList(first, second));
+        storage.appendCheckIns(Collections.singletonList(third));
+
+        assertEquals(Arrays.asList(first, second, third), storage.readCheckInLog(addressBook, eventBook).get());
+    }
+
+    @Test
+    public void readCheckInLog_removedPersonAndTruncatedLine_skipped() throws Exception {
+        Path filePath = testFolder.resolve("checkins.csv");
+        CsvCheckInLogStorage storage = new CsvCheckInLogStorage(filePath);
+        CheckIn aliceCheckIn = new CheckIn(ALICE, EVENT1, NINE_AM);
+        storage.appendCheckIns(Arrays.asList(aliceCheckIn, new CheckIn(BENSON, EVENT1, NINE_AM)));
+        FileUtil.appendToFile(filePath, "2025-01-01T09:10,Carl Kurz");
+
+        AddressBook addressBookWithoutBenson = new AddressBook(addressBook);
+        addressBookWithoutBenson.removePerson(BENSON);
+
+        List<CheckIn> checkIns = storage.readCheckInLog(addressBookWithoutBenson, eventBook).get();
+        assertEquals(Collections.singletonList(aliceCheckIn), checkIns);
+    }
+}
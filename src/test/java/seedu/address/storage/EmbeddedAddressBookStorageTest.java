@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class EmbeddedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        EmbeddedAddressBookStorage storage = new EmbeddedAddressBookStorage(testFolder.resolve("addressbook.db"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        assertFalse(new EmbeddedAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        AddressBook original = getTypicalAddressBook();
+        EmbeddedAddressBookStorage storage = new EmbeddedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new EmbeddedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // replaced persons keep their positions
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withComment("Edited").build());
+        original.setPerson(HOON, new PersonBuilder(HOON).withEmail("hoon@example.com").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new EmbeddedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // a storage that read the address book saves it like the one that saved it
+        EmbeddedAddressBookStorage readingStorage = new EmbeddedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(readingStorage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        readingStorage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(new EmbeddedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPersons_notWrittenAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        AddressBook addressBook = getTypicalAddressBook();
+        EmbeddedAddressBookStorage storage = new EmbeddedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        long size = Files.size(filePath);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(size, Files.size(filePath));
+
+        // only the person added is written
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        long grownSize = Files.size(filePath);
+        assertTrue(grownSize - size < size / 2);
+    }
+
+    @Test
+    public void saveAddressBook_sameIdentityTwice_throwsIllegalArgumentException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        EmbeddedAddressBookStorage storage = new EmbeddedAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBookStub(List.of(ALICE)));
+
+        Person sameNameAndEmail = new PersonBuilder(ALICE).withPhone("99999999").build();
+        assertThrows(IllegalArgumentException.class, () -> storage.saveAddressBook(
+                new AddressBookStub(List.of(ALICE, sameNameAndEmail))));
+        // the failed save leaves the address book as it was
+        assertEquals(List.of(ALICE), new EmbeddedAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_legacyDataFile_movedIntoStore() throws Exception {
+        Path legacyFilePath = testFolder.resolve("addressbook.json");
+        Path filePath = testFolder.resolve("addressbook.db");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage legacyStorage = new JsonAddressBookStorage(legacyFilePath);
+        legacyStorage.saveAddressBook(original);
+
+        EmbeddedAddressBookStorage storage = new EmbeddedAddressBookStorage(filePath, legacyStorage, true);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(legacyFilePath));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertTrue(files.anyMatch(file -> file.getFileName().toString().startsWith(
+                    "addressbook.json." + RecordList.MIGRATED_FILE_LABEL + "-")));
+        }
+
+        // the store is read from then on
+        assertEquals(original, new AddressBook(new EmbeddedAddressBookStorage(filePath, legacyStorage, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_legacyCommentsStoredApart_commentsMovedIntoCommentStore() throws Exception {
+        Path legacyFilePath = testFolder.resolve("addressbook.json");
+        Path filePath = testFolder.resolve("addressbook.db");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withComment("Allergic to nuts").build());
+        JsonAddressBookStorage legacyStorage = new JsonAddressBookStorage(legacyFilePath, false, true);
+        legacyStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook migrated = new EmbeddedAddressBookStorage(filePath, legacyStorage, false)
+                .readAddressBook().get();
+        assertTrue(Files.exists(testFolder.resolve("addressbook.db" + CommentStore.FILE_SUFFIX)));
+        assertTrue(migrated.getPersonList().get(0).getComment().isStored());
+        // the legacy data file kept aside keeps a copy of its comments
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertTrue(files.map(file -> file.getFileName().toString()).anyMatch(name -> name.startsWith(
+                    "addressbook.json." + RecordList.MIGRATED_FILE_LABEL + "-")
+                    && name.endsWith(CommentStore.FILE_SUFFIX)));
+        }
+        assertEquals("Allergic to nuts", migrated.getPersonList().get(0).getComment().getValue());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        EmbeddedAddressBookStorage storage = new EmbeddedAddressBookStorage(testFolder.resolve("addressbook.db"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        EmbeddedAddressBookStorage storage = new EmbeddedAddressBookStorage(testFolder.resolve("addressbook.db"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+    }
+
+    /**
+     * A default address book stub that allows persons with the same identity.
+     */
+    private static class AddressBookStub implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+        AddressBookStub(Collection<Person> persons) {
+            this.persons.setAll(persons);
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.EventBook;
+import seedu.address.testutil.EventBuilder;
+
+public class EmbeddedEventBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveEventBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("eventbook.db");
+        EventBook original = getTypicalEventBook();
+        EmbeddedEventBookStorage storage = new EmbeddedEventBookStorage(filePath);
+
+        storage.saveEventBook(original);
+        assertEquals(original, new EventBook(new EmbeddedEventBookStorage(filePath).readEventBook().get()));
+
+        original.removeEvent(EVENT1);
+        original.setEvent(EVENT2, new EventBuilder(EVENT2).withEventName("renamed event").build());
+        storage.saveEventBook(original);
+        assertEquals(original, new EventBook(new EmbeddedEventBookStorage(filePath).readEventBook().get()));
+    }
+
+    @Test
+    public void readEventBook_legacyDataFile_movedIntoStore() throws Exception {
+        Path legacyFilePath = testFolder.resolve("eventbook.json");
+        Path filePath = testFolder.resolve("eventbook.db");
+        EventBook original = getTypicalEventBook();
+        JsonEventBookStorage legacyStorage = new JsonEventBookStorage(legacyFilePath);
+        legacyStorage.saveEventBook(original);
+
+        assertEquals(original, new EventBook(new EmbeddedEventBookStorage(filePath, legacyStorage).readEventBook()
+                .get()));
+        assertFalse(Files.exists(legacyFilePath));
+        assertEquals(original, new EventBook(new EmbeddedEventBookStorage(filePath).readEventBook().get()));
+    }
+}
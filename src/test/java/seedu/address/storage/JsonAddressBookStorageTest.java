@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,21 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Comment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +93,87 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_commentsStoredApart_readsCommentsFromStore() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path commentStorePath = testFolder.resolve("TempAddressBook.json" + CommentStore.FILE_SUFFIX);
+        AddressBook original = new AddressBook();
+        Person commented = new PersonBuilder().withComment("Allergic to nuts").build();
+        original.addPerson(commented);
+        original.addPerson(new PersonBuilder(ALICE).withComment(Comment.DEFAULT_COMMENT).build());
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(Files.exists(commentStorePath));
+        String json = FileUtil.readFromFile(filePath);
+        assertFalse(json.contains("Allergic to nuts"));
+        assertTrue(json.contains(Comment.DEFAULT_COMMENT));
+
+        // a new storage reads the comments from the store only when they are needed
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        Comment readComment = readBack.getPersonList().get(0).getComment();
+        assertTrue(readComment.isStored());
+        assertEquals("Allergic to nuts", readComment.getValue());
+        assertFalse(readBack.getPersonList().get(1).getComment().isStored());
+
+        // saving again does not add the comment to the store again
+        long storeSize = Files.size(commentStorePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(storeSize, Files.size(commentStorePath));
+    }
+
+    @Test
+    public void moveAddressBookFileAside_commentsStoredApart_movedFileKeepsComments() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        String longComment = "Allergic to nuts".repeat(100);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withComment(longComment).build());
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, true);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        Path movedFile = jsonAddressBookStorage.moveAddressBookFileAside("unreadable");
+        assertFalse(Files.exists(filePath));
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(new PersonBuilder(ALICE).withComment("Vegetarian").build());
+        jsonAddressBookStorage.saveAddressBook(replacement);
+
+        // reading the new data file compacts its comments, which leaves the comments of the moved file untouched
+        assertEquals("Vegetarian", new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0)
+                .getComment().getValue());
+        ReadOnlyAddressBook moved = new JsonAddressBookStorage(movedFile).readAddressBook().get();
+        assertEquals(longComment, moved.getPersonList().get(0).getComment().getValue());
+    }
+
+    @Test
+    public void readAddressBook_missingComment_placeholderComment() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withComment("Allergic to nuts").build());
+        original.addPerson(new PersonBuilder(ALICE).build());
+        new JsonAddressBookStorage(filePath, false, true).saveAddressBook(original);
+        Files.delete(testFolder.resolve("TempAddressBook.json" + CommentStore.FILE_SUFFIX));
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(CommentStore.MISSING_COMMENT, readBack.getPersonList().get(0).getComment().getValue());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readBackByAnyStorage() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath, false, false, DataFileFormat.COMPRESSED).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // switching back to JSON rewrites the file as JSON
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertTrue(FileUtil.readFromFile(filePath).startsWith("{"));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,16 +1,21 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +49,23 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_deduplicatingStrings_sharesRepeatedValues() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), dataFromFile.toModelType(true));
+
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(Arrays.asList(
+                new JsonAdaptedPerson("Amy Bee", "85355255", "amy@example.com", "PARTICIPANT",
+                        new String("Vegetarian"), "1"),
+                new JsonAdaptedPerson("Bob Choo", "22222222", "bob@example.com", "PARTICIPANT",
+                        new String("Vegetarian"), "1")));
+        List<Person> persons = addressBook.toModelType(true).getPersonList();
+        assertSame(persons.get(0).getComment().getValue(), persons.get(1).getComment().getValue());
+        assertSame(persons.get(0).getCategory(), persons.get(1).getCategory());
+        assertSame(persons.get(0).getGroup(), persons.get(1).getGroup());
+
+        persons = addressBook.toModelType(false).getPersonList();
+        assertNotSame(persons.get(0).getComment().getValue(), persons.get(1).getComment().getValue());
+    }
 }
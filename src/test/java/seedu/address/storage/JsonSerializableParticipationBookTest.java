@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ParticipationBook;
+
+public class JsonSerializableParticipationBookTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final EventBook eventBook = getTypicalEventBook();
+
+    @Test
+    public void toModelType_typicalRegistrations_success() throws Exception {
+        ParticipationBook participationBook = new ParticipationBook();
+        participationBook.register(ALICE, EVENT1);
+        participationBook.register(BENSON, EVENT1);
+        participationBook.register(ALICE, EVENT2);
+
+        JsonSerializableParticipationBook serializable = new JsonSerializableParticipationBook(participationBook);
+        assertEquals(participationBook, serializable.toModelType(addressBook, eventBook));
+    }
+
+    @Test
+    public void toModelType_unknownPerson_throwsIllegalValueException() {
+        JsonSerializableParticipationBook serializable = new JsonSerializableParticipationBook(
+                Collections.singletonList(new JsonAdaptedRegistration("Nobody", "nobody@example.com",
+                        new JsonAdaptedEvent(EVENT1))));
+        assertThrows(IllegalValueException.class, JsonAdaptedRegistration.MESSAGE_UNKNOWN_PERSON, ()
+                -> serializable.toModelType(addressBook, eventBook));
+    }
+
+    @Test
+    public void toModelType_unknownEvent_throwsIllegalValueException() {
+        JsonSerializableParticipationBook serializable = new JsonSerializableParticipationBook(
+                Collections.singletonList(new JsonAdaptedRegistration(ALICE.getName().fullName,
+                        ALICE.getEmail().value, new JsonAdaptedEvent(EVENT1))));
+        assertThrows(IllegalValueException.class, JsonAdaptedRegistration.MESSAGE_UNKNOWN_EVENT, ()
+                -> serializable.toModelType(addressBook, new EventBook()));
+    }
+}
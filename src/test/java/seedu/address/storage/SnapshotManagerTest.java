@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+
+public class SnapshotManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_noSnapshotsKept_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotManager(testFolder, 0, Duration.ZERO));
+    }
+
+    @Test
+    public void listSnapshots_missingDirectory_returnsEmptyList() throws Exception {
+        SnapshotManager snapshotManager = new SnapshotManager(testFolder.resolve("missing"), 3, Duration.ZERO);
+        assertEquals(List.of(), snapshotManager.listSnapshots().get());
+    }
+
+    @Test
+    public void takeSnapshot_thenReadSnapshot_restoresBooks() throws Exception {
+        SnapshotManager snapshotManager = new SnapshotManager(testFolder, 3, Duration.ZERO);
+        Snapshot snapshot = snapshotManager.takeSnapshot(getTypicalAddressBook(), getTypicalEventBook(), "clear")
+                .get();
+
+        assertEquals("clear", snapshot.getReason());
+        assertEquals(List.of(snapshot), snapshotManager.listSnapshots().get());
+        SnapshotManager.Contents contents = snapshotManager.readSnapshot(snapshot).get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(contents.getAddressBook()));
+        assertEquals(getTypicalEventBook(), new EventBook(contents.getEventBook()));
+    }
+
+    @Test
+    public void takeSnapshot_moreThanMaximum_deletesOldestSnapshots() throws Exception {
+        SnapshotManager snapshotManager = new SnapshotManager(testFolder, 2, Duration.ZERO);
+        snapshotManager.takeSnapshot(new AddressBook(), new EventBook(), "first");
+        snapshotManager.takeSnapshot(new AddressBook(), new EventBook(), "second");
+        snapshotManager.takeSnapshot(new AddressBook(), new EventBook(), "third");
+
+        List<Snapshot> snapshots = snapshotManager.listSnapshots().get();
+        assertEquals(2, snapshots.size());
+        assertEquals("third", snapshots.get(0).getReason());
+        assertEquals("second", snapshots.get(1).getReason());
+    }
+
+    @Test
+    public void takeSnapshotIfDue() throws Exception {
+        SnapshotManager everyTime = new SnapshotManager(testFolder.resolve("every"), 2, Duration.ZERO);
+        assertEquals(SnapshotManager.REASON_TIMED,
+                everyTime.takeSnapshotIfDue(new AddressBook(), new EventBook()).get().get().getReason());
+
+        SnapshotManager hourly = new SnapshotManager(testFolder.resolve("hourly"), 2, Duration.ofHours(1));
+        assertTrue(hourly.takeSnapshotIfDue(new AddressBook(), new EventBook()).isEmpty());
+    }
+
+    @Test
+    public void readSnapshot_corruptFile_completesExceptionally() throws Exception {
+        SnapshotManager snapshotManager = new SnapshotManager(testFolder, 2, Duration.ZERO);
+        Snapshot snapshot = snapshotManager.takeSnapshot(new AddressBook(), new EventBook(), "clear").get();
+        Files.write(snapshot.getFile(), new byte[] {1, 2, 3});
+        assertThrows(CompletionException.class, () -> snapshotManager.readSnapshot(snapshot).join());
+    }
+
+    @Test
+    public void fromFile() {
+        Snapshot snapshot = Snapshot.fromFile(testFolder.resolve("snapshot-20261019-143005-123-clear.json.gz")).get();
+        assertEquals("2026-10-19 14:30:05 (clear)", snapshot.getDescription());
+        assertTrue(Snapshot.fromFile(testFolder.resolve("addressbook.json")).isEmpty());
+        assertTrue(Snapshot.fromFile(testFolder.resolve("snapshot-20261319-143005-123-clear.json.gz")).isEmpty());
+    }
+}
@@ -26,8 +26,12 @@ public class StorageManagerTest {
     public void setUp() {
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
         JsonEventBookStorage eventBookStorage = new JsonEventBookStorage(getTempFilePath("eb"));
+        JsonParticipationBookStorage participationBookStorage =
+                new JsonParticipationBookStorage(getTempFilePath("pb"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(addressBookStorage, eventBookStorage, userPrefsStorage);
+        CsvCheckInLogStorage checkInLogStorage = new CsvCheckInLogStorage(getTempFilePath("checkins"));
+        storageManager = new StorageManager(addressBookStorage, eventBookStorage, participationBookStorage,
+                checkInLogStorage, userPrefsStorage);
     }
 
     private Path getTempFilePath(String fileName) {
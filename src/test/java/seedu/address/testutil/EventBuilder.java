@@ -5,6 +5,7 @@ import seedu.address.model.event.EventCategory;
 import seedu.address.model.event.EventDate;
 import seedu.address.model.event.EventFactory;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventTime;
 
 
 /**
@@ -18,6 +19,8 @@ public class EventBuilder {
     private EventName name;
     private EventDate date;
     private EventCategory category;
+    private EventTime startTime;
+    private EventTime endTime;
 
 
     /**
@@ -36,6 +39,8 @@ public class EventBuilder {
         name = eventToCopy.getEventName();
         date = eventToCopy.getEventDate();
         category = eventToCopy.getEventCategory();
+        startTime = eventToCopy.getStartTime().orElse(null);
+        endTime = eventToCopy.getEndTime().orElse(null);
     }
 
     /**
@@ -64,8 +69,17 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets the start and end times of the {@code Event} that we are building.
+     */
+    public EventBuilder withTimes(String startTime, String endTime) {
+        this.startTime = new EventTime(startTime);
+        this.endTime = new EventTime(endTime);
+        return this;
+    }
+
     public Event build() {
-        return EventFactory.createEvent(name, date, category);
+        return EventFactory.createEvent(name, date, category, startTime, endTime);
     }
 
 }